@@ -0,0 +1,84 @@
+package com.evaluate.report_card_system.benchmark;
+
+import com.evaluate.report_card_system.config.WeightConfig;
+import com.evaluate.report_card_system.model.Exam;
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.model.Term;
+import com.evaluate.report_card_system.repository.StudentRepository;
+import com.evaluate.report_card_system.service.AnalyticsService;
+import com.evaluate.report_card_system.service.RankIndex;
+import com.evaluate.report_card_system.service.ReportCardService;
+import com.evaluate.report_card_system.service.ScoreChangeBus;
+import com.evaluate.report_card_system.service.ScoringMetrics;
+import com.evaluate.report_card_system.service.StudentCache;
+import com.evaluate.report_card_system.service.WeightSchemeRegistry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic students shaped like production data: three terms of three exams, each exam marked in the
+ * three subjects of the default weighting scheme.
+ */
+final class BenchmarkStudents {
+
+    static final String[] SUBJECTS = {"Physics", "Chemistry", "Biology"};
+    static final int TERMS = 3;
+    static final int EXAMS_PER_TERM = 3;
+
+    private BenchmarkStudents() {
+    }
+
+    /**
+     * A service wired like production (default weights, cache, rank index) on top of {@code repository}.
+     */
+    static ReportCardService service(StudentRepository repository, int cacheSize) {
+        return new ReportCardService(repository, new WeightSchemeRegistry(new WeightConfig()),
+                new StudentCache(cacheSize, Duration.ofMinutes(5)), new RankIndex(repository, false),
+                new AnalyticsService(repository), new ScoringMetrics(new SimpleMeterRegistry()), new ScoreChangeBus(16));
+    }
+
+    static List<Student> generate(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Student> students = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            students.add(student(1000 + i, random));
+        }
+        return students;
+    }
+
+    private static Student student(int rollNumber, SplittableRandom random) {
+        Student student = new Student();
+        student.setId(Integer.toHexString(rollNumber));
+        student.setVersion(0L);
+        student.setRollNumber(rollNumber);
+        student.setName("Student " + rollNumber);
+        student.setCohort("2026-" + (char) ('A' + rollNumber % 4));
+        List<Term> terms = new ArrayList<>(TERMS);
+        for (int t = 1; t <= TERMS; t++) {
+            Term term = new Term();
+            term.setTermName("Term " + t);
+            List<Exam> exams = new ArrayList<>(EXAMS_PER_TERM);
+            for (int e = 1; e <= EXAMS_PER_TERM; e++) {
+                Exam exam = new Exam();
+                exam.setExamName("Exam " + e);
+                Map<String, Double> marks = new LinkedHashMap<>();
+                for (String subject : SUBJECTS) {
+                    marks.put(subject, (double) random.nextInt(35, 101));
+                }
+                exam.setSubjectMarks(marks);
+                exams.add(exam);
+            }
+            term.setExams(exams);
+            terms.add(term);
+        }
+        student.setTerms(terms);
+        return student;
+    }
+}
@@ -0,0 +1,34 @@
+package com.evaluate.report_card_system.benchmark;
+
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.repository.StudentRepository;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * {@link StudentRepository} stand-in backed by a map, implementing just the calls made by the mark update
+ * path so that the benchmark measures the service rather than a database round trip.
+ */
+final class InMemoryStudentRepository {
+
+    private InMemoryStudentRepository() {
+    }
+
+    static StudentRepository of(List<Student> students) {
+        Map<Integer, Student> byRollNumber = new HashMap<>();
+        students.forEach(student -> byRollNumber.put(student.getRollNumber(), student));
+        return (StudentRepository) Proxy.newProxyInstance(StudentRepository.class.getClassLoader(),
+                new Class<?>[]{StudentRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "findByRollNumber" -> Optional.ofNullable(byRollNumber.get((Integer) args[0]));
+                    case "applyExamUpdates" -> true;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "InMemoryStudentRepository";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
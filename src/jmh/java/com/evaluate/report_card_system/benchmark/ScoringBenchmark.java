@@ -0,0 +1,51 @@
+package com.evaluate.report_card_system.benchmark;
+
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.repository.StudentRepository;
+import com.evaluate.report_card_system.service.ReportCardService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full scoring of one student: validation, nine exam scores, three term scores and the final score.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoringBenchmark {
+
+    private static final int STUDENTS = 1024;
+
+    private ReportCardService reportCardService;
+    private Student[] students;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        List<Student> generated = BenchmarkStudents.generate(STUDENTS, 42);
+        StudentRepository repository = InMemoryStudentRepository.of(generated);
+        reportCardService = BenchmarkStudents.service(repository, STUDENTS);
+        students = generated.toArray(new Student[0]);
+    }
+
+    @Benchmark
+    public double calculateFinalScore() {
+        Student student = students[next];
+        next = (next + 1) % students.length;
+        return reportCardService.calculateFinalScore(student);
+    }
+}
@@ -0,0 +1,57 @@
+package com.evaluate.report_card_system.benchmark;
+
+import com.evaluate.report_card_system.model.Student;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson round trip of a scored student, the payload of the generate and lookup endpoints.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private Student student;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        writer = objectMapper.writerFor(Student.class);
+        reader = objectMapper.readerFor(Student.class);
+        student = BenchmarkStudents.generate(1, 42).get(0);
+        BenchmarkStudents.service(InMemoryStudentRepository.of(List.of(student)), 1).calculateFinalScore(student);
+        json = writer.writeValueAsBytes(student);
+    }
+
+    @Benchmark
+    public byte[] serializeStudent() throws IOException {
+        return writer.writeValueAsBytes(student);
+    }
+
+    @Benchmark
+    public Student deserializeStudent() throws IOException {
+        return reader.readValue(json);
+    }
+}
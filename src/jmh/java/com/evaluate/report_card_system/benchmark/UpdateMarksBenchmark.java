@@ -0,0 +1,66 @@
+package com.evaluate.report_card_system.benchmark;
+
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.repository.StudentRepository;
+import com.evaluate.report_card_system.request.UpdateMarkRequest;
+import com.evaluate.report_card_system.service.ReportCardService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One mark correction through {@code updateExamMarks}: load, incremental rescore, versioned write and the
+ * cache, rank index and analytics bookkeeping, with Mongo replaced by {@link InMemoryStudentRepository}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UpdateMarksBenchmark {
+
+    private static final int STUDENTS = 1024;
+
+    private ReportCardService reportCardService;
+    private UpdateMarkRequest[] requests;
+    private int[] rollNumbers;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        List<Student> students = BenchmarkStudents.generate(STUDENTS, 42);
+        StudentRepository repository = InMemoryStudentRepository.of(students);
+        reportCardService = BenchmarkStudents.service(repository, STUDENTS);
+        students.forEach(reportCardService::calculateFinalScore);
+
+        rollNumbers = new int[STUDENTS];
+        requests = new UpdateMarkRequest[STUDENTS];
+        for (int i = 0; i < STUDENTS; i++) {
+            rollNumbers[i] = students.get(i).getRollNumber();
+            UpdateMarkRequest request = new UpdateMarkRequest();
+            request.setTermName("Term " + (1 + i % BenchmarkStudents.TERMS));
+            request.setExamName("Exam " + (1 + i % BenchmarkStudents.EXAMS_PER_TERM));
+            request.setSubjectMarks(Map.of(BenchmarkStudents.SUBJECTS[i % BenchmarkStudents.SUBJECTS.length], 40.0 + i % 60));
+            requests[i] = request;
+        }
+    }
+
+    @Benchmark
+    public Student updateExamMarks() {
+        int i = next;
+        next = (next + 1) % rollNumbers.length;
+        return reportCardService.updateExamMarks(rollNumbers[i], requests[i]);
+    }
+}
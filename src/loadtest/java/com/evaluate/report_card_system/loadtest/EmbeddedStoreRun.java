@@ -0,0 +1,85 @@
+package com.evaluate.report_card_system.loadtest;
+
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.repository.embedded.EmbeddedStudentRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+
+/**
+ * Drives an {@link EmbeddedStudentRepository} in {@code target/embedded-store} through inserts, roll-number
+ * lookups and versioned saves, then reopens it and compacts it, and reports operations per second, recovery
+ * time and log size. Options (all {@code --name=value}): students (100000), lookups (1000000).
+ */
+public class EmbeddedStoreRun {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        int students = Integer.parseInt(options.getOrDefault("students", "100000"));
+        int lookups = Integer.parseInt(options.getOrDefault("lookups", "1000000"));
+        Path directory = Path.of("target", "embedded-store");
+        if (Files.exists(directory)) {
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        System.out.println(String.format("%-24s %10s %9s %12s", "operation", "count", "seconds", "ops/s"));
+        EmbeddedStudentRepository repository = open(directory, objectMapper);
+        long started = System.nanoTime();
+        for (int rollNumber = 1; rollNumber <= students; rollNumber++) {
+            repository.insert(PrintBatchRun.student(rollNumber));
+        }
+        report("insert", students, started);
+
+        Random random = new Random(7);
+        started = System.nanoTime();
+        long found = 0;
+        for (int i = 0; i < lookups; i++) {
+            found += repository.findByRollNumber(1 + random.nextInt(students)).isPresent() ? 1 : 0;
+        }
+        report("findByRollNumber", found, started);
+
+        started = System.nanoTime();
+        for (int rollNumber = 1; rollNumber <= students; rollNumber++) {
+            Student student = repository.findByRollNumber(rollNumber).orElseThrow();
+            student.setFinalScore(student.getFinalScore() + 1);
+            repository.save(student);
+        }
+        report("findByRollNumber + save", students, started);
+        long logBytes = repository.logBytes();
+        repository.close();
+        repository = null;
+        System.gc();
+
+        started = System.nanoTime();
+        repository = open(directory, objectMapper);
+        report("recover (students)", repository.count(), started);
+        started = System.nanoTime();
+        repository.compact();
+        report("compact (students)", repository.count(), started);
+        System.out.println(String.format("log bytes: %.1f MB before compaction, %.1f MB after",
+                logBytes / 1048576.0, repository.logBytes() / 1048576.0));
+        repository.close();
+    }
+
+    private static EmbeddedStudentRepository open(Path directory, ObjectMapper objectMapper) throws Exception {
+        return new EmbeddedStudentRepository(directory, objectMapper, 64 << 20, Duration.ofSeconds(1), Long.MAX_VALUE, 0.5);
+    }
+
+    private static void report(String operation, long count, long started) {
+        double seconds = (System.nanoTime() - started) / 1e9;
+        System.out.println(String.format("%-24s %10d %9.2f %12.0f", operation, count, seconds, count / seconds));
+    }
+}
@@ -0,0 +1,116 @@
+package com.evaluate.report_card_system.loadtest;
+
+import com.evaluate.report_card_system.model.Exam;
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.model.Term;
+import com.evaluate.report_card_system.render.ReportCardRenderer;
+import com.evaluate.report_card_system.render.ReportFormat;
+import com.evaluate.report_card_system.service.ReportCardPrintService;
+import com.samskivert.mustache.Mustache;
+
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Prints a generated school through {@link ReportCardPrintService} into {@code target/print-<format>.zip}
+ * and reports cards per second, peak heap and output size. Students are generated lazily, the way the
+ * Mongo cursor delivers them, so peak heap reflects the render window rather than the batch. Options (all
+ * {@code --name=value}): students (10000), format (both, html, pdf), parallelism (0 = cores).
+ */
+public class PrintBatchRun {
+
+    private static final String[] SUBJECTS = {"Physics", "Chemistry", "Biology", "Mathematics", "English", "History"};
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        int students = Integer.parseInt(options.getOrDefault("students", "10000"));
+        int parallelism = Integer.parseInt(options.getOrDefault("parallelism", "0"));
+        String format = options.getOrDefault("format", "both");
+
+        ReportCardPrintService printService = new ReportCardPrintService(null,
+                new ReportCardRenderer(Mustache.compiler()), parallelism, 4);
+        List<String> rows = new ArrayList<>();
+        rows.add(String.format("%-6s %9s %9s %10s %14s %12s", "format", "students", "seconds", "cards/s", "peak heap MB", "zip MB"));
+        try {
+            for (ReportFormat reportFormat : format.equals("both") ? List.of(ReportFormat.HTML, ReportFormat.PDF)
+                    : List.of(ReportFormat.parse(format))) {
+                printService.writeZip(school(200), reportFormat, OutputStream.nullOutputStream());
+                rows.add(run(printService, reportFormat, students));
+            }
+        } finally {
+            printService.shutdown();
+        }
+        rows.forEach(System.out::println);
+    }
+
+    private static String run(ReportCardPrintService printService, ReportFormat format, int students) throws Exception {
+        Path output = Path.of("target", "print-" + format.extension() + ".zip");
+        System.gc();
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP).toList();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        long started = System.nanoTime();
+        long written;
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(output), 1 << 16)) {
+            written = printService.writeZip(school(students), format, out);
+        }
+        double seconds = (System.nanoTime() - started) / 1e9;
+        long peakHeap = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        return String.format("%-6s %9d %9.1f %10.0f %14.0f %12.1f", format.extension(), written, seconds,
+                written / seconds, peakHeap / 1048576.0, Files.size(output) / 1048576.0);
+    }
+
+    private static Stream<Student> school(int students) {
+        return IntStream.rangeClosed(1, students).mapToObj(PrintBatchRun::student);
+    }
+
+    static Student student(int rollNumber) {
+        Random random = new Random(rollNumber);
+        Student student = new Student();
+        student.setRollNumber(rollNumber);
+        student.setName("Student " + rollNumber);
+        student.setCohort("20" + (20 + rollNumber % 6));
+        List<Term> terms = new ArrayList<>();
+        double total = 0;
+        for (int t = 1; t <= 3; t++) {
+            Term term = new Term();
+            term.setTermName("Term " + t);
+            List<Exam> exams = new ArrayList<>();
+            double termTotal = 0;
+            for (int e = 1; e <= 3; e++) {
+                Exam exam = new Exam();
+                exam.setExamName("Exam " + e);
+                Map<String, Double> marks = new LinkedHashMap<>();
+                for (String subject : SUBJECTS) {
+                    double mark = 40 + random.nextInt(600) / 10.0;
+                    marks.put(subject, mark);
+                    termTotal += mark;
+                }
+                exam.setSubjectMarks(marks);
+                exams.add(exam);
+            }
+            term.setExams(exams);
+            term.setTermScore(termTotal / (3 * SUBJECTS.length));
+            total += term.getTermScore();
+            terms.add(term);
+        }
+        student.setTerms(terms);
+        student.setFinalScore(total / 3);
+        return student;
+    }
+}
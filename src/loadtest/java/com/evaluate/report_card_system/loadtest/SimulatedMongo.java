@@ -0,0 +1,112 @@
+package com.evaluate.report_card_system.loadtest;
+
+import com.evaluate.report_card_system.model.Exam;
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.model.Term;
+import com.evaluate.report_card_system.repository.ImportCheckpointRepository;
+import com.evaluate.report_card_system.repository.RescoreCheckpointRepository;
+import com.evaluate.report_card_system.repository.StudentRepository;
+import com.evaluate.report_card_system.repository.WeightSchemeRepository;
+import org.springframework.context.annotation.Bean;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Repository beans standing in for Mongo during the load test. Every student lookup blocks the calling
+ * thread for a fixed latency, the way a synchronous driver call does, so the run measures how each thread
+ * model copes with requests that mostly wait. Registered explicitly rather than component-scanned.
+ */
+class SimulatedMongo {
+
+    private static Duration latency = Duration.ofMillis(50);
+
+    static void setLatency(Duration latency) {
+        SimulatedMongo.latency = latency;
+    }
+
+    @Bean
+    StudentRepository studentRepository() {
+        List<Term> terms = List.of(term("Term 1"), term("Term 2"), term("Term 3"));
+        return proxy(StudentRepository.class, (name, args) -> switch (name) {
+            case "findByRollNumber" -> {
+                Thread.sleep(latency);
+                yield Optional.of(student((Integer) args[0], terms));
+            }
+            case "streamAllScores" -> Stream.empty();
+            default -> unsupported(name);
+        });
+    }
+
+    @Bean
+    ImportCheckpointRepository importCheckpointRepository() {
+        return proxy(ImportCheckpointRepository.class, SimulatedMongo::emptyRepository);
+    }
+
+    @Bean
+    RescoreCheckpointRepository rescoreCheckpointRepository() {
+        return proxy(RescoreCheckpointRepository.class, SimulatedMongo::emptyRepository);
+    }
+
+    @Bean
+    WeightSchemeRepository weightSchemeRepository() {
+        return proxy(WeightSchemeRepository.class, SimulatedMongo::emptyRepository);
+    }
+
+    private static Object emptyRepository(String name, Object[] args) {
+        return switch (name) {
+            case "findById" -> Optional.empty();
+            case "findAll" -> List.of();
+            case "save" -> args[0];
+            default -> unsupported(name);
+        };
+    }
+
+    private static Object unsupported(String name) {
+        throw new UnsupportedOperationException("Not simulated: " + name);
+    }
+
+    private static Student student(int rollNumber, List<Term> terms) {
+        Student student = new Student();
+        student.setId(Integer.toHexString(rollNumber));
+        student.setRollNumber(rollNumber);
+        student.setName("Student " + rollNumber);
+        student.setTerms(terms);
+        student.setFinalScore(78.4);
+        return student;
+    }
+
+    private static Term term(String termName) {
+        Term term = new Term();
+        term.setTermName(termName);
+        term.setTermScore(78.4);
+        term.setExams(List.of(exam("Exam 1"), exam("Exam 2"), exam("Exam 3")));
+        return term;
+    }
+
+    private static Exam exam(String examName) {
+        Exam exam = new Exam();
+        exam.setExamName(examName);
+        exam.setSubjectMarks(Map.of("Physics", 80.0, "Chemistry", 74.0, "Biology", 81.0));
+        exam.setWeightedScores(Map.of("Science", 78.5));
+        return exam;
+    }
+
+    private interface Handler {
+        Object handle(String method, Object[] args) throws Exception;
+    }
+
+    private static <T> T proxy(Class<T> type, Handler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) ->
+                switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "Simulated" + type.getSimpleName();
+                    default -> handler.handle(method.getName(), args);
+                }));
+    }
+}
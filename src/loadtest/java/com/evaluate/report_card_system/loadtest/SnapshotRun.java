@@ -0,0 +1,83 @@
+package com.evaluate.report_card_system.loadtest;
+
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.snapshot.StudentSnapshot;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes a generated school both as an NDJSON dump of {@link Student} documents and as a
+ * {@link StudentSnapshot} under {@code target/}, then loads each back into an in-memory list and reports
+ * file sizes, compression ratio and students loaded per second. Options (all {@code --name=value}):
+ * students (200000), group-size (4096), rounds (3; the best round is reported).
+ */
+public class SnapshotRun {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        int students = Integer.parseInt(options.getOrDefault("students", "200000"));
+        int groupSize = Integer.parseInt(options.getOrDefault("group-size", "4096"));
+        int rounds = Integer.parseInt(options.getOrDefault("rounds", "3"));
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        Path json = Path.of("target", "students.ndjson");
+        Path snapshot = Path.of("target", "students" + StudentSnapshot.SUFFIX);
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(json), 1 << 16);
+             SequenceWriter jsonWriter = objectMapper.writerFor(Student.class).withRootValueSeparator("\n").writeValues(out);
+             StudentSnapshot.Writer snapshotWriter = StudentSnapshot.create(snapshot, groupSize)) {
+            for (int rollNumber = 1; rollNumber <= students; rollNumber++) {
+                Student student = PrintBatchRun.student(rollNumber);
+                student.setId(String.format("%024x", rollNumber));
+                student.setVersion(0L);
+                jsonWriter.write(student);
+                snapshotWriter.write(student);
+            }
+            snapshotWriter.finish();
+        }
+
+        double jsonSeconds = Double.MAX_VALUE;
+        double snapshotSeconds = Double.MAX_VALUE;
+        for (int round = 0; round < rounds; round++) {
+            long started = System.nanoTime();
+            List<Student> loaded = new ArrayList<>(students);
+            try (MappingIterator<Student> rows = objectMapper.readerFor(Student.class).readValues(json.toFile())) {
+                rows.forEachRemaining(loaded::add);
+            }
+            jsonSeconds = Math.min(jsonSeconds, check(loaded, students, started));
+
+            started = System.nanoTime();
+            List<Student> mapped = new ArrayList<>(students);
+            StudentSnapshot.read(snapshot, mapped::addAll);
+            snapshotSeconds = Math.min(snapshotSeconds, check(mapped, students, started));
+        }
+
+        long jsonBytes = Files.size(json);
+        long snapshotBytes = Files.size(snapshot);
+        System.out.println(String.format("%-9s %9s %10s %7s %9s %12s", "format", "students", "MB", "ratio", "seconds", "students/s"));
+        System.out.println(String.format("%-9s %9d %10.1f %7.2f %9.2f %12.0f", "json", students, jsonBytes / 1048576.0,
+                1.0, jsonSeconds, students / jsonSeconds));
+        System.out.println(String.format("%-9s %9d %10.1f %7.2f %9.2f %12.0f", "snapshot", students, snapshotBytes / 1048576.0,
+                (double) jsonBytes / snapshotBytes, snapshotSeconds, students / snapshotSeconds));
+    }
+
+    private static double check(List<Student> loaded, int students, long started) {
+        double seconds = (System.nanoTime() - started) / 1e9;
+        if (loaded.size() != students || loaded.get(students - 1).getRollNumber() != students) {
+            throw new IllegalStateException("Loaded " + loaded.size() + " of " + students + " students");
+        }
+        return seconds;
+    }
+}
@@ -0,0 +1,161 @@
+package com.evaluate.report_card_system.loadtest;
+
+import com.evaluate.report_card_system.ReportCardSystemApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop load test of {@code GET /api/reportcard/roll/{rollNumber}} comparing Tomcat on its
+ * platform-thread pool with the {@code virtual-threads} profile. Each mode boots the application with
+ * {@link SimulatedMongo} in place of a database; with {@code --target=http://host:port} it drives an
+ * already running instance instead. Options (all {@code --name=value}): mode (both, platform, virtual),
+ * concurrency, duration and warmup (seconds), latency (simulated Mongo ms) and target.
+ */
+public class ThreadModeLoadTest {
+
+    private static final String PATH = "/api/reportcard/roll/";
+    private static final int ROLL_NUMBERS = 1_000_000;
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "1000"));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "20")));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "5")));
+        SimulatedMongo.setLatency(Duration.ofMillis(Long.parseLong(options.getOrDefault("latency", "50"))));
+        String mode = options.getOrDefault("mode", "both");
+        String target = options.get("target");
+
+        List<String> rows = new ArrayList<>();
+        rows.add(String.format("%-9s %11s %9s %9s %9s %9s %8s", "mode", "concurrency", "req/s", "p50 ms", "p95 ms", "p99 ms", "errors"));
+        for (String threads : mode.equals("both") ? List.of("platform", "virtual") : List.of(mode)) {
+            if (target != null) {
+                rows.add(run(threads, target, concurrency, warmup, duration));
+                continue;
+            }
+            try (ConfigurableApplicationContext context = boot(threads.equals("virtual"))) {
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                rows.add(run(threads, "http://localhost:" + port, concurrency, warmup, duration));
+            }
+        }
+        rows.forEach(System.out::println);
+    }
+
+    private static ConfigurableApplicationContext boot(boolean virtualThreads) {
+        return new SpringApplicationBuilder(ReportCardSystemApplication.class, SimulatedMongo.class)
+                .profiles(virtualThreads ? new String[]{"virtual-threads"} : new String[0])
+                .properties(
+                        "server.port=0",
+                        "spring.data.mongodb.repositories.type=none",
+                        "reportcard.weights.load-from-mongo=false",
+                        "reportcard.rank.rebuild-on-startup=false",
+                        "reportcard.cache.maximum-size=0",
+                        "logging.level.root=WARN",
+                        "logging.level.org.mongodb.driver=OFF")
+                .run();
+    }
+
+    private static String run(String mode, String baseUrl, int concurrency, Duration warmup, Duration duration)
+            throws Exception {
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient http = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(clients)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            drive(http, clients, baseUrl, concurrency, warmup, new AtomicLong());
+            AtomicLong errors = new AtomicLong();
+            long started = System.nanoTime();
+            long[] latencies = drive(http, clients, baseUrl, concurrency, duration, errors);
+            double seconds = (System.nanoTime() - started) / 1e9;
+            Arrays.sort(latencies);
+            return String.format("%-9s %11d %9.0f %9.1f %9.1f %9.1f %8d", mode, concurrency,
+                    latencies.length / seconds, percentile(latencies, 0.50), percentile(latencies, 0.95),
+                    percentile(latencies, 0.99), errors.get());
+        }
+    }
+
+    /**
+     * Keeps {@code concurrency} requests in flight for {@code duration}; returns every successful latency.
+     */
+    private static long[] drive(HttpClient http, ExecutorService clients, String baseUrl, int concurrency,
+                                Duration duration, AtomicLong errors) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<long[]>> workers = new ArrayList<>(concurrency);
+        for (int w = 0; w < concurrency; w++) {
+            workers.add(clients.submit(() -> {
+                long[] samples = new long[1024];
+                int count = 0;
+                while (System.nanoTime() < deadline) {
+                    int rollNumber = 1 + ThreadLocalRandom.current().nextInt(ROLL_NUMBERS);
+                    HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + PATH + rollNumber))
+                            .timeout(Duration.ofSeconds(30)).build();
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                            continue;
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                        continue;
+                    }
+                    if (count == samples.length) {
+                        samples = Arrays.copyOf(samples, count * 2);
+                    }
+                    samples[count++] = System.nanoTime() - start;
+                }
+                return Arrays.copyOf(samples, count);
+            }));
+        }
+        List<long[]> results = new ArrayList<>(concurrency);
+        int total = 0;
+        for (Future<long[]> worker : workers) {
+            long[] samples = worker.get();
+            results.add(samples);
+            total += samples.length;
+        }
+        long[] all = new long[total];
+        int offset = 0;
+        for (long[] samples : results) {
+            System.arraycopy(samples, 0, all, offset, samples.length);
+            offset += samples.length;
+        }
+        return all;
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return Double.NaN;
+        }
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)] / 1e6;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        return options;
+    }
+}
@@ -0,0 +1,326 @@
+package com.evaluate.report_card_system.archive;
+
+import com.evaluate.report_card_system.model.Student;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+
+/**
+ * The archive of one cohort: an append-only file of independently deflated blocks of students, plus a
+ * roll-number index. A block is {@code [compressed length][student count][uncompressed length]} followed by
+ * the deflated JSON of its students, one per line. The index file holds {@code (rollNumber, blockOffset)}
+ * pairs sorted by roll number; a lookup binary-searches it and inflates the one block that holds the
+ * student. Appends are only visible once {@link Appender#commit()} has forced the blocks to disk and
+ * atomically replaced the index, so a crash mid-append leaves unreferenced bytes, never a broken index.
+ * When a roll number is archived twice, the later block wins.
+ */
+public class CohortArchive {
+
+    public static final String ARCHIVE_SUFFIX = ".archive";
+    public static final String INDEX_SUFFIX = ".index";
+    private static final int BLOCK_HEADER_BYTES = 12;
+
+    private final String cohort;
+    private final Path archiveFile;
+    private final Path indexFile;
+    private final ObjectWriter writer;
+    private final ObjectReader reader;
+    private volatile Index index;
+
+    public CohortArchive(Path directory, String cohort, ObjectMapper objectMapper) {
+        this.cohort = cohort;
+        this.archiveFile = directory.resolve(cohort + ARCHIVE_SUFFIX);
+        this.indexFile = directory.resolve(cohort + INDEX_SUFFIX);
+        this.writer = objectMapper.writerFor(Student.class);
+        this.reader = objectMapper.readerFor(Student.class);
+    }
+
+    public String getCohort() {
+        return cohort;
+    }
+
+    public boolean exists() {
+        return Files.exists(indexFile);
+    }
+
+    /**
+     * Number of archived students (distinct roll numbers).
+     */
+    public int size() throws IOException {
+        return index().rollNumbers.length;
+    }
+
+    public long archiveBytes() throws IOException {
+        return Files.exists(archiveFile) ? Files.size(archiveFile) : 0;
+    }
+
+    public Optional<Student> find(int rollNumber) throws IOException {
+        Index current = index();
+        int slot = Arrays.binarySearch(current.rollNumbers, rollNumber);
+        if (slot < 0) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(archiveFile, StandardOpenOption.READ)) {
+            for (Student student : readBlock(channel, current.offsets[slot])) {
+                if (student.getRollNumber() == rollNumber) {
+                    return Optional.of(student);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Hands every indexed student to {@code consumer}, one block at a time, in file order. Superseded copies
+     * of a roll number are skipped.
+     */
+    public void forEachBlock(Consumer<List<Student>> consumer) throws IOException {
+        Index current = index();
+        if (current.rollNumbers.length == 0) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(archiveFile, StandardOpenOption.READ)) {
+            long[] blockOffsets = Arrays.stream(current.offsets).distinct().sorted().toArray();
+            for (long offset : blockOffsets) {
+                List<Student> live = new ArrayList<>();
+                for (Student student : readBlock(channel, offset)) {
+                    int slot = Arrays.binarySearch(current.rollNumbers, student.getRollNumber());
+                    if (slot >= 0 && current.offsets[slot] == offset) {
+                        live.add(student);
+                    }
+                }
+                consumer.accept(live);
+            }
+        }
+    }
+
+    public Appender openAppender() throws IOException {
+        return new Appender();
+    }
+
+    public void delete() throws IOException {
+        Files.deleteIfExists(indexFile);
+        Files.deleteIfExists(archiveFile);
+        index = Index.EMPTY;
+    }
+
+    private List<Student> readBlock(FileChannel channel, long offset) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(BLOCK_HEADER_BYTES);
+        readFully(channel, header, offset);
+        int compressedLength = header.getInt(0);
+        int count = header.getInt(4);
+        int uncompressedLength = header.getInt(8);
+        ByteBuffer compressed = ByteBuffer.allocate(compressedLength);
+        readFully(channel, compressed, offset + BLOCK_HEADER_BYTES);
+
+        byte[] json = new byte[uncompressedLength];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed.array());
+            int inflated = 0;
+            while (inflated < uncompressedLength && !inflater.finished()) {
+                inflated += inflater.inflate(json, inflated, uncompressedLength - inflated);
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt block at offset " + offset + " of " + archiveFile, e);
+        } finally {
+            inflater.end();
+        }
+
+        List<Student> students = new ArrayList<>(count);
+        int start = 0;
+        for (int i = 0; i < json.length; i++) {
+            if (json[i] == '\n') {
+                students.add(reader.readValue(json, start, i - start));
+                start = i + 1;
+            }
+        }
+        return students;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Archive ends inside a block at offset " + position);
+            }
+        }
+        buffer.flip();
+    }
+
+    private Index index() throws IOException {
+        Index current = index;
+        if (current == null) {
+            synchronized (this) {
+                current = index;
+                if (current == null) {
+                    current = Files.exists(indexFile) ? Index.read(indexFile) : Index.EMPTY;
+                    index = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Appends blocks to the archive file. Nothing becomes visible to lookups until {@link #commit()}.
+     */
+    public class Appender implements AutoCloseable {
+
+        private final FileChannel channel;
+        private final List<int[]> pendingRollNumbers = new ArrayList<>();
+        private final List<Long> pendingOffsets = new ArrayList<>();
+        private long uncompressedBytes;
+
+        private Appender() throws IOException {
+            Files.createDirectories(archiveFile.getParent());
+            this.channel = FileChannel.open(archiveFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+        }
+
+        public void append(List<Student> students) throws IOException {
+            if (students.isEmpty()) {
+                return;
+            }
+            ByteArrayOutputStream json = new ByteArrayOutputStream(students.size() * 1024);
+            int[] rollNumbers = new int[students.size()];
+            for (int i = 0; i < students.size(); i++) {
+                json.write(writer.writeValueAsBytes(students.get(i)));
+                json.write('\n');
+                rollNumbers[i] = students.get(i).getRollNumber();
+            }
+            byte[] raw = json.toByteArray();
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(raw.length / 4 + 64);
+            Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+            try (DeflaterOutputStream out = new DeflaterOutputStream(compressed, deflater)) {
+                out.write(raw);
+            } finally {
+                deflater.end();
+            }
+
+            long offset = channel.size();
+            ByteBuffer header = ByteBuffer.allocate(BLOCK_HEADER_BYTES)
+                    .putInt(compressed.size()).putInt(students.size()).putInt(raw.length).flip();
+            writeFully(header);
+            writeFully(ByteBuffer.wrap(compressed.toByteArray()));
+            pendingRollNumbers.add(rollNumbers);
+            pendingOffsets.add(offset);
+            uncompressedBytes += raw.length;
+        }
+
+        public long getUncompressedBytes() {
+            return uncompressedBytes;
+        }
+
+        /**
+         * Forces the appended blocks to disk, then atomically replaces the index with one that also covers them.
+         */
+        public void commit() throws IOException {
+            channel.force(true);
+            synchronized (CohortArchive.this) {
+                Index merged = index();
+                for (int b = 0; b < pendingRollNumbers.size(); b++) {
+                    merged = merged.with(pendingRollNumbers.get(b), pendingOffsets.get(b));
+                }
+                Path temp = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+                merged.write(temp);
+                Files.move(temp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                index = merged;
+            }
+            pendingRollNumbers.clear();
+            pendingOffsets.clear();
+        }
+
+        private void writeFully(ByteBuffer buffer) throws IOException {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    private record Index(int[] rollNumbers, long[] offsets) {
+
+        static final Index EMPTY = new Index(new int[0], new long[0]);
+
+        /**
+         * A copy that also maps {@code added} roll numbers to {@code offset}, replacing earlier entries.
+         */
+        Index with(int[] added, long offset) {
+            int[] sortedAdded = added.clone();
+            Arrays.sort(sortedAdded);
+            int[] mergedRolls = new int[rollNumbers.length + sortedAdded.length];
+            long[] mergedOffsets = new long[mergedRolls.length];
+            int i = 0, j = 0, n = 0;
+            while (i < rollNumbers.length || j < sortedAdded.length) {
+                if (j == sortedAdded.length || (i < rollNumbers.length && rollNumbers[i] < sortedAdded[j])) {
+                    mergedRolls[n] = rollNumbers[i];
+                    mergedOffsets[n++] = offsets[i++];
+                } else {
+                    if (i < rollNumbers.length && rollNumbers[i] == sortedAdded[j]) {
+                        i++;
+                    }
+                    mergedRolls[n] = sortedAdded[j++];
+                    mergedOffsets[n++] = offset;
+                }
+            }
+            return new Index(Arrays.copyOf(mergedRolls, n), Arrays.copyOf(mergedOffsets, n));
+        }
+
+        static Index read(Path file) throws IOException {
+            try (InputStream in = Files.newInputStream(file);
+                 DataInputStream data = new DataInputStream(new BufferedInputStream(in))) {
+                int count = data.readInt();
+                int[] rolls = new int[count];
+                long[] offsets = new long[count];
+                for (int k = 0; k < count; k++) {
+                    rolls[k] = data.readInt();
+                    offsets[k] = data.readLong();
+                }
+                return new Index(rolls, offsets);
+            }
+        }
+
+        void write(Path file) throws IOException {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+                 DataOutputStream data = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)))) {
+                data.writeInt(rollNumbers.length);
+                for (int k = 0; k < rollNumbers.length; k++) {
+                    data.writeInt(rollNumbers[k]);
+                    data.writeLong(offsets[k]);
+                }
+                data.flush();
+                channel.force(true);
+            }
+        }
+    }
+}
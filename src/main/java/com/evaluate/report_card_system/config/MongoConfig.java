@@ -0,0 +1,46 @@
+package com.evaluate.report_card_system.config;
+
+import com.evaluate.report_card_system.model.ScoreMap;
+import com.evaluate.report_card_system.model.SubjectDictionary;
+import org.bson.Document;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+public class MongoConfig {
+
+    @Bean
+    public MongoCustomConversions mongoCustomConversions() {
+        return new MongoCustomConversions(List.of(new ScoreMapWritingConverter(), new ScoreMapReadingConverter()));
+    }
+
+    @WritingConverter
+    static class ScoreMapWritingConverter implements Converter<ScoreMap, Document> {
+        @Override
+        public Document convert(ScoreMap source) {
+            Document document = new Document();
+            source.forEachMark((id, mark) -> document.put(SubjectDictionary.nameOf(id), Double.isNaN(mark) ? null : mark));
+            document.putAll(source.unknownMarks());
+            return document;
+        }
+    }
+
+    @ReadingConverter
+    static class ScoreMapReadingConverter implements Converter<Document, ScoreMap> {
+        @Override
+        public ScoreMap convert(Document source) {
+            ScoreMap scoreMap = new ScoreMap();
+            for (Map.Entry<String, Object> entry : source.entrySet()) {
+                scoreMap.put(entry.getKey(), entry.getValue() instanceof Number mark ? mark.doubleValue() : null);
+            }
+            return scoreMap;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.evaluate.report_card_system.config;
+
+import com.evaluate.report_card_system.repository.StudentRepository;
+import com.evaluate.report_card_system.repository.embedded.EmbeddedStudentRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Chooses where students are stored. By default {@link StudentRepository} is a Mongo repository like the
+ * others. The {@code embedded} profile leaves it out of Mongo repository scanning and stores students in an
+ * {@link EmbeddedStudentRepository} under {@code reportcard.embedded.directory} instead.
+ */
+@Configuration
+public class StudentStoreConfig {
+
+    @Configuration
+    @Profile("!embedded")
+    @EnableMongoRepositories(basePackageClasses = StudentRepository.class)
+    static class MongoStudentStore {
+    }
+
+    @Configuration
+    @Profile("embedded")
+    @EnableMongoRepositories(basePackageClasses = StudentRepository.class, excludeFilters =
+            @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = StudentRepository.class))
+    static class EmbeddedStudentStore {
+
+        @Bean
+        EmbeddedStudentRepository studentRepository(ObjectMapper objectMapper,
+                                                    @Value("${reportcard.embedded.directory:data}") Path directory,
+                                                    @Value("${reportcard.embedded.window-size:64MB}") DataSize windowSize,
+                                                    @Value("${reportcard.embedded.flush-interval:1s}") Duration flushInterval,
+                                                    @Value("${reportcard.embedded.compaction-min-size:64MB}") DataSize compactionMinSize,
+                                                    @Value("${reportcard.embedded.compaction-garbage-ratio:0.5}") double compactionGarbageRatio)
+                throws IOException {
+            return new EmbeddedStudentRepository(directory, objectMapper, Math.toIntExact(windowSize.toBytes()),
+                    flushInterval, compactionMinSize.toBytes(), compactionGarbageRatio);
+        }
+    }
+}
@@ -1,14 +1,36 @@
 package com.evaluate.report_card_system.config;
 
+import com.evaluate.report_card_system.model.WeightScheme;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Weighting schemes from configuration ({@code reportcard.weights.*}). The default scheme scores students
+ * without a curriculum; {@code curricula.<name>} adds a scheme per grade or curriculum. Schemes stored in
+ * the {@code weight_schemes} collection override these by curriculum when loaded.
+ */
+@Data
 @Configuration
+@ConfigurationProperties(prefix = "reportcard.weights")
 public class WeightConfig {
-    public static final double EXAM1_WEIGHT = 0.10;
-    public static final double EXAM2_WEIGHT = 0.10;
-    public static final double EXAM3_WEIGHT = 0.80;
-
-    public static final double PHYSICS_WEIGHT = 0.40;
-    public static final double CHEMISTRY_WEIGHT = 0.30;
-    public static final double BIOLOGY_WEIGHT = 0.30;
-}
\ No newline at end of file
+    public static final String DEFAULT_CURRICULUM = "default";
+
+    private WeightScheme defaultScheme = defaultScheme();
+    private Map<String, WeightScheme> curricula = new LinkedHashMap<>();
+    private boolean loadFromMongo = true;
+
+    private static WeightScheme defaultScheme() {
+        WeightScheme scheme = new WeightScheme();
+        scheme.setCurriculum(DEFAULT_CURRICULUM);
+        scheme.getSubjectWeights().put("Physics", 0.40);
+        scheme.getSubjectWeights().put("Chemistry", 0.30);
+        scheme.getSubjectWeights().put("Biology", 0.30);
+        scheme.setExamWeights(List.of(0.10, 0.10, 0.80));
+        return scheme;
+    }
+}
@@ -0,0 +1,24 @@
+package com.evaluate.report_card_system.controller;
+
+import com.evaluate.report_card_system.response.CohortAnalytics;
+import com.evaluate.report_card_system.service.AnalyticsService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/reportcard/analytics")
+public class AnalyticsController {
+
+    private final AnalyticsService analyticsService;
+
+    public AnalyticsController(AnalyticsService analyticsService) {
+        this.analyticsService = analyticsService;
+    }
+
+    @GetMapping
+    public ResponseEntity<CohortAnalytics> getCohortAnalytics(@RequestParam(required = false) String cohort) {
+        return ResponseEntity.ok(analyticsService.getCohortAnalytics(cohort));
+    }
+}
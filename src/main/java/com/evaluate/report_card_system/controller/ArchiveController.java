@@ -0,0 +1,57 @@
+package com.evaluate.report_card_system.controller;
+
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.response.ArchiveSummary;
+import com.evaluate.report_card_system.service.ArchiveService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.List;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/reportcard/archive")
+public class ArchiveController {
+
+    private final ArchiveService archiveService;
+
+    public ArchiveController(ArchiveService archiveService) {
+        this.archiveService = archiveService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<ArchiveSummary>> getArchives() throws IOException {
+        return ResponseEntity.ok(archiveService.getArchives());
+    }
+
+    @PostMapping("/cohort/{cohort}")
+    public ResponseEntity<?> archiveCohort(@PathVariable String cohort) throws IOException {
+        try {
+            return ResponseEntity.ok(archiveService.archiveCohort(cohort));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @PostMapping("/cohort/{cohort}/restore")
+    public ResponseEntity<?> restoreCohort(@PathVariable String cohort) throws IOException {
+        try {
+            return ResponseEntity.ok(archiveService.restoreCohort(cohort));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/roll/{rollNumber}")
+    public ResponseEntity<Student> getArchivedStudent(@PathVariable int rollNumber) {
+        try {
+            return archiveService.findArchived(rollNumber)
+                    .map(ResponseEntity::ok)
+                    .orElseGet(() -> ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
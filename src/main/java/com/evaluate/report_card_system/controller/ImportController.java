@@ -0,0 +1,40 @@
+package com.evaluate.report_card_system.controller;
+
+import com.evaluate.report_card_system.response.ImportProgress;
+import com.evaluate.report_card_system.service.ImportService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/reportcard/import")
+public class ImportController {
+
+    private final ImportService importService;
+
+    public ImportController(ImportService importService) {
+        this.importService = importService;
+    }
+
+    @PostMapping
+    public ResponseEntity<?> importMarks(@RequestParam(defaultValue = "csv") String format,
+                                         @RequestParam(required = false) String jobId,
+                                         InputStream body) throws IOException {
+        try {
+            return ResponseEntity.ok(importService.importMarks(jobId, format, body));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ImportProgress> getProgress(@PathVariable String jobId) {
+        return importService.getProgress(jobId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,54 @@
+package com.evaluate.report_card_system.controller;
+
+import com.evaluate.report_card_system.render.ReportFormat;
+import com.evaluate.report_card_system.service.ReportCardPrintService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/reportcard/print")
+public class PrintController {
+
+    private final ReportCardPrintService printService;
+
+    public PrintController(ReportCardPrintService printService) {
+        this.printService = printService;
+    }
+
+    @GetMapping
+    public ResponseEntity<?> printAll(@RequestParam(required = false) String format,
+                                      @RequestParam(required = false) String cohort) {
+        ReportFormat reportFormat;
+        try {
+            reportFormat = ReportFormat.parse(format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+        String filename = (cohort == null ? "report-cards" : "report-cards-" + cohort) + "-" + reportFormat.extension() + ".zip";
+        StreamingResponseBody body = out -> printService.printAll(cohort, reportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
+    @GetMapping("/roll/{rollNumber}")
+    public ResponseEntity<?> print(@PathVariable int rollNumber, @RequestParam(required = false) String format) {
+        try {
+            ReportFormat reportFormat = ReportFormat.parse(format);
+            return printService.print(rollNumber, reportFormat)
+                    .<ResponseEntity<?>>map(content -> ResponseEntity.ok()
+                            .contentType(MediaType.parseMediaType(reportFormat.contentType()))
+                            .body(content))
+                    .orElseGet(() -> ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+}
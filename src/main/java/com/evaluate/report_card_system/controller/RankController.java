@@ -0,0 +1,44 @@
+package com.evaluate.report_card_system.controller;
+
+import com.evaluate.report_card_system.response.RankResponse;
+import com.evaluate.report_card_system.service.RankIndex;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/reportcard")
+public class RankController {
+
+    private static final int MAX_TOP = 1000;
+    private final RankIndex rankIndex;
+
+    public RankController(RankIndex rankIndex) {
+        this.rankIndex = rankIndex;
+    }
+
+    @GetMapping("/rank/{rollNumber}")
+    public ResponseEntity<RankResponse> getRank(@PathVariable int rollNumber) {
+        return rankIndex.rank(rollNumber)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/top")
+    public ResponseEntity<?> getTop(@RequestParam(defaultValue = "50") int n) {
+        if (n <= 0 || n > MAX_TOP) {
+            return ResponseEntity.badRequest().body("n must be between 1 and " + MAX_TOP);
+        }
+        List<RankResponse> top = rankIndex.top(n);
+        return ResponseEntity.ok(top);
+    }
+
+    @PostMapping("/rank/rebuild")
+    public ResponseEntity<Integer> rebuild() {
+        rankIndex.rebuild();
+        return ResponseEntity.ok(rankIndex.size());
+    }
+}
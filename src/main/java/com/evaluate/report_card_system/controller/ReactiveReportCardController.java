@@ -0,0 +1,108 @@
+package com.evaluate.report_card_system.controller;
+
+import com.evaluate.report_card_system.exception.ScoreValidationException;
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.request.UpdateMarkRequest;
+import com.evaluate.report_card_system.response.MultiGetResponse;
+import com.evaluate.report_card_system.response.StudentSummary;
+import com.evaluate.report_card_system.service.ReactiveReportCardService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * The student routes of {@link ReportCardController} for the reactive profile, with the same paths,
+ * status codes and error bodies, plus a streaming cohort listing.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/reportcard")
+public class ReactiveReportCardController {
+
+    private final ReactiveReportCardService reportCardService;
+
+    public ReactiveReportCardController(ReactiveReportCardService reportCardService) {
+        this.reportCardService = reportCardService;
+    }
+
+    @PostMapping("/generate")
+    public Mono<ResponseEntity<?>> generateReportCard(@RequestBody Student student) {
+        return reportCardService.generateReportCard(student)
+                .<ResponseEntity<?>>map(saved -> ResponseEntity.ok(saved.getFinalScore()))
+                .onErrorResume(ScoreValidationException.class, e -> Mono.just(ResponseEntity.badRequest().body(e.getResult())))
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().body(e.getMessage())));
+    }
+
+    @GetMapping("/roll/{rollNumber}")
+    public Mono<ResponseEntity<Student>> getStudentByRollNo(@PathVariable int rollNumber, ServerWebExchange exchange) {
+        Mono<ResponseEntity<Student>> full = reportCardService.getStudentByRollNumber(rollNumber)
+                .map(student -> ResponseEntity.ok().eTag(StudentETags.of(student)).cacheControl(CacheControl.noCache()).body(student))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+        Mono<ResponseEntity<Student>> response = exchange.getRequest().getHeaders().getIfNoneMatch().isEmpty()
+                ? full
+                : reportCardService.getStudentVersion(rollNumber)
+                        .map(StudentETags::of)
+                        .filter(exchange::checkNotModified)
+                        .map(etag -> ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).<Student>build())
+                        .switchIfEmpty(full);
+        return response
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
+    @GetMapping("/rolls")
+    public Mono<ResponseEntity<?>> getStudentsByRollNumbers(@RequestParam List<Integer> rollNumbers) {
+        return reportCardService.getStudentsByRollNumbers(rollNumbers)
+                .collectList()
+                .<ResponseEntity<?>>map(results -> ResponseEntity.ok(MultiGetResponse.of(results)))
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().body(e.getMessage())));
+    }
+
+    @PostMapping("/rolls")
+    public Mono<ResponseEntity<?>> getStudentsByRollNumbersFromBody(@RequestBody List<Integer> rollNumbers) {
+        return getStudentsByRollNumbers(rollNumbers);
+    }
+
+    @GetMapping(value = "/cohort/{cohort}", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<Student> streamCohort(@PathVariable String cohort) {
+        return reportCardService.streamCohort(cohort);
+    }
+
+    @GetMapping("/roll/{rollNumber}/summary")
+    public Mono<ResponseEntity<StudentSummary>> getStudentSummary(@PathVariable int rollNumber) {
+        return reportCardService.getStudentSummary(rollNumber)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build())
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
+    @GetMapping(value = "/cohort/{cohort}/summary", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<StudentSummary> streamCohortSummaries(@PathVariable String cohort) {
+        return reportCardService.streamCohortSummaries(cohort);
+    }
+
+    @PutMapping("/roll/{rollNumber}/marks")
+    public Mono<ResponseEntity<?>> updateExamMarks(@PathVariable int rollNumber, @RequestBody UpdateMarkRequest request) {
+        return reportCardService.updateExamMarks(rollNumber, request)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .onErrorResume(ScoreValidationException.class, e -> Mono.just(ResponseEntity.badRequest().body(e.getResult())))
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().body(e.getMessage())))
+                .onErrorResume(OptimisticLockingFailureException.class,
+                        e -> Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage())));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<String>> deleteStudent(@PathVariable String id) {
+        return reportCardService.deleteStudent(id)
+                .then(Mono.just(ResponseEntity.noContent().<String>build()))
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().body(e.getMessage())));
+    }
+}
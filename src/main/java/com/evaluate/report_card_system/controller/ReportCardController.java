@@ -1,61 +1,244 @@
 package com.evaluate.report_card_system.controller;
 
+import com.evaluate.report_card_system.exception.IdempotencyKeyReusedException;
+import com.evaluate.report_card_system.exception.ScoreValidationException;
 import com.evaluate.report_card_system.request.UpdateMarkRequest;
 import com.evaluate.report_card_system.model.Student;
-import com.evaluate.report_card_system.model.Term;
+import com.evaluate.report_card_system.response.BatchReportResponse;
+import com.evaluate.report_card_system.response.CacheStatsResponse;
+import com.evaluate.report_card_system.response.MultiGetResponse;
+import com.evaluate.report_card_system.response.StudentResult;
+import com.evaluate.report_card_system.response.StudentSummary;
+import com.evaluate.report_card_system.response.ValidationResult;
+import com.evaluate.report_card_system.service.IdempotencyStore;
 import com.evaluate.report_card_system.service.ReportCardService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/reportcard")
 public class ReportCardController {
 
     private static final Logger logger = LoggerFactory.getLogger(ReportCardController.class);
+    private static final int NDJSON_CHUNK_SIZE = 1000;
     private final ReportCardService reportCardService;
+    private final ObjectMapper objectMapper;
+    private final IdempotencyStore idempotencyStore;
 
-    public ReportCardController(ReportCardService reportCardService) {
+    public ReportCardController(ReportCardService reportCardService, ObjectMapper objectMapper,
+                                IdempotencyStore idempotencyStore) {
         this.reportCardService = reportCardService;
+        this.objectMapper = objectMapper;
+        this.idempotencyStore = idempotencyStore;
     }
 
+    /**
+     * With an {@code Idempotency-Key}, a retry of the same request replays the first response instead of
+     * generating again; the same key with a different body is rejected with 422. Retries are matched on the
+     * raw body bytes, and rejected requests are not stored, so a corrected retry under the same key runs.
+     */
     @PostMapping("/generate")
-    public ResponseEntity<?> generateReportCard(@RequestBody Student student) {
+    public ResponseEntity<?> generateReportCard(@RequestBody byte[] body,
+                                                @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         try {
-            Student savedStudent = reportCardService.generateReportCard(student);
-            return ResponseEntity.ok(savedStudent.getTerms().stream()
-                    .mapToDouble(Term::getTermScore)
-                    .average()
-                    .orElse(0.0));
+            if (idempotencyKey != null) {
+                IdempotencyStore.validateKey(idempotencyKey);
+            }
+            Student student = objectMapper.readValue(body, Student.class);
+            Double finalScore = idempotencyKey == null
+                    ? generate(student)
+                    : idempotencyStore.execute("generate", idempotencyKey, IdempotencyStore.fingerprint(body),
+                            () -> generate(student));
+            return ResponseEntity.ok(finalScore);
+        } catch (IOException e) {
+            return ResponseEntity.badRequest().body("Malformed student JSON");
+        } catch (IdempotencyKeyReusedException e) {
+            return ResponseEntity.unprocessableEntity().body(e.getMessage());
+        } catch (ScoreValidationException e) {
+            return ResponseEntity.badRequest().body(e.getResult());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
 
+    private Double generate(Student student) {
+        return reportCardService.generateReportCard(student).getFinalScore();
+    }
+
+    @PostMapping("/validate")
+    public ResponseEntity<ValidationResult> validate(@RequestBody Student student) {
+        ValidationResult result = reportCardService.validate(student);
+        return result.isValid() ? ResponseEntity.ok(result) : ResponseEntity.badRequest().body(result);
+    }
+
+    @PostMapping(value = "/generate/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BatchReportResponse> generateReportCards(@RequestBody List<Student> students) {
+        return ResponseEntity.ok(BatchReportResponse.of(reportCardService.generateReportCards(students)));
+    }
+
+    @PostMapping(value = "/generate/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<BatchReportResponse> generateReportCards(InputStream body) throws IOException {
+        List<StudentResult> results = new ArrayList<>();
+        List<Student> chunk = new ArrayList<>(NDJSON_CHUNK_SIZE);
+        List<Integer> malformedPositions = new ArrayList<>();
+        List<StudentResult> malformedResults = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                chunk.add(objectMapper.readValue(line, Student.class));
+            } catch (JsonProcessingException e) {
+                malformedPositions.add(chunk.size());
+                malformedResults.add(StudentResult.failure(null, "Line " + lineNumber + ": malformed student JSON"));
+            }
+            if (chunk.size() == NDJSON_CHUNK_SIZE) {
+                flushChunk(chunk, malformedPositions, malformedResults, results);
+            }
+        }
+        flushChunk(chunk, malformedPositions, malformedResults, results);
+        return ResponseEntity.ok(BatchReportResponse.of(results));
+    }
+
+    private void flushChunk(List<Student> chunk, List<Integer> malformedPositions,
+                            List<StudentResult> malformedResults, List<StudentResult> results) {
+        List<StudentResult> chunkResults = chunk.isEmpty() ? List.of() : reportCardService.generateReportCards(chunk);
+        int malformed = 0;
+        for (int i = 0; i <= chunkResults.size(); i++) {
+            while (malformed < malformedPositions.size() && malformedPositions.get(malformed) == i) {
+                results.add(malformedResults.get(malformed++));
+            }
+            if (i < chunkResults.size()) {
+                results.add(chunkResults.get(i));
+            }
+        }
+        chunk.clear();
+        malformedPositions.clear();
+        malformedResults.clear();
+    }
+
+    /**
+     * Tagged with the student's version. A matching {@code If-None-Match} is answered with 304 from the
+     * version alone, without loading or serializing the document.
+     */
     @GetMapping("/roll/{rollNumber}")
-    public ResponseEntity<Student> getStudentByRollNo(@PathVariable int rollNumber) {
+    public ResponseEntity<Student> getStudentByRollNo(@PathVariable int rollNumber, WebRequest request) {
         try {
+            if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+                Optional<Student> version = reportCardService.getStudentVersion(rollNumber);
+                if (version.isPresent() && request.checkNotModified(StudentETags.of(version.get()))) {
+                    return null;
+                }
+            }
             Optional<Student> student = reportCardService.getStudentByRollNumber(rollNumber);
-            return student.isPresent() ? ResponseEntity.ok(student.get()) : ResponseEntity.notFound().build();
+            return student.isPresent()
+                    ? ResponseEntity.ok().eTag(StudentETags.of(student.get())).cacheControl(CacheControl.noCache()).body(student.get())
+                    : ResponseEntity.notFound().build();
         } catch (IllegalArgumentException e) {
             logger.error("Invalid roll number: {}", rollNumber, e);
             return ResponseEntity.badRequest().body(null);
         }
     }
 
+    @GetMapping("/rolls")
+    public ResponseEntity<?> getStudentsByRollNumbers(@RequestParam List<Integer> rollNumbers) {
+        try {
+            return ResponseEntity.ok(MultiGetResponse.of(reportCardService.getStudentsByRollNumbers(rollNumbers)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @PostMapping("/rolls")
+    public ResponseEntity<?> getStudentsByRollNumbersFromBody(@RequestBody List<Integer> rollNumbers) {
+        return getStudentsByRollNumbers(rollNumbers);
+    }
+
+    @GetMapping("/roll/{rollNumber}/summary")
+    public ResponseEntity<StudentSummary> getStudentSummary(@PathVariable int rollNumber) {
+        try {
+            return ResponseEntity.of(reportCardService.getStudentSummary(rollNumber));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/summaries")
+    public ResponseEntity<?> getStudentSummaries(@RequestParam List<Integer> rollNumbers) {
+        try {
+            return ResponseEntity.ok(reportCardService.getStudentSummaries(rollNumbers));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/cohort/{cohort}/summary")
+    public ResponseEntity<?> getCohortSummaries(@PathVariable String cohort) {
+        try {
+            return ResponseEntity.ok(reportCardService.getCohortSummaries(cohort));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     @PutMapping("/roll/{rollNumber}/marks")
     public ResponseEntity<?> updateExamMarks(@PathVariable int rollNumber, @RequestBody UpdateMarkRequest request) {
         try {
             Student updatedStudent = reportCardService.updateExamMarks(rollNumber, request);
             return ResponseEntity.ok(updatedStudent);
+        } catch (ScoreValidationException e) {
+            return ResponseEntity.badRequest().body(e.getResult());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
         }
     }
 
+    @PutMapping("/roll/{rollNumber}/marks/batch")
+    public ResponseEntity<?> updateExamMarks(@PathVariable int rollNumber, @RequestBody List<UpdateMarkRequest> requests) {
+        try {
+            Student updatedStudent = reportCardService.updateExamMarks(rollNumber, requests);
+            return ResponseEntity.ok(updatedStudent);
+        } catch (ScoreValidationException e) {
+            return ResponseEntity.badRequest().body(e.getResult());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/cache/stats")
+    public ResponseEntity<CacheStatsResponse> getCacheStats() {
+        return ResponseEntity.ok(reportCardService.getCacheStats());
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<String> deleteStudent(@PathVariable String id) {
         try {
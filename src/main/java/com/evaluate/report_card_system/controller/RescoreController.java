@@ -0,0 +1,36 @@
+package com.evaluate.report_card_system.controller;
+
+import com.evaluate.report_card_system.response.RescoreProgress;
+import com.evaluate.report_card_system.service.RescoreService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/reportcard/rescore")
+public class RescoreController {
+
+    private final RescoreService rescoreService;
+
+    public RescoreController(RescoreService rescoreService) {
+        this.rescoreService = rescoreService;
+    }
+
+    @PostMapping
+    public ResponseEntity<?> startRescore(@RequestParam(required = false) String jobId) {
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(rescoreService.startRescore(jobId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<RescoreProgress> getProgress(@PathVariable String jobId) {
+        return rescoreService.getProgress(jobId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,96 @@
+package com.evaluate.report_card_system.controller;
+
+import com.evaluate.report_card_system.response.ScoreChangeEvent;
+import com.evaluate.report_card_system.service.ScoreChangeBus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Server-Sent Events feed of score changes, optionally narrowed to one roll number and/or one cohort. Each
+ * subscriber is served by its own virtual thread that drains its {@link ScoreChangeBus.Subscription}; the SSE
+ * id is the event's sequence number. A client reconnecting with a {@code Last-Event-ID} older than the latest
+ * event its filter matches first receives a {@code resync} event, since missed events are not kept.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/reportcard/events")
+public class ScoreEventController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScoreEventController.class);
+
+    private final ScoreChangeBus scoreChangeBus;
+    private final Duration heartbeat;
+    private final Duration timeout;
+
+    public ScoreEventController(ScoreChangeBus scoreChangeBus,
+                                @Value("${reportcard.events.heartbeat:15s}") Duration heartbeat,
+                                @Value("${reportcard.events.timeout:30m}") Duration timeout) {
+        this.scoreChangeBus = scoreChangeBus;
+        this.heartbeat = heartbeat;
+        this.timeout = timeout;
+    }
+
+    @GetMapping
+    public ResponseEntity<SseEmitter> subscribe(@RequestParam(required = false) Integer rollNumber,
+                                       @RequestParam(required = false) String cohort,
+                                       @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) throws IOException {
+        if ((rollNumber != null && rollNumber <= 0) || (cohort != null && cohort.isBlank())) {
+            logger.warn("Invalid score-change subscription: rollNumber={}, cohort={}", rollNumber, cohort);
+            return ResponseEntity.badRequest().build();
+        }
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        ScoreChangeBus.Subscription subscription = scoreChangeBus.subscribe(rollNumber, cohort);
+        long missedUpTo = scoreChangeBus.lastSequence(rollNumber, cohort);
+        if (lastEventId != null && lastEventId < missedUpTo) {
+            ScoreChangeEvent resync = ScoreChangeEvent.resync("Events after " + lastEventId + " were missed");
+            resync.setSequence(missedUpTo);
+            try {
+                send(emitter, resync);
+            } catch (IOException | RuntimeException e) {
+                subscription.close();
+                throw e;
+            }
+        }
+        Thread sender = Thread.ofVirtual().name("score-events").start(() -> pump(subscription, emitter));
+        emitter.onCompletion(() -> {
+            subscription.close();
+            sender.interrupt();
+        });
+        return ResponseEntity.ok(emitter);
+    }
+
+    private void pump(ScoreChangeBus.Subscription subscription, SseEmitter emitter) {
+        try (subscription) {
+            while (!Thread.currentThread().isInterrupted()) {
+                ScoreChangeEvent event = subscription.poll(heartbeat);
+                if (event == null) {
+                    emitter.send(SseEmitter.event().comment("keep-alive"));
+                } else {
+                    send(emitter, event);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException e) {
+            logger.debug("Score-change subscriber disconnected: {}", e.getMessage());
+            emitter.complete();
+        }
+    }
+
+    private static void send(SseEmitter emitter, ScoreChangeEvent event) throws IOException {
+        emitter.send(SseEmitter.event()
+                .id(Long.toString(event.getSequence()))
+                .name(event.getType().name().toLowerCase(Locale.ROOT))
+                .data(event, MediaType.APPLICATION_JSON));
+    }
+}
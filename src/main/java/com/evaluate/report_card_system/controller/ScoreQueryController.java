@@ -0,0 +1,43 @@
+package com.evaluate.report_card_system.controller;
+
+import com.evaluate.report_card_system.service.ReportCardService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/reportcard/scores")
+public class ScoreQueryController {
+
+    private final ReportCardService reportCardService;
+
+    public ScoreQueryController(ReportCardService reportCardService) {
+        this.reportCardService = reportCardService;
+    }
+
+    @GetMapping("/final")
+    public ResponseEntity<?> byFinalScore(@RequestParam(required = false) Double min,
+                                          @RequestParam(required = false) Double max,
+                                          @RequestParam(required = false) String cursor,
+                                          @RequestParam(defaultValue = "100") int limit) {
+        try {
+            return ResponseEntity.ok(reportCardService.getStudentsByFinalScore(min, max, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/term/{termName}")
+    public ResponseEntity<?> byTermScore(@PathVariable String termName,
+                                         @RequestParam(required = false) Double min,
+                                         @RequestParam(required = false) Double max,
+                                         @RequestParam(required = false) String cursor,
+                                         @RequestParam(defaultValue = "100") int limit) {
+        try {
+            return ResponseEntity.ok(reportCardService.getStudentsByTermScore(termName, min, max, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.evaluate.report_card_system.controller;
+
+import com.evaluate.report_card_system.service.SnapshotService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/reportcard/snapshot")
+public class SnapshotController {
+
+    private final SnapshotService snapshotService;
+
+    public SnapshotController(SnapshotService snapshotService) {
+        this.snapshotService = snapshotService;
+    }
+
+    @PostMapping("/{name}")
+    public ResponseEntity<?> export(@PathVariable String name) throws IOException {
+        try {
+            return ResponseEntity.ok(snapshotService.export(name));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @PostMapping("/{name}/load")
+    public ResponseEntity<?> load(@PathVariable String name) throws IOException {
+        try {
+            return ResponseEntity.ok(snapshotService.load(name));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+}
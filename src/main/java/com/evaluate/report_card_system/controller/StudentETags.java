@@ -0,0 +1,18 @@
+package com.evaluate.report_card_system.controller;
+
+import com.evaluate.report_card_system.model.Student;
+
+/**
+ * Entity tags for student documents. The {@code @Version} field is bumped by every save, so id and version
+ * together identify one state of a student. Weak, because a compressed and an uncompressed body of the same
+ * state carry the same tag.
+ */
+final class StudentETags {
+
+    private StudentETags() {
+    }
+
+    static String of(Student student) {
+        return "W/\"" + student.getId() + "-" + student.getVersion() + "\"";
+    }
+}
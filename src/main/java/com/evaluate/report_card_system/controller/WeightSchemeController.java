@@ -0,0 +1,44 @@
+package com.evaluate.report_card_system.controller;
+
+import com.evaluate.report_card_system.model.WeightScheme;
+import com.evaluate.report_card_system.service.WeightSchemeService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Set;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/reportcard/weights")
+public class WeightSchemeController {
+
+    private final WeightSchemeService weightSchemeService;
+
+    public WeightSchemeController(WeightSchemeService weightSchemeService) {
+        this.weightSchemeService = weightSchemeService;
+    }
+
+    @GetMapping
+    public ResponseEntity<Set<String>> getCurricula() {
+        return ResponseEntity.ok(weightSchemeService.getCurricula());
+    }
+
+    @PutMapping
+    public ResponseEntity<?> saveScheme(@RequestBody WeightScheme scheme) {
+        try {
+            return ResponseEntity.ok(weightSchemeService.saveScheme(scheme));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @PostMapping("/reload")
+    public ResponseEntity<?> reload() {
+        try {
+            return ResponseEntity.ok(weightSchemeService.reload());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.evaluate.report_card_system.exception;
+
+/**
+ * An {@code Idempotency-Key} sent again with a different request body. The first request's result stays
+ * stored; the new request is not executed.
+ */
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+    public IdempotencyKeyReusedException(String key) {
+        super("Idempotency-Key " + key + " was already used with a different request");
+    }
+}
@@ -0,0 +1,28 @@
+package com.evaluate.report_card_system.exception;
+
+/**
+ * A mark-sheet line that could not be parsed into a row. Carries the roll number when it could still be read
+ * from the line, so the import can reject that student as a whole. Expected input errors, so no stack trace
+ * is captured.
+ */
+public class MalformedRowException extends IllegalArgumentException {
+
+    private final Integer rollNumber;
+
+    public MalformedRowException(String message, Integer rollNumber) {
+        super(message);
+        this.rollNumber = rollNumber;
+    }
+
+    /**
+     * Roll number of the line, or {@code null} if it could not be read either.
+     */
+    public Integer getRollNumber() {
+        return rollNumber;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,76 @@
+package com.evaluate.report_card_system.exception;
+
+import com.evaluate.report_card_system.response.ValidationResult;
+import com.evaluate.report_card_system.response.Violation;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A student or mark update rejected by the scoring rules. It is still an {@link IllegalArgumentException},
+ * so callers keep reporting it as a bad request, but it also carries a fixed {@link Reason} that metrics
+ * can group by without parsing messages, and the full {@link ValidationResult} a 400 response returns.
+ * Rejections are expected input errors, so no stack trace is captured.
+ */
+public class ScoreValidationException extends IllegalArgumentException {
+
+    public enum Reason {
+        INVALID_ROLL_NUMBER,
+        DUPLICATE_ROLL_NUMBER,
+        MISSING_NAME,
+        MISSING_TERMS,
+        MISSING_TERM_NAME,
+        MISSING_EXAMS,
+        MISSING_EXAM_NAME,
+        EXAM_COUNT,
+        MISSING_MARKS,
+        NULL_MARK,
+        MARK_OUT_OF_RANGE,
+        UNKNOWN_CURRICULUM,
+        STUDENT_NOT_FOUND,
+        TERM_NOT_FOUND,
+        EXAM_NOT_FOUND;
+
+        /**
+         * Lower-case form used as a metric tag value and as {@link Violation#getCode()}.
+         */
+        public String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        public static Reason fromTag(String tag) {
+            return valueOf(tag.toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private final Reason reason;
+    private final ValidationResult result;
+
+    public ScoreValidationException(Reason reason, String message) {
+        super(message);
+        this.reason = reason;
+        this.result = ValidationResult.of(List.of(new Violation(null, reason.tag(), null, message)));
+    }
+
+    /**
+     * Rejects with every violation in {@code result}; the reason is that of the first one.
+     */
+    public ScoreValidationException(ValidationResult result) {
+        super(result.summary());
+        this.reason = Reason.fromTag(result.getViolations().get(0).getCode());
+        this.result = result;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+    public ValidationResult getResult() {
+        return result;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
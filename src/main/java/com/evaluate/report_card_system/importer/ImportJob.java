@@ -0,0 +1,143 @@
+package com.evaluate.report_card_system.importer;
+
+import com.evaluate.report_card_system.model.ImportCheckpoint;
+import com.evaluate.report_card_system.response.ImportProgress;
+import com.evaluate.report_card_system.response.StudentResult;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Live counters for one run of an import. Rows are counted by the parsing thread and batches by the
+ * writer, so everything here is safe to read from a progress request while the import is running.
+ */
+public class ImportJob {
+
+    private static final int MAX_ERROR_SAMPLES = 100;
+
+    private final String jobId;
+    private final long startedAtNanos = System.nanoTime();
+    private final long studentsCommittedBefore;
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong rowErrors = new AtomicLong();
+    private final AtomicLong studentsRead = new AtomicLong();
+    private final AtomicLong studentsSkipped = new AtomicLong();
+    private final AtomicLong studentsInserted;
+    private final AtomicLong studentsFailed;
+    private final AtomicLong batchesCommitted;
+    private final List<String> errors = new ArrayList<>();
+    private volatile String state = "RUNNING";
+    private volatile String failure;
+
+    public ImportJob(ImportCheckpoint checkpoint) {
+        this.jobId = checkpoint.getJobId();
+        this.studentsCommittedBefore = checkpoint.getStudentsCommitted();
+        this.studentsInserted = new AtomicLong(checkpoint.getStudentsInserted());
+        this.studentsFailed = new AtomicLong(checkpoint.getStudentsFailed());
+        this.batchesCommitted = new AtomicLong(checkpoint.getBatchesCommitted());
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void rowRead() {
+        rowsRead.incrementAndGet();
+    }
+
+    public void rowError(String message) {
+        rowErrors.incrementAndGet();
+        addError(message);
+    }
+
+    public void studentRead() {
+        studentsRead.incrementAndGet();
+    }
+
+    public void studentSkipped() {
+        studentsSkipped.incrementAndGet();
+    }
+
+    public void batchCommitted(List<StudentResult> results) {
+        for (StudentResult result : results) {
+            if (result.isSuccess()) {
+                studentsInserted.incrementAndGet();
+            } else {
+                studentsFailed.incrementAndGet();
+                addError("Roll number " + result.getRollNumber() + ": " + result.getError());
+            }
+        }
+        batchesCommitted.incrementAndGet();
+    }
+
+    public void finish(String state, String error) {
+        this.state = state;
+        if (error != null) {
+            addError(error);
+        }
+        if ("FAILED".equals(state)) {
+            failure = error;
+        }
+    }
+
+    /**
+     * Checkpoint covering every batch committed so far; a resumed run skips this many students.
+     */
+    public ImportCheckpoint checkpoint() {
+        ImportCheckpoint checkpoint = new ImportCheckpoint();
+        checkpoint.setJobId(jobId);
+        checkpoint.setStudentsInserted(studentsInserted.get());
+        checkpoint.setStudentsFailed(studentsFailed.get());
+        checkpoint.setStudentsCommitted(studentsInserted.get() + studentsFailed.get());
+        checkpoint.setBatchesCommitted(batchesCommitted.get());
+        checkpoint.setCompleted("COMPLETED".equals(state));
+        checkpoint.setFailure(failure);
+        checkpoint.setUpdatedAt(Instant.now());
+        return checkpoint;
+    }
+
+    public ImportProgress toProgress() {
+        ImportProgress progress = new ImportProgress();
+        progress.setJobId(jobId);
+        progress.setState(state);
+        progress.setRowsRead(rowsRead.get());
+        progress.setRowErrors(rowErrors.get());
+        progress.setStudentsRead(studentsRead.get());
+        progress.setStudentsSkipped(studentsSkipped.get());
+        progress.setStudentsInserted(studentsInserted.get());
+        progress.setStudentsFailed(studentsFailed.get());
+        progress.setBatchesCommitted(batchesCommitted.get());
+        long elapsedMillis = (System.nanoTime() - startedAtNanos) / 1_000_000;
+        progress.setElapsedMillis(elapsedMillis);
+        double seconds = Math.max(elapsedMillis, 1) / 1000.0;
+        progress.setRowsPerSecond(rowsRead.get() / seconds);
+        long committedThisRun = studentsInserted.get() + studentsFailed.get() - studentsCommittedBefore;
+        progress.setStudentsPerSecond(committedThisRun / seconds);
+        synchronized (errors) {
+            progress.setErrors(List.copyOf(errors));
+        }
+        return progress;
+    }
+
+    public static ImportProgress fromCheckpoint(ImportCheckpoint checkpoint) {
+        ImportJob job = new ImportJob(checkpoint);
+        job.state = checkpoint.isCompleted() ? "COMPLETED" : checkpoint.getFailure() != null ? "FAILED" : "INTERRUPTED";
+        if (checkpoint.getFailure() != null) {
+            job.addError(checkpoint.getFailure());
+        }
+        ImportProgress progress = job.toProgress();
+        progress.setElapsedMillis(0);
+        progress.setStudentsPerSecond(0);
+        return progress;
+    }
+
+    private void addError(String message) {
+        synchronized (errors) {
+            if (errors.size() < MAX_ERROR_SAMPLES) {
+                errors.add(message);
+            }
+        }
+    }
+}
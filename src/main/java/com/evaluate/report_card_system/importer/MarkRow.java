@@ -0,0 +1,9 @@
+package com.evaluate.report_card_system.importer;
+
+/**
+ * One line of a mark-sheet export: the mark a student scored in one subject of one exam. The cohort is
+ * optional and taken from the first row of each student.
+ */
+public record MarkRow(Integer rollNumber, String name, String termName, String examName, String subject, Double mark,
+                      String cohort) {
+}
@@ -0,0 +1,195 @@
+package com.evaluate.report_card_system.importer;
+
+import com.evaluate.report_card_system.exception.MalformedRowException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reads {@link MarkRow}s one line at a time from a CSV (with header) or NDJSON export. A malformed line
+ * is reported with a {@link MalformedRowException}, carrying its roll number if that much could be read,
+ * and skipped; the next call continues after it.
+ */
+public abstract class MarkRowReader {
+
+    private final BufferedReader reader;
+    private long lineNumber;
+
+    private MarkRowReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    public static MarkRowReader csv(BufferedReader reader) throws IOException {
+        return new CsvReader(reader);
+    }
+
+    public static MarkRowReader ndjson(BufferedReader reader, ObjectMapper objectMapper) {
+        return new NdjsonReader(reader, objectMapper);
+    }
+
+    public static MarkRowReader of(String format, BufferedReader reader, ObjectMapper objectMapper) throws IOException {
+        return switch (format.toLowerCase(Locale.ROOT)) {
+            case "csv" -> csv(reader);
+            case "ndjson" -> ndjson(reader, objectMapper);
+            default -> throw new IllegalArgumentException("Unsupported import format: " + format);
+        };
+    }
+
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Returns the next row, or {@code null} at the end of input.
+     */
+    public MarkRow next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+        try {
+            return parse(line);
+        } catch (IllegalArgumentException e) {
+            throw new MalformedRowException("Line " + lineNumber + ": " + e.getMessage(), rollNumberOf(line));
+        }
+    }
+
+    String readHeader() throws IOException {
+        String header = reader.readLine();
+        lineNumber++;
+        if (header == null) {
+            throw new IllegalArgumentException("CSV header is required");
+        }
+        return header;
+    }
+
+    abstract MarkRow parse(String line);
+
+    /**
+     * Best-effort roll number of a line that failed to parse, or {@code null}.
+     */
+    abstract Integer rollNumberOf(String line);
+
+    private static final class NdjsonReader extends MarkRowReader {
+        private final ObjectMapper objectMapper;
+
+        private NdjsonReader(BufferedReader reader, ObjectMapper objectMapper) {
+            super(reader);
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        MarkRow parse(String line) {
+            try {
+                return objectMapper.readValue(line, MarkRow.class);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("malformed JSON row");
+            }
+        }
+
+        @Override
+        Integer rollNumberOf(String line) {
+            try {
+                JsonNode rollNumber = objectMapper.readTree(line).path("rollNumber");
+                return rollNumber.canConvertToInt() ? rollNumber.intValue() : null;
+            } catch (JsonProcessingException e) {
+                return null;
+            }
+        }
+    }
+
+    private static final class CsvReader extends MarkRowReader {
+        private static final List<String> COLUMNS = List.of("rollnumber", "name", "termname", "examname", "subject", "mark", "cohort");
+        private static final int OPTIONAL_COHORT = 6;
+        private final int[] columnIndexes = new int[COLUMNS.size()];
+
+        private CsvReader(BufferedReader reader) throws IOException {
+            super(reader);
+            List<String> header = split(readHeader());
+            for (int c = 0; c < COLUMNS.size(); c++) {
+                columnIndexes[c] = -1;
+                for (int h = 0; h < header.size(); h++) {
+                    if (header.get(h).trim().toLowerCase(Locale.ROOT).equals(COLUMNS.get(c))) {
+                        columnIndexes[c] = h;
+                    }
+                }
+                if (columnIndexes[c] < 0 && c != OPTIONAL_COHORT) {
+                    throw new IllegalArgumentException("CSV header is missing column " + COLUMNS.get(c));
+                }
+            }
+        }
+
+        @Override
+        MarkRow parse(String line) {
+            List<String> fields = split(line);
+            try {
+                String mark = field(fields, 5);
+                return new MarkRow(
+                        Integer.valueOf(field(fields, 0)),
+                        field(fields, 1),
+                        field(fields, 2),
+                        field(fields, 3),
+                        field(fields, 4),
+                        mark.isEmpty() ? null : Double.valueOf(mark),
+                        columnIndexes[OPTIONAL_COHORT] < 0 ? null : field(fields, OPTIONAL_COHORT));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("invalid number " + e.getMessage());
+            }
+        }
+
+        @Override
+        Integer rollNumberOf(String line) {
+            try {
+                return Integer.valueOf(field(split(line), 0));
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+
+        private String field(List<String> fields, int column) {
+            int index = columnIndexes[column];
+            if (index >= fields.size()) {
+                throw new IllegalArgumentException("expected " + (index + 1) + " fields but found " + fields.size());
+            }
+            return fields.get(index).trim();
+        }
+
+        private static List<String> split(String line) {
+            List<String> fields = new ArrayList<>();
+            StringBuilder current = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        current.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(current.toString());
+                    current.setLength(0);
+                } else {
+                    current.append(c);
+                }
+            }
+            fields.add(current.toString());
+            return fields;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.evaluate.report_card_system.importer;
+
+import com.evaluate.report_card_system.model.Exam;
+import com.evaluate.report_card_system.model.ScoreMap;
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.model.Term;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Folds consecutive rows of the same roll number into one {@link Student}. Exports are expected to be
+ * grouped by student; terms and exams keep the order in which they first appear, since exam weights
+ * are positional. Only the student currently being assembled is held in memory.
+ * <p>
+ * A student with any rejected row is returned with that rejection rather than scored from its remaining
+ * rows, since a missing mark would silently change its score. A rejected row whose roll number could not
+ * be read is charged to the student being assembled, or to the next one if none is.
+ */
+public class StudentAssembler {
+
+    private Integer rollNumber;
+    private String name;
+    private String cohort;
+    private Map<String, Map<String, Exam>> terms;
+    private String rejection;
+    private String pendingRejection;
+
+    /**
+     * A finished student, with the first row error that rejects it as a whole, or {@code null}.
+     */
+    public record AssembledStudent(Student student, String rejection) {
+    }
+
+    /**
+     * Adds a row and returns the previous student if this row starts a new one, otherwise {@code null}.
+     */
+    public AssembledStudent accept(MarkRow row) {
+        AssembledStudent completed = startIfNew(row.rollNumber());
+        if (terms.isEmpty()) {
+            name = row.name();
+            cohort = row.cohort();
+        }
+        Exam exam = terms.computeIfAbsent(row.termName(), t -> new LinkedHashMap<>())
+                .computeIfAbsent(row.examName(), e -> {
+                    Exam created = new Exam();
+                    created.setExamName(e);
+                    created.setSubjectMarks(new ScoreMap());
+                    return created;
+                });
+        exam.getSubjectMarks().put(row.subject(), row.mark());
+        return completed;
+    }
+
+    /**
+     * Records a row that could not be parsed; like {@link #accept(MarkRow)}, returns the previous student if
+     * the row's roll number starts a new one.
+     */
+    public AssembledStudent reject(Integer rowRollNumber, String error) {
+        if (rowRollNumber == null && terms == null) {
+            if (pendingRejection == null) {
+                pendingRejection = error;
+            }
+            return null;
+        }
+        AssembledStudent completed = rowRollNumber == null ? null : startIfNew(rowRollNumber);
+        if (rejection == null) {
+            rejection = error;
+        }
+        return completed;
+    }
+
+    /**
+     * Returns the student being assembled, if any, and resets the assembler.
+     */
+    public AssembledStudent finish() {
+        if (terms == null) {
+            return null;
+        }
+        Student student = new Student();
+        student.setRollNumber(rollNumber);
+        student.setName(name);
+        student.setCohort(cohort);
+        student.setTerms(new ArrayList<>(terms.size()));
+        terms.forEach((termName, exams) -> {
+            Term term = new Term();
+            term.setTermName(termName);
+            term.setExams(new ArrayList<>(exams.values()));
+            student.getTerms().add(term);
+        });
+        AssembledStudent assembled = new AssembledStudent(student, rejection);
+        rollNumber = null;
+        name = null;
+        cohort = null;
+        terms = null;
+        rejection = null;
+        return assembled;
+    }
+
+    private AssembledStudent startIfNew(Integer rowRollNumber) {
+        AssembledStudent completed = null;
+        if (terms != null && !Objects.equals(rollNumber, rowRollNumber)) {
+            completed = finish();
+        }
+        if (terms == null) {
+            rollNumber = rowRollNumber;
+            terms = new LinkedHashMap<>();
+            rejection = pendingRejection;
+            pendingRejection = null;
+        }
+        return completed;
+    }
+}
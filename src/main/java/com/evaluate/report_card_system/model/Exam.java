@@ -1,7 +1,7 @@
 package com.evaluate.report_card_system.model;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import jakarta.validation.constraints.NotEmpty;
-import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 
 import java.util.Map;
@@ -12,6 +12,16 @@ public class Exam {
     private String examName;
 
     @NotEmpty(message = "Subject marks are required")
-    private Map<String, Double> subjectMarks;
-    private Map<String, Double> weightedScores;
+    private ScoreMap subjectMarks;
+    private ScoreMap weightedScores;
+
+    @JsonDeserialize(as = ScoreMap.class)
+    public void setSubjectMarks(Map<String, Double> subjectMarks) {
+        this.subjectMarks = ScoreMap.copyOf(subjectMarks);
+    }
+
+    @JsonDeserialize(as = ScoreMap.class)
+    public void setWeightedScores(Map<String, Double> weightedScores) {
+        this.weightedScores = ScoreMap.copyOf(weightedScores);
+    }
 }
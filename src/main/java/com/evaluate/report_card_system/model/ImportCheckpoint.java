@@ -0,0 +1,22 @@
+package com.evaluate.report_card_system.model;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+@Data
+@Document(collection = "import_checkpoints")
+public class ImportCheckpoint {
+    @Id
+    private String jobId;
+
+    private long studentsCommitted;
+    private long studentsInserted;
+    private long studentsFailed;
+    private long batchesCommitted;
+    private boolean completed;
+    private String failure;
+    private Instant updatedAt;
+}
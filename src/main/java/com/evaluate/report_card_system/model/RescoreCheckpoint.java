@@ -0,0 +1,24 @@
+package com.evaluate.report_card_system.model;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+@Data
+@Document(collection = "rescore_checkpoints")
+public class RescoreCheckpoint {
+    @Id
+    private String jobId;
+
+    private String lastId;
+    private long studentsScanned;
+    private long studentsRescored;
+    private long studentsUnchanged;
+    private long studentsFailed;
+    private long conflicts;
+    private long batchesCommitted;
+    private boolean completed;
+    private Instant updatedAt;
+}
@@ -0,0 +1,329 @@
+package com.evaluate.report_card_system.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Subject name to mark map stored as a {@code double[]} indexed by {@link SubjectDictionary} id, with a
+ * bitmap of which subjects are present. A present subject whose mark is {@code null} holds {@code NaN}.
+ * Only names the dictionary already knows from the weight schemes get a slot; any other name from a request
+ * or a stored document is kept in a small per-instance map ({@link #unknownMarks()}), so untrusted input never
+ * grows the dictionary and each map is sized by its own content. Scoring reads marks through
+ * {@link #getMark(int)} without boxing; the {@link Map} view and the JSON and Mongo mappings keep the same
+ * {@code {"Physics": 78.0}} shape as before. Not thread-safe.
+ */
+@JsonSerialize(using = ScoreMap.Serializer.class)
+@JsonDeserialize(using = ScoreMap.Deserializer.class)
+public class ScoreMap extends AbstractMap<String, Double> {
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private double[] marks;
+    private long[] present;
+    private int size;
+    private Map<String, Double> unknown;
+
+    public ScoreMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ScoreMap(int capacity) {
+        marks = new double[Math.max(capacity, 1)];
+        present = new long[(marks.length + 63) >>> 6];
+    }
+
+    /**
+     * Returns {@code source} itself if it already is a {@code ScoreMap}, otherwise a copy of it.
+     */
+    public static ScoreMap copyOf(Map<String, Double> source) {
+        if (source == null || source instanceof ScoreMap) {
+            return (ScoreMap) source;
+        }
+        ScoreMap copy = new ScoreMap();
+        copy.putAll(source);
+        return copy;
+    }
+
+    /**
+     * An independent copy of this map.
+     */
+    public ScoreMap copy() {
+        ScoreMap copy = new ScoreMap(marks.length);
+        forEachMark(copy::putMark);
+        if (unknown != null) {
+            copy.unknown = new LinkedHashMap<>(unknown);
+        }
+        return copy;
+    }
+
+    public boolean containsId(int id) {
+        return id >= 0 && id < marks.length && (present[id >>> 6] & (1L << id)) != 0;
+    }
+
+    /**
+     * Mark for a subject id, or {@code NaN} if the subject is absent or its mark is {@code null}.
+     */
+    public double getMark(int id) {
+        return containsId(id) ? marks[id] : Double.NaN;
+    }
+
+    public void putMark(int id, double mark) {
+        if (id >= marks.length) {
+            int capacity = Math.max(id + 1, marks.length * 2);
+            marks = Arrays.copyOf(marks, capacity);
+            present = Arrays.copyOf(present, (capacity + 63) >>> 6);
+        }
+        if (!containsId(id)) {
+            present[id >>> 6] |= 1L << id;
+            size++;
+        }
+        marks[id] = mark;
+    }
+
+    /**
+     * Smallest present subject id that is {@code >= from}, or -1; lets callers walk the marks without
+     * allocating an iterator or a capturing lambda.
+     */
+    public int nextId(int from) {
+        int word = from >>> 6;
+        if (from < 0 || word >= present.length) {
+            return -1;
+        }
+        long bits = present[word] & (-1L << from);
+        while (true) {
+            if (bits != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(bits);
+            }
+            if (++word == present.length) {
+                return -1;
+            }
+            bits = present[word];
+        }
+    }
+
+    /**
+     * Marks whose subject is not in the {@link SubjectDictionary}, by name; a read-only view.
+     */
+    public Map<String, Double> unknownMarks() {
+        return unknown == null ? Map.of() : Collections.unmodifiableMap(unknown);
+    }
+
+    /**
+     * Visits every present dictionary subject in id order; {@code null} marks are passed as {@code NaN}.
+     * Subjects outside the dictionary are in {@link #unknownMarks()}.
+     */
+    public void forEachMark(MarkConsumer consumer) {
+        for (int word = 0; word < present.length; word++) {
+            long bits = present[word];
+            while (bits != 0) {
+                int id = (word << 6) + Long.numberOfTrailingZeros(bits);
+                consumer.accept(id, marks[id]);
+                bits &= bits - 1;
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface MarkConsumer {
+        void accept(int subjectId, double mark);
+    }
+
+    @Override
+    public int size() {
+        return unknown == null ? size : size + unknown.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String name
+                && (containsId(SubjectDictionary.lookup(name)) || unknown != null && unknown.containsKey(name));
+    }
+
+    @Override
+    public Double get(Object key) {
+        if (!(key instanceof String name)) {
+            return null;
+        }
+        int id = SubjectDictionary.lookup(name);
+        if (containsId(id)) {
+            return boxed(marks[id]);
+        }
+        return unknown == null ? null : unknown.get(name);
+    }
+
+    /**
+     * A name the dictionary does not know is stored by name; one interned after it was stored here (a weight
+     * scheme loaded later) moves to its slot on the next put.
+     */
+    @Override
+    public Double put(String key, Double value) {
+        if (key == null) {
+            throw new IllegalArgumentException("Subject name is required");
+        }
+        int id = SubjectDictionary.lookup(key);
+        if (id < 0) {
+            if (unknown == null) {
+                unknown = new LinkedHashMap<>(4);
+            }
+            return unknown.put(key, value);
+        }
+        Double previous = containsId(id) ? boxed(marks[id]) : unknown == null ? null : unknown.remove(key);
+        putMark(id, value == null ? Double.NaN : value);
+        return previous;
+    }
+
+    @Override
+    public Double remove(Object key) {
+        if (!(key instanceof String name)) {
+            return null;
+        }
+        int id = SubjectDictionary.lookup(name);
+        if (!containsId(id)) {
+            return unknown == null ? null : unknown.remove(name);
+        }
+        Double previous = boxed(marks[id]);
+        present[id >>> 6] &= ~(1L << id);
+        size--;
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(present, 0L);
+        size = 0;
+        unknown = null;
+    }
+
+    @Override
+    public Set<Entry<String, Double>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Double>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return ScoreMap.this.size();
+            }
+        };
+    }
+
+    private static Double boxed(double mark) {
+        return Double.isNaN(mark) ? null : mark;
+    }
+
+    /**
+     * Dictionary subjects in id order, then unknown subjects in insertion order.
+     */
+    private final class EntryIterator implements Iterator<Entry<String, Double>> {
+        private int next = nextId(0);
+        private int last = -1;
+        private boolean lastUnknown;
+        private Iterator<Entry<String, Double>> unknownEntries;
+
+        @Override
+        public boolean hasNext() {
+            return next >= 0 || unknownEntries().hasNext();
+        }
+
+        @Override
+        public Entry<String, Double> next() {
+            if (next < 0) {
+                if (!unknownEntries().hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                last = -1;
+                lastUnknown = true;
+                return new SimpleImmutableEntry<>(unknownEntries.next());
+            }
+            last = next;
+            next = nextId(next + 1);
+            return new SimpleImmutableEntry<>(SubjectDictionary.nameOf(last), boxed(marks[last]));
+        }
+
+        @Override
+        public void remove() {
+            if (lastUnknown) {
+                unknownEntries.remove();
+                lastUnknown = false;
+                return;
+            }
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            ScoreMap.this.remove(SubjectDictionary.nameOf(last));
+            last = -1;
+        }
+
+        private Iterator<Entry<String, Double>> unknownEntries() {
+            if (unknownEntries == null) {
+                unknownEntries = unknown == null ? Collections.emptyIterator() : unknown.entrySet().iterator();
+            }
+            return unknownEntries;
+        }
+    }
+
+    public static class Serializer extends JsonSerializer<ScoreMap> {
+        @Override
+        public void serialize(ScoreMap value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeStartObject(value);
+            for (int id = value.nextId(0); id >= 0; id = value.nextId(id + 1)) {
+                gen.writeFieldName(SubjectDictionary.nameOf(id));
+                double mark = value.marks[id];
+                if (Double.isNaN(mark)) {
+                    gen.writeNull();
+                } else {
+                    gen.writeNumber(mark);
+                }
+            }
+            for (Map.Entry<String, Double> entry : value.unknownMarks().entrySet()) {
+                gen.writeFieldName(entry.getKey());
+                if (entry.getValue() == null) {
+                    gen.writeNull();
+                } else {
+                    gen.writeNumber(entry.getValue());
+                }
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    public static class Deserializer extends JsonDeserializer<ScoreMap> {
+        @Override
+        public ScoreMap deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (!p.isExpectedStartObjectToken()) {
+                return (ScoreMap) ctxt.handleUnexpectedToken(ScoreMap.class, p);
+            }
+            ScoreMap map = new ScoreMap();
+            for (String name = p.nextFieldName(); name != null; name = p.nextFieldName()) {
+                JsonToken token = p.nextToken();
+                int id = SubjectDictionary.lookup(name);
+                if (id >= 0 && (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT)) {
+                    map.putMark(id, p.getDoubleValue());
+                } else {
+                    map.put(name, ctxt.readValue(p, Double.class));
+                }
+            }
+            return map;
+        }
+    }
+}
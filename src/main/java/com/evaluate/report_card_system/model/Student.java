@@ -5,6 +5,8 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -12,10 +14,15 @@ import java.util.List;
 
 @Data
 @Document(collection = "students")
+@CompoundIndex(name = "finalScore_id", def = "{ 'finalScore': 1, '_id': 1 }")
+@CompoundIndex(name = "termName_termScore", def = "{ 'terms.termName': 1, 'terms.termScore': 1 }")
 public class Student {
     @Id
     private String id;
 
+    @Version
+    private Long version;
+
     @Indexed(unique = true)
     @NotNull(message = "Roll number is required")
     private Integer rollNumber;
@@ -23,6 +30,19 @@ public class Student {
     @NotBlank(message = "Name is required")
     private String name;
 
+    private String curriculum;
+
+    @Indexed
+    private String cohort;
+
     @NotNull(message = "Terms are required")
     private List<Term> terms;
+
+    private Double finalScore;
+
+    /**
+     * {@link com.evaluate.report_card_system.service.CompiledWeightScheme#getVersion() Version} of the
+     * weighting scheme the stored scores were computed with.
+     */
+    private String schemeVersion;
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+package com.evaluate.report_card_system.model;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide dictionary that interns subject and score names into small dense ids, so that marks can be
+ * stored in arrays indexed by id (see {@link ScoreMap}). Only the weight schemes register names, so the
+ * dictionary holds the configured subjects and nothing a client sends; request and stored data only look
+ * names up. Ids are never reused or removed. Lookups are lock-free; only registering a new name takes the
+ * lock, which happens once per distinct name.
+ */
+public final class SubjectDictionary {
+
+    static final int MAX_NAMES = 4096;
+
+    private static final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private static volatile String[] names = new String[32];
+    private static volatile int count;
+
+    private SubjectDictionary() {
+    }
+
+    /**
+     * Returns the id of {@code name}, or -1 if it has never been interned.
+     */
+    public static int lookup(String name) {
+        Integer id = ids.get(name);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Returns the id of {@code name}, registering it if needed. For names from configuration only; never
+     * call it with names taken from requests or documents.
+     */
+    public static int intern(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("Subject name is required");
+        }
+        Integer id = ids.get(name);
+        return id != null ? id : register(name);
+    }
+
+    public static String nameOf(int id) {
+        return names[id];
+    }
+
+    public static int size() {
+        return count;
+    }
+
+    private static synchronized int register(String name) {
+        Integer existing = ids.get(name);
+        if (existing != null) {
+            return existing;
+        }
+        int id = count;
+        if (id == MAX_NAMES) {
+            throw new IllegalArgumentException("Too many distinct subject names (limit " + MAX_NAMES + ")");
+        }
+        String[] current = names;
+        if (id == current.length) {
+            current = Arrays.copyOf(current, current.length * 2);
+        }
+        current[id] = name;
+        names = current;
+        count = id + 1;
+        ids.put(name, id);
+        return id;
+    }
+}
@@ -0,0 +1,21 @@
+package com.evaluate.report_card_system.model;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Document(collection = "weight_schemes")
+public class WeightScheme {
+    @Id
+    private String curriculum;
+
+    private String scoreName = "Science";
+    private Map<String, Double> subjectWeights = new LinkedHashMap<>();
+    private List<Double> examWeights = new ArrayList<>();
+}
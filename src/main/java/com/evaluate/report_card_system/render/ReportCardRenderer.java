@@ -0,0 +1,106 @@
+package com.evaluate.report_card_system.render;
+
+import com.evaluate.report_card_system.model.Exam;
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.model.Term;
+import com.openhtmltopdf.pdfboxout.PdfRendererBuilder;
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Renders one student's report card as XHTML or PDF. The Mustache template is parsed and compiled once
+ * when the renderer is created; {@link Template} is immutable, so every thread renders from the same
+ * instance. PDF output lays the same XHTML out with openhtmltopdf. Both methods are thread-safe.
+ */
+@Component
+public class ReportCardRenderer {
+
+    static final String TEMPLATE = "templates/report-card.mustache";
+
+    private final Template template;
+
+    public ReportCardRenderer(Mustache.Compiler compiler) {
+        try (Reader reader = new InputStreamReader(new ClassPathResource(TEMPLATE).getInputStream(), StandardCharsets.UTF_8)) {
+            this.template = compiler.emptyStringIsFalse(true).nullValue("").compile(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot load report card template " + TEMPLATE, e);
+        }
+    }
+
+    public void render(Student student, ReportFormat format, OutputStream out) throws IOException {
+        String html = renderHtml(student);
+        if (format == ReportFormat.HTML) {
+            out.write(html.getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        PdfRendererBuilder builder = new PdfRendererBuilder();
+        builder.useFastMode();
+        builder.withHtmlContent(html, null);
+        builder.toStream(out);
+        builder.run();
+    }
+
+    public String renderHtml(Student student) {
+        return template.execute(view(student));
+    }
+
+    private static ReportCardView view(Student student) {
+        List<TermView> terms = new ArrayList<>();
+        if (student.getTerms() != null) {
+            for (Term term : student.getTerms()) {
+                terms.add(termView(term));
+            }
+        }
+        return new ReportCardView(student.getName(), String.valueOf(student.getRollNumber()), student.getCohort(),
+                student.getCurriculum(), terms, format(student.getFinalScore()));
+    }
+
+    private static TermView termView(Term term) {
+        List<Exam> exams = term.getExams() == null ? List.of() : term.getExams();
+        Set<String> subjects = new LinkedHashSet<>();
+        for (Exam exam : exams) {
+            if (exam.getSubjectMarks() != null) {
+                subjects.addAll(exam.getSubjectMarks().keySet());
+            }
+        }
+        List<ExamView> rows = new ArrayList<>(exams.size());
+        for (Exam exam : exams) {
+            Map<String, Double> marks = exam.getSubjectMarks() == null ? Map.of() : exam.getSubjectMarks();
+            List<String> cells = new ArrayList<>(subjects.size());
+            for (String subject : subjects) {
+                cells.add(format(marks.get(subject)));
+            }
+            rows.add(new ExamView(exam.getExamName(), cells));
+        }
+        return new TermView(term.getTermName(), List.copyOf(subjects), rows, format(term.getTermScore()));
+    }
+
+    private static String format(Double value) {
+        return value == null || value.isNaN() ? "-" : String.format(Locale.ROOT, "%.2f", value);
+    }
+
+    record ReportCardView(String name, String rollNumber, String cohort, String curriculum,
+                          List<TermView> terms, String finalScore) {
+    }
+
+    record TermView(String termName, List<String> subjects, List<ExamView> exams, String termScore) {
+    }
+
+    record ExamView(String examName, List<String> marks) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.evaluate.report_card_system.render;
+
+import java.util.Locale;
+
+public enum ReportFormat {
+    HTML("html", "text/html"),
+    PDF("pdf", "application/pdf");
+
+    private final String extension;
+    private final String contentType;
+
+    ReportFormat(String extension, String contentType) {
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public static ReportFormat parse(String value) {
+        if (value == null || value.isBlank()) {
+            return PDF;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported report format: " + value + " (expected html or pdf)");
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.evaluate.report_card_system.repository;
+
+import java.util.Map;
+
+/**
+ * Marks changed in one exam of one term, with the exam's recomputed weighted score.
+ */
+public record ExamMarksUpdate(String termName, String examName, Map<String, Double> subjectMarks,
+                              String scoreName, double examScore) {
+}
@@ -0,0 +1,30 @@
+package com.evaluate.report_card_system.repository;
+
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.response.StudentSummary;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * Non-blocking counterpart of {@link StudentRepository} used by the reactive profile.
+ */
+public interface ReactiveStudentRepository extends ReactiveMongoRepository<Student, String> {
+    Mono<Student> findByRollNumber(Integer rollNumber);
+
+    @Query(value = "{ 'rollNumber': ?0 }", fields = "{ 'rollNumber': 1, 'version': 1 }")
+    Mono<Student> findVersionByRollNumber(Integer rollNumber);
+
+    @Query(value = "{ 'rollNumber': ?0 }", fields = StudentSummary.FIELDS)
+    Mono<StudentSummary> findSummaryByRollNumber(Integer rollNumber);
+
+    @Query(value = "{ 'cohort': ?0 }", fields = StudentSummary.FIELDS, sort = "{ 'rollNumber': 1 }")
+    Flux<StudentSummary> findSummariesByCohort(String cohort);
+
+    Flux<Student> findByRollNumberIn(Collection<Integer> rollNumbers);
+
+    Flux<Student> findByCohort(String cohort);
+}
@@ -0,0 +1,7 @@
+package com.evaluate.report_card_system.repository;
+
+import com.evaluate.report_card_system.model.RescoreCheckpoint;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface RescoreCheckpointRepository extends MongoRepository<RescoreCheckpoint, String> {
+}
@@ -0,0 +1,30 @@
+package com.evaluate.report_card_system.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of the last student on a page of a score-range query: its score (absent when the listing is in
+ * id order) and its id. Handed to clients as an opaque token and resumed with a seek, not a skip.
+ */
+public record ScoreCursor(Double score, String id) {
+
+    public String encode() {
+        String raw = (score == null ? "" : Double.toString(score)) + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ScoreCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            String id = raw.substring(separator + 1);
+            if (separator < 0 || id.isEmpty()) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new ScoreCursor(separator == 0 ? null : Double.valueOf(raw.substring(0, separator)), id);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.evaluate.report_card_system.repository;
+
+import com.evaluate.report_card_system.model.Student;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the indexes declared on {@link Student} at startup. Spring Boot leaves automatic index creation
+ * off, and the service depends on these: the unique {@code rollNumber} index is the only duplicate check of
+ * {@code generateReportCard}, and the score indexes serve the score-range queries. A unique index that cannot
+ * be ensured fails startup, since inserts would otherwise accept duplicates silently; the other indexes only
+ * cost speed when missing, so their failure is logged. Creating an index that already exists is a no-op.
+ */
+@Component
+@Profile("!embedded")
+public class StudentIndexInitializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(StudentIndexInitializer.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean createOnStartup;
+
+    public StudentIndexInitializer(MongoTemplate mongoTemplate,
+                                   @Value("${reportcard.indexes.create-on-startup:true}") boolean createOnStartup) {
+        this.mongoTemplate = mongoTemplate;
+        this.createOnStartup = createOnStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createOnStartup() {
+        if (createOnStartup) {
+            createIndexes();
+        }
+    }
+
+    public void createIndexes() {
+        IndexOperations indexOps = mongoTemplate.indexOps(Student.class);
+        for (IndexDefinition index : new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext())
+                .resolveIndexFor(Student.class)) {
+            String keys = index.getIndexKeys().toJson();
+            try {
+                indexOps.ensureIndex(index);
+                logger.info("Ensured index {} on students", keys);
+            } catch (RuntimeException e) {
+                if (index.getIndexOptions().getBoolean("unique", false)) {
+                    throw new IllegalStateException("Cannot ensure unique index " + keys + " on students", e);
+                }
+                logger.warn("Could not create index {} on students: {}", keys, e.getMessage());
+            }
+        }
+    }
+}
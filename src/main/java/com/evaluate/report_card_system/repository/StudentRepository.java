@@ -1,10 +1,42 @@
 package com.evaluate.report_card_system.repository;
 
 import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.response.StudentSummary;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface StudentRepository extends MongoRepository<Student, String> {
+public interface StudentRepository extends MongoRepository<Student, String>, StudentRepositoryCustom {
     Optional<Student> findByRollNumber(Integer rollNumber);
-}
\ No newline at end of file
+
+    @Query(value = "{ 'rollNumber': ?0 }", fields = "{ 'rollNumber': 1, 'version': 1 }")
+    Optional<Student> findVersionByRollNumber(Integer rollNumber);
+
+    List<Student> findByRollNumberIn(Collection<Integer> rollNumbers);
+
+    @Query(value = "{ 'rollNumber': ?0 }", fields = StudentSummary.FIELDS)
+    Optional<StudentSummary> findSummaryByRollNumber(Integer rollNumber);
+
+    @Query(value = "{ 'rollNumber': { $in: ?0 } }", fields = StudentSummary.FIELDS)
+    List<StudentSummary> findSummariesByRollNumberIn(Collection<Integer> rollNumbers);
+
+    @Query(value = "{ 'cohort': ?0 }", fields = StudentSummary.FIELDS, sort = "{ 'rollNumber': 1 }")
+    List<StudentSummary> findSummariesByCohort(String cohort);
+
+    @Query(value = "{ 'rollNumber': { $in: ?0 } }", fields = "{ 'rollNumber': 1 }")
+    List<Student> findRollNumbersIn(Collection<Integer> rollNumbers);
+
+    @Query(value = "{ '_id': { $in: ?0 } }", fields = "{ 'rollNumber': 1, 'finalScore': 1 }")
+    List<Student> findScoresByIdIn(Collection<String> ids);
+
+    @Query(value = "{}", fields = "{ 'rollNumber': 1, 'finalScore': 1 }")
+    Stream<Student> streamAllScores();
+
+    Stream<Student> streamAllByOrderByRollNumber();
+
+    Stream<Student> streamByCohortOrderByRollNumber(String cohort);
+}
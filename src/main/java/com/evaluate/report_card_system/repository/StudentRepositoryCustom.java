@@ -0,0 +1,66 @@
+package com.evaluate.report_card_system.repository;
+
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.response.ScoreStatistics;
+import com.evaluate.report_card_system.response.StudentSummary;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+public interface StudentRepositoryCustom {
+
+    /**
+     * Inserts all students with a single unordered bulk write. A failing document does not stop the
+     * remaining inserts; its position in {@code students} is returned with the reason it was rejected.
+     */
+    Map<Integer, String> insertUnordered(List<Student> students);
+
+    /**
+     * Writes only the changed marks, weighted scores, term scores and the final score of a student with
+     * {@code $set} on array-filtered paths, and bumps its version. The write applies only if the stored version still
+     * equals {@code expectedVersion}; returns {@code false} when another write got there first.
+     */
+    boolean applyExamUpdates(String id, Long expectedVersion, List<ExamMarksUpdate> exams,
+                             Map<String, Double> termScores, double finalScore);
+
+    /**
+     * Deletes each student whose stored version still equals the one in {@code students}. Returns the ids of
+     * those that are still stored, i.e. were changed since they were read.
+     */
+    Set<String> deleteUnchanged(List<Student> students);
+
+    /**
+     * Per term, exam and subject (plus each weighted score) mean, population standard deviation, min, max
+     * and a 10-bucket histogram, computed by an aggregation pipeline inside Mongo. A {@code null} cohort
+     * covers every student.
+     */
+    List<ScoreStatistics> aggregateScoreStatistics(String cohort);
+
+    /**
+     * Cursor over all students in {@code _id} order, starting after {@code afterId} ({@code null} for the
+     * beginning), so a scan can resume from the last id it finished.
+     */
+    Stream<Student> streamAfterId(String afterId);
+
+    /**
+     * Summaries of students whose final score is within {@code [min, max]} (an absent bound is open), in
+     * ({@code finalScore}, {@code _id}) order, starting after {@code after}. Served by the
+     * {@code finalScore_id} index, so every page is one index seek.
+     */
+    List<StudentSummary> findSummariesByFinalScore(Double min, Double max, ScoreCursor after, int limit);
+
+    /**
+     * Summaries of students with a term named {@code termName} whose score is within {@code [min, max]}, in
+     * {@code _id} order, starting after {@code afterId}. The term and score are matched on the same array
+     * element through the {@code termName_termScore} multikey index.
+     */
+    List<StudentSummary> findSummariesByTermScore(String termName, Double min, Double max, String afterId, int limit);
+
+    /**
+     * Replaces the terms, final score and scheme version of each student with one unordered bulk write, each
+     * guarded by the student's version. Returns how many documents matched; the rest were changed concurrently.
+     */
+    long updateScores(List<Student> students);
+}
@@ -0,0 +1,286 @@
+package com.evaluate.report_card_system.repository;
+
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.response.ScoreStatistics;
+import com.evaluate.report_card_system.response.StudentSummary;
+import com.mongodb.bulk.BulkWriteError;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class StudentRepositoryImpl implements StudentRepositoryCustom {
+
+    private static final Logger logger = LoggerFactory.getLogger(StudentRepositoryImpl.class);
+    private static final int DUPLICATE_KEY_CODE = 11000;
+    private static final String WEIGHTED_PREFIX = "weighted:";
+    public static final int HISTOGRAM_BUCKETS = 10;
+    /**
+     * Order of {@link #aggregateScoreStatistics} results: by term, exam, raw marks before weighted scores, subject.
+     */
+    public static final Comparator<ScoreStatistics> STATISTICS_ORDER =
+            Comparator.comparing(ScoreStatistics::getTermName, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+                    .thenComparing(ScoreStatistics::getExamName, Comparator.nullsFirst(Comparator.naturalOrder()))
+                    .thenComparing(ScoreStatistics::isWeighted)
+                    .thenComparing(ScoreStatistics::getSubject);
+    private final MongoTemplate mongoTemplate;
+
+    public StudentRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Map<Integer, String> insertUnordered(List<Student> students) {
+        Map<Integer, String> errors = new HashMap<>();
+        if (students.isEmpty()) {
+            return errors;
+        }
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Student.class)
+                    .insert(students)
+                    .execute();
+        } catch (BulkOperationException e) {
+            for (BulkWriteError error : e.getErrors()) {
+                if (error.getCode() == DUPLICATE_KEY_CODE) {
+                    errors.put(error.getIndex(), "Roll number already exists");
+                } else {
+                    // The server's message names collections and indexes; keep it out of API responses.
+                    logger.warn("Insert of roll number {} failed with code {}: {}",
+                            students.get(error.getIndex()).getRollNumber(), error.getCode(), error.getMessage());
+                    errors.put(error.getIndex(), "Insert failed");
+                }
+            }
+        }
+        return errors;
+    }
+
+    @Override
+    public boolean applyExamUpdates(String id, Long expectedVersion, List<ExamMarksUpdate> exams,
+                                    Map<String, Double> termScores, double finalScore) {
+        Query query = Query.query(Criteria.where("_id").is(id).and("version").is(expectedVersion));
+        Update update = examUpdate(exams, termScores).set("finalScore", finalScore);
+        return mongoTemplate.updateFirst(query, update, Student.class).getMatchedCount() == 1;
+    }
+
+    @Override
+    public Set<String> deleteUnchanged(List<Student> students) {
+        if (students.isEmpty()) {
+            return Set.of();
+        }
+        List<Criteria> unchanged = new ArrayList<>(students.size());
+        List<String> ids = new ArrayList<>(students.size());
+        for (Student student : students) {
+            unchanged.add(Criteria.where("_id").is(student.getId()).and("version").is(student.getVersion()));
+            ids.add(student.getId());
+        }
+        mongoTemplate.remove(Query.query(new Criteria().orOperator(unchanged)), Student.class);
+        Query remaining = Query.query(Criteria.where("_id").in(ids));
+        remaining.fields().include("_id");
+        return mongoTemplate.find(remaining, Student.class).stream().map(Student::getId).collect(Collectors.toSet());
+    }
+
+    @Override
+    public Stream<Student> streamAfterId(String afterId) {
+        Query query = afterId == null ? new Query() : Query.query(Criteria.where("_id").gt(afterId));
+        return mongoTemplate.stream(query.with(Sort.by("_id")), Student.class);
+    }
+
+    @Override
+    public List<StudentSummary> findSummariesByFinalScore(Double min, Double max, ScoreCursor after, int limit) {
+        Query query = finalScoreQuery(min, max, after, limit);
+        return mongoTemplate.query(Student.class).as(StudentSummary.class).matching(query).all();
+    }
+
+    @Override
+    public List<StudentSummary> findSummariesByTermScore(String termName, Double min, Double max, String afterId, int limit) {
+        Query query = termScoreQuery(termName, min, max, afterId, limit);
+        return mongoTemplate.query(Student.class).as(StudentSummary.class).matching(query).all();
+    }
+
+    /**
+     * Range on {@code finalScore}, seeking past {@code after} on ({@code finalScore}, {@code _id}).
+     */
+    static Query finalScoreQuery(Double min, Double max, ScoreCursor after, int limit) {
+        Criteria criteria = scoreRange(Criteria.where("finalScore"), min, max);
+        if (after != null) {
+            criteria = new Criteria().andOperator(criteria, new Criteria().orOperator(
+                    Criteria.where("finalScore").gt(after.score()),
+                    Criteria.where("finalScore").is(after.score()).and("_id").gt(after.id())));
+        }
+        return summaryFields(Query.query(criteria)).with(Sort.by("finalScore", "_id")).limit(limit);
+    }
+
+    /**
+     * Range on the score of the term named {@code termName}, matched on one array element, seeking past
+     * {@code afterId}.
+     * <p>
+     * The {@code termName_termScore} index bounds the match, but it cannot return students in {@code _id}
+     * order, so Mongo sorts every matching student after {@code afterId} in memory before applying the limit.
+     * Sorting on {@code terms.termScore} instead would not help: on an array it orders by the lowest or highest
+     * score of any term, not the score of the named term. A page therefore costs in proportion to the students
+     * in range, not to {@code limit}.
+     */
+    static Query termScoreQuery(String termName, Double min, Double max, String afterId, int limit) {
+        Criteria criteria = Criteria.where("terms").elemMatch(
+                scoreRange(Criteria.where("termName").is(termName).and("termScore"), min, max));
+        if (afterId != null) {
+            criteria = criteria.and("_id").gt(afterId);
+        }
+        return summaryFields(Query.query(criteria)).with(Sort.by("_id")).limit(limit);
+    }
+
+    /**
+     * Bounds the score {@code field} of {@code criteria}; with no bound at all it only requires a score.
+     */
+    private static Criteria scoreRange(Criteria criteria, Double min, Double max) {
+        if (min == null && max == null) {
+            return criteria.ne(null);
+        }
+        if (min != null) {
+            criteria = criteria.gte(min);
+        }
+        return max != null ? criteria.lte(max) : criteria;
+    }
+
+    private static Query summaryFields(Query query) {
+        Document.parse(StudentSummary.FIELDS).keySet().forEach(query.fields()::include);
+        return query;
+    }
+
+    @Override
+    public long updateScores(List<Student> students) {
+        if (students.isEmpty()) {
+            return 0;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Student.class);
+        for (Student student : students) {
+            bulk.updateOne(Query.query(Criteria.where("_id").is(student.getId()).and("version").is(student.getVersion())),
+                    new Update().set("terms", student.getTerms()).set("finalScore", student.getFinalScore())
+                            .set("schemeVersion", student.getSchemeVersion()).inc("version", 1));
+        }
+        return bulk.execute().getMatchedCount();
+    }
+
+    static Update examUpdate(List<ExamMarksUpdate> exams, Map<String, Double> termScores) {
+        Update update = new Update();
+        Map<String, String> termFilters = new LinkedHashMap<>();
+        termScores.keySet().forEach(termName -> termFilters.put(termName, "t" + termFilters.size()));
+        for (ExamMarksUpdate exam : exams) {
+            termFilters.computeIfAbsent(exam.termName(), termName -> "t" + termFilters.size());
+        }
+        termFilters.forEach((termName, filter) -> update.filterArray(Criteria.where(filter + ".termName").is(termName)));
+
+        for (int i = 0; i < exams.size(); i++) {
+            ExamMarksUpdate exam = exams.get(i);
+            String examFilter = "e" + i;
+            String examPath = "terms.$[" + termFilters.get(exam.termName()) + "].exams.$[" + examFilter + "].";
+            update.filterArray(Criteria.where(examFilter + ".examName").is(exam.examName()));
+            exam.subjectMarks().forEach((subject, mark) -> update.set(examPath + "subjectMarks." + fieldName(subject), mark));
+            update.set(examPath + "weightedScores." + fieldName(exam.scoreName()), exam.examScore());
+        }
+        termScores.forEach((termName, termScore) ->
+                update.set("terms.$[" + termFilters.get(termName) + "].termScore", termScore));
+        return update.inc("version", 1);
+    }
+
+    private static String fieldName(String name) {
+        if (name.isEmpty() || name.contains(".") || name.startsWith("$")) {
+            throw new IllegalArgumentException("Invalid subject name " + name);
+        }
+        return name;
+    }
+
+    @Override
+    public List<ScoreStatistics> aggregateScoreStatistics(String cohort) {
+        Document result = mongoTemplate.aggregate(Aggregation.newAggregation(statisticsPipeline(cohort)),
+                "students", Document.class).getUniqueMappedResult();
+        return result == null ? List.of() : toStatistics(result);
+    }
+
+    static List<AggregationOperation> statisticsPipeline(String cohort) {
+        List<AggregationOperation> stages = new ArrayList<>();
+        if (cohort != null) {
+            stages.add(Aggregation.stage(new Document("$match", new Document("cohort", cohort))));
+        }
+        stages.add(Aggregation.stage(new Document("$unwind", "$terms")));
+        stages.add(Aggregation.stage(new Document("$unwind", "$terms.exams")));
+        stages.add(Aggregation.stage(new Document("$project", new Document()
+                .append("_id", 0)
+                .append("term", "$terms.termName")
+                .append("exam", "$terms.exams.examName")
+                .append("score", new Document("$concatArrays", List.of(
+                        scoreEntries("$terms.exams.subjectMarks", ""),
+                        scoreEntries("$terms.exams.weightedScores", WEIGHTED_PREFIX)))))));
+        stages.add(Aggregation.stage(new Document("$unwind", "$score")));
+        stages.add(Aggregation.stage(new Document("$match", new Document("score.v", new Document("$type", "number")))));
+        Document key = new Document("term", "$term").append("exam", "$exam").append("subject", "$score.k");
+        stages.add(Aggregation.stage(new Document("$facet", new Document()
+                .append("stats", List.of(new Document("$group", new Document("_id", key)
+                        .append("count", new Document("$sum", 1))
+                        .append("mean", new Document("$avg", "$score.v"))
+                        .append("stdDev", new Document("$stdDevPop", "$score.v"))
+                        .append("min", new Document("$min", "$score.v"))
+                        .append("max", new Document("$max", "$score.v")))))
+                .append("histogram", List.of(new Document("$group", new Document("_id", new Document(key)
+                        .append("bucket", new Document("$min", List.of(
+                                new Document("$floor", new Document("$divide", List.of("$score.v", 100.0 / HISTOGRAM_BUCKETS))),
+                                HISTOGRAM_BUCKETS - 1))))
+                        .append("count", new Document("$sum", 1))))))));
+        return stages;
+    }
+
+    private static Document scoreEntries(String field, String prefix) {
+        return new Document("$map", new Document()
+                .append("input", new Document("$objectToArray", new Document("$ifNull", List.of(field, new Document()))))
+                .append("in", new Document("k", new Document("$concat", List.of(prefix, "$$this.k"))).append("v", "$$this.v")));
+    }
+
+    static List<ScoreStatistics> toStatistics(Document result) {
+        Map<Document, ScoreStatistics> byKey = new LinkedHashMap<>();
+        for (Document group : result.getList("stats", Document.class)) {
+            Document key = group.get("_id", Document.class);
+            String subject = key.getString("subject");
+            ScoreStatistics statistics = new ScoreStatistics();
+            statistics.setTermName(key.getString("term"));
+            statistics.setExamName(key.getString("exam"));
+            statistics.setWeighted(subject.startsWith(WEIGHTED_PREFIX));
+            statistics.setSubject(statistics.isWeighted() ? subject.substring(WEIGHTED_PREFIX.length()) : subject);
+            statistics.setCount(((Number) group.get("count")).longValue());
+            statistics.setMean(((Number) group.get("mean")).doubleValue());
+            statistics.setStdDev(((Number) group.get("stdDev")).doubleValue());
+            statistics.setMin(((Number) group.get("min")).doubleValue());
+            statistics.setMax(((Number) group.get("max")).doubleValue());
+            statistics.setHistogram(new long[HISTOGRAM_BUCKETS]);
+            byKey.put(key, statistics);
+        }
+        for (Document group : result.getList("histogram", Document.class)) {
+            Document key = new Document(group.get("_id", Document.class));
+            int bucket = Math.max(0, ((Number) key.remove("bucket")).intValue());
+            ScoreStatistics statistics = byKey.get(key);
+            if (statistics != null) {
+                statistics.getHistogram()[bucket] += ((Number) group.get("count")).longValue();
+            }
+        }
+        List<ScoreStatistics> statistics = new ArrayList<>(byKey.values());
+        statistics.sort(STATISTICS_ORDER);
+        return statistics;
+    }
+}
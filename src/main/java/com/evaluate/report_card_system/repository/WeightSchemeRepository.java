@@ -0,0 +1,7 @@
+package com.evaluate.report_card_system.repository;
+
+import com.evaluate.report_card_system.model.WeightScheme;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface WeightSchemeRepository extends MongoRepository<WeightScheme, String> {
+}
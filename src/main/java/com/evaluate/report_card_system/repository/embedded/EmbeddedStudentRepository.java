@@ -0,0 +1,860 @@
+package com.evaluate.report_card_system.repository.embedded;
+
+import com.evaluate.report_card_system.model.Exam;
+import com.evaluate.report_card_system.model.ScoreMap;
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.model.SubjectDictionary;
+import com.evaluate.report_card_system.model.Term;
+import com.evaluate.report_card_system.repository.ExamMarksUpdate;
+import com.evaluate.report_card_system.repository.ScoreCursor;
+import com.evaluate.report_card_system.repository.StudentRepository;
+import com.evaluate.report_card_system.repository.StudentRepositoryImpl;
+import com.evaluate.report_card_system.response.ScoreStatistics;
+import com.evaluate.report_card_system.response.StudentSummary;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.query.FluentQuery;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * {@link StudentRepository} that keeps every student in memory, indexed by id and by roll number, and persists
+ * each write to a {@link StudentLog} before it becomes visible. On startup the log is replayed to rebuild the
+ * indexes. Reads never lock: stored students are private copies that are replaced, never mutated, and every
+ * read hands out a fresh copy, just as Mongo hands out freshly mapped documents. Writes are serialized by one
+ * lock and follow Mongo's rules: inserts assign an {@link ObjectId} and version 0, saves and updates check and
+ * bump the version ({@link OptimisticLockingFailureException} on a mismatch), and roll numbers are unique
+ * ({@link DuplicateKeyException}).
+ * <p>
+ * Records reach the page cache as soon as they are appended, so a process crash loses nothing. A background
+ * thread flushes them to disk every {@code flushInterval}; that interval bounds what a power loss can lose.
+ * The same thread compacts the log: once it is larger than {@code compactionMinBytes} and more than
+ * {@code compactionGarbageRatio} of it is superseded or deleted records, it is rewritten with one record per
+ * live student. Writes wait while a compaction runs; reads do not. Query by example is not supported.
+ */
+public class EmbeddedStudentRepository implements StudentRepository, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmbeddedStudentRepository.class);
+    static final String LOG_FILE = "students.log";
+
+    private final ConcurrentSkipListMap<String, Entry> byId = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<Integer, Entry> byRollNumber = new ConcurrentSkipListMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final StudentLog log;
+    private final ObjectWriter writer;
+    private final ObjectReader reader;
+    private final long compactionMinBytes;
+    private final double compactionGarbageRatio;
+    private final ScheduledExecutorService maintenance;
+    private long liveBytes;
+
+    public EmbeddedStudentRepository(Path directory, ObjectMapper objectMapper, int windowBytes, Duration flushInterval,
+                                     long compactionMinBytes, double compactionGarbageRatio) throws IOException {
+        this.writer = objectMapper.writerFor(Student.class);
+        this.reader = objectMapper.readerFor(Student.class);
+        this.compactionMinBytes = compactionMinBytes;
+        this.compactionGarbageRatio = compactionGarbageRatio;
+        this.log = new StudentLog(directory.resolve(LOG_FILE), windowBytes);
+        long started = System.nanoTime();
+        log.replay(this::replay);
+        logger.info("Recovered {} students from {} bytes of log in {} ms", byId.size(), log.size(),
+                (System.nanoTime() - started) / 1_000_000);
+        this.maintenance = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("embedded-store").daemon().factory());
+        long interval = Math.max(1, flushInterval.toMillis());
+        maintenance.scheduleWithFixedDelay(this::maintain, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    // --- Mongo repository contract
+
+    @Override
+    public <S extends Student> S save(S student) {
+        writeLock.lock();
+        try {
+            if (student.getVersion() == null) {
+                return doInsert(student);
+            }
+            Entry current = student.getId() == null ? null : byId.get(student.getId());
+            if (current == null || !current.student.getVersion().equals(student.getVersion())) {
+                throw new OptimisticLockingFailureException("Cannot save student " + student.getId()
+                        + " with version " + student.getVersion() + "; it was changed or deleted");
+            }
+            Student stored = copy(student);
+            stored.setVersion(student.getVersion() + 1);
+            write(stored, current);
+            student.setVersion(stored.getVersion());
+            return student;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public <S extends Student> S insert(S student) {
+        writeLock.lock();
+        try {
+            return doInsert(student);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public <S extends Student> List<S> insert(Iterable<S> students) {
+        List<S> inserted = new ArrayList<>();
+        students.forEach(student -> inserted.add(insert(student)));
+        return inserted;
+    }
+
+    @Override
+    public <S extends Student> List<S> saveAll(Iterable<S> students) {
+        List<S> saved = new ArrayList<>();
+        students.forEach(student -> saved.add(save(student)));
+        return saved;
+    }
+
+    @Override
+    public Optional<Student> findById(String id) {
+        return Optional.ofNullable(byId.get(id)).map(entry -> copy(entry.student));
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return byId.containsKey(id);
+    }
+
+    @Override
+    public List<Student> findAll() {
+        return byId.values().stream().map(entry -> copy(entry.student)).toList();
+    }
+
+    @Override
+    public List<Student> findAllById(Iterable<String> ids) {
+        List<Student> found = new ArrayList<>();
+        for (String id : ids) {
+            findById(id).ifPresent(found::add);
+        }
+        return found;
+    }
+
+    @Override
+    public List<Student> findAll(Sort sort) {
+        return byId.values().stream().map(entry -> entry.student).sorted(comparator(sort)).map(EmbeddedStudentRepository::copy).toList();
+    }
+
+    @Override
+    public Page<Student> findAll(Pageable pageable) {
+        Stream<Student> sorted = byId.values().stream().map(entry -> entry.student).sorted(comparator(pageable.getSort()));
+        if (pageable.isPaged()) {
+            sorted = sorted.skip(pageable.getOffset()).limit(pageable.getPageSize());
+        }
+        return new PageImpl<>(sorted.map(EmbeddedStudentRepository::copy).toList(), pageable, byId.size());
+    }
+
+    @Override
+    public long count() {
+        return byId.size();
+    }
+
+    @Override
+    public void deleteById(String id) {
+        writeLock.lock();
+        try {
+            Entry current = byId.get(id);
+            if (current != null) {
+                remove(current);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void delete(Student student) {
+        writeLock.lock();
+        try {
+            Entry current = student.getId() == null ? null : byId.get(student.getId());
+            if (student.getVersion() != null && (current == null || !current.student.getVersion().equals(student.getVersion()))) {
+                throw new OptimisticLockingFailureException("Cannot delete student " + student.getId()
+                        + " with version " + student.getVersion() + "; it was changed or deleted");
+            }
+            if (current != null) {
+                remove(current);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends String> ids) {
+        ids.forEach(this::deleteById);
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends Student> students) {
+        students.forEach(this::delete);
+    }
+
+    @Override
+    public void deleteAll() {
+        writeLock.lock();
+        try {
+            new ArrayList<>(byId.values()).forEach(this::remove);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public <S extends Student> Optional<S> findOne(Example<S> example) {
+        throw queryByExample();
+    }
+
+    @Override
+    public <S extends Student> List<S> findAll(Example<S> example) {
+        throw queryByExample();
+    }
+
+    @Override
+    public <S extends Student> List<S> findAll(Example<S> example, Sort sort) {
+        throw queryByExample();
+    }
+
+    @Override
+    public <S extends Student> Page<S> findAll(Example<S> example, Pageable pageable) {
+        throw queryByExample();
+    }
+
+    @Override
+    public <S extends Student> long count(Example<S> example) {
+        throw queryByExample();
+    }
+
+    @Override
+    public <S extends Student> boolean exists(Example<S> example) {
+        throw queryByExample();
+    }
+
+    @Override
+    public <S extends Student, R> R findBy(Example<S> example, Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction) {
+        throw queryByExample();
+    }
+
+    // --- Derived queries
+
+    @Override
+    public Optional<Student> findByRollNumber(Integer rollNumber) {
+        return Optional.ofNullable(rollNumber == null ? null : byRollNumber.get(rollNumber)).map(entry -> copy(entry.student));
+    }
+
+    @Override
+    public Optional<Student> findVersionByRollNumber(Integer rollNumber) {
+        Entry entry = rollNumber == null ? null : byRollNumber.get(rollNumber);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        Student projected = projection(entry.student, false);
+        projected.setVersion(entry.student.getVersion());
+        return Optional.of(projected);
+    }
+
+    @Override
+    public List<Student> findByRollNumberIn(Collection<Integer> rollNumbers) {
+        List<Student> found = new ArrayList<>(rollNumbers.size());
+        for (Integer rollNumber : rollNumbers) {
+            findByRollNumber(rollNumber).ifPresent(found::add);
+        }
+        return found;
+    }
+
+    @Override
+    public Optional<StudentSummary> findSummaryByRollNumber(Integer rollNumber) {
+        Entry entry = rollNumber == null ? null : byRollNumber.get(rollNumber);
+        return entry == null ? Optional.empty() : Optional.of(StudentSummary.of(entry.student));
+    }
+
+    @Override
+    public List<StudentSummary> findSummariesByRollNumberIn(Collection<Integer> rollNumbers) {
+        List<StudentSummary> found = new ArrayList<>(rollNumbers.size());
+        for (Integer rollNumber : rollNumbers) {
+            findSummaryByRollNumber(rollNumber).ifPresent(found::add);
+        }
+        return found;
+    }
+
+    @Override
+    public List<StudentSummary> findSummariesByCohort(String cohort) {
+        return byRollNumber.values().stream()
+                .filter(entry -> Objects.equals(entry.student.getCohort(), cohort))
+                .map(entry -> StudentSummary.of(entry.student))
+                .toList();
+    }
+
+    /**
+     * There is no score index here, so each page filters and sorts the matching students.
+     */
+    @Override
+    public List<StudentSummary> findSummariesByFinalScore(Double min, Double max, ScoreCursor after, int limit) {
+        Comparator<Student> order = Comparator.comparing(Student::getFinalScore).thenComparing(Student::getId);
+        return byId.values().stream()
+                .map(Entry::student)
+                .filter(student -> inRange(student.getFinalScore(), min, max))
+                .filter(student -> after == null || order.compare(student, cursorStudent(after)) > 0)
+                .sorted(order)
+                .limit(limit)
+                .map(StudentSummary::of)
+                .toList();
+    }
+
+    @Override
+    public List<StudentSummary> findSummariesByTermScore(String termName, Double min, Double max, String afterId, int limit) {
+        Collection<Entry> candidates = afterId == null ? byId.values() : byId.tailMap(afterId, false).values();
+        return candidates.stream()
+                .map(Entry::student)
+                .filter(student -> student.getTerms() != null && student.getTerms().stream()
+                        .anyMatch(term -> termName.equals(term.getTermName()) && inRange(term.getTermScore(), min, max)))
+                .limit(limit)
+                .map(StudentSummary::of)
+                .toList();
+    }
+
+    private static boolean inRange(Double score, Double min, Double max) {
+        return score != null && (min == null || score >= min) && (max == null || score <= max);
+    }
+
+    private static Student cursorStudent(ScoreCursor cursor) {
+        Student student = new Student();
+        student.setFinalScore(cursor.score());
+        student.setId(cursor.id());
+        return student;
+    }
+
+    @Override
+    public List<Student> findRollNumbersIn(Collection<Integer> rollNumbers) {
+        List<Student> found = new ArrayList<>(rollNumbers.size());
+        for (Integer rollNumber : rollNumbers) {
+            Entry entry = rollNumber == null ? null : byRollNumber.get(rollNumber);
+            if (entry != null) {
+                found.add(projection(entry.student, false));
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public List<Student> findScoresByIdIn(Collection<String> ids) {
+        List<Student> found = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            Entry entry = byId.get(id);
+            if (entry != null) {
+                found.add(projection(entry.student, true));
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public Stream<Student> streamAllScores() {
+        return byId.values().stream().map(entry -> projection(entry.student, true));
+    }
+
+    @Override
+    public Stream<Student> streamAllByOrderByRollNumber() {
+        return byRollNumber.values().stream().map(entry -> copy(entry.student));
+    }
+
+    @Override
+    public Stream<Student> streamByCohortOrderByRollNumber(String cohort) {
+        return byRollNumber.values().stream()
+                .filter(entry -> Objects.equals(entry.student.getCohort(), cohort))
+                .map(entry -> copy(entry.student));
+    }
+
+    // --- Custom fragment
+
+    @Override
+    public Map<Integer, String> insertUnordered(List<Student> students) {
+        Map<Integer, String> errors = new HashMap<>();
+        for (int i = 0; i < students.size(); i++) {
+            try {
+                insert(students.get(i));
+            } catch (DuplicateKeyException e) {
+                errors.put(i, "Roll number already exists");
+            } catch (IllegalArgumentException e) {
+                errors.put(i, e.getMessage());
+            }
+        }
+        return errors;
+    }
+
+    @Override
+    public boolean applyExamUpdates(String id, Long expectedVersion, List<ExamMarksUpdate> exams,
+                                    Map<String, Double> termScores, double finalScore) {
+        writeLock.lock();
+        try {
+            Entry current = byId.get(id);
+            if (current == null || !Objects.equals(current.student.getVersion(), expectedVersion)) {
+                return false;
+            }
+            Student stored = copy(current.student);
+            List<Term> terms = stored.getTerms() == null ? List.of() : stored.getTerms();
+            for (ExamMarksUpdate update : exams) {
+                for (Term term : terms) {
+                    if (term == null || term.getExams() == null || !Objects.equals(term.getTermName(), update.termName())) {
+                        continue;
+                    }
+                    for (Exam exam : term.getExams()) {
+                        if (exam != null && Objects.equals(exam.getExamName(), update.examName())) {
+                            applyMarks(exam, update);
+                        }
+                    }
+                }
+            }
+            for (Term term : terms) {
+                if (term != null && termScores.containsKey(term.getTermName())) {
+                    term.setTermScore(termScores.get(term.getTermName()));
+                }
+            }
+            stored.setFinalScore(finalScore);
+            stored.setVersion(current.student.getVersion() + 1);
+            write(stored, current);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public Set<String> deleteUnchanged(List<Student> students) {
+        Set<String> changed = new HashSet<>();
+        writeLock.lock();
+        try {
+            for (Student student : students) {
+                Entry current = byId.get(student.getId());
+                if (current == null) {
+                    continue;
+                }
+                if (Objects.equals(current.student.getVersion(), student.getVersion())) {
+                    remove(current);
+                } else {
+                    changed.add(student.getId());
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        return changed;
+    }
+
+    @Override
+    public List<ScoreStatistics> aggregateScoreStatistics(String cohort) {
+        Map<List<Object>, Accumulator> groups = new LinkedHashMap<>();
+        for (Entry entry : byId.values()) {
+            Student student = entry.student;
+            if ((cohort != null && !cohort.equals(student.getCohort())) || student.getTerms() == null) {
+                continue;
+            }
+            for (Term term : student.getTerms()) {
+                if (term == null || term.getExams() == null) {
+                    continue;
+                }
+                for (Exam exam : term.getExams()) {
+                    if (exam == null) {
+                        continue;
+                    }
+                    accumulate(groups, term, exam, exam.getSubjectMarks(), false);
+                    accumulate(groups, term, exam, exam.getWeightedScores(), true);
+                }
+            }
+        }
+        List<ScoreStatistics> statistics = new ArrayList<>(groups.size());
+        groups.forEach((key, accumulator) -> statistics.add(accumulator.toStatistics(key)));
+        statistics.sort(StudentRepositoryImpl.STATISTICS_ORDER);
+        return statistics;
+    }
+
+    @Override
+    public Stream<Student> streamAfterId(String afterId) {
+        ConcurrentNavigableMap<String, Entry> tail = afterId == null ? byId : byId.tailMap(afterId, false);
+        return tail.values().stream().map(entry -> copy(entry.student));
+    }
+
+    @Override
+    public long updateScores(List<Student> students) {
+        long matched = 0;
+        writeLock.lock();
+        try {
+            for (Student student : students) {
+                Entry current = student.getId() == null ? null : byId.get(student.getId());
+                if (current == null || !Objects.equals(current.student.getVersion(), student.getVersion())) {
+                    continue;
+                }
+                Student stored = copy(current.student);
+                stored.setTerms(copyTerms(student.getTerms()));
+                stored.setFinalScore(student.getFinalScore());
+                stored.setSchemeVersion(student.getSchemeVersion());
+                stored.setVersion(current.student.getVersion() + 1);
+                write(stored, current);
+                matched++;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        return matched;
+    }
+
+    // --- Storage
+
+    /**
+     * Rewrites the log with one record per live student.
+     */
+    public void compact() {
+        writeLock.lock();
+        try {
+            long before = log.size();
+            Iterator<Entry> entries = byId.values().iterator();
+            log.rewrite(() -> new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return entries.hasNext();
+                }
+
+                @Override
+                public byte[] next() {
+                    return encode(entries.next().student);
+                }
+            });
+            liveBytes = log.size();
+            logger.info("Compacted student log from {} to {} bytes", before, liveBytes);
+        } catch (IOException e) {
+            throw new DataAccessResourceFailureException("Cannot compact student log", e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Bytes of records in the log, including superseded ones.
+     */
+    public long logBytes() {
+        return log.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        maintenance.shutdownNow();
+        writeLock.lock();
+        try {
+            log.close();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void maintain() {
+        writeLock.lock();
+        try {
+            log.force();
+            if (log.size() >= compactionMinBytes && log.size() - liveBytes > log.size() * compactionGarbageRatio) {
+                compact();
+            }
+        } catch (RuntimeException e) {
+            logger.error("Student log maintenance failed", e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private <S extends Student> S doInsert(S student) {
+        if (student.getRollNumber() == null) {
+            throw new IllegalArgumentException("Roll number is required");
+        }
+        if (student.getId() != null && byId.containsKey(student.getId())) {
+            throw new DuplicateKeyException("Student " + student.getId() + " already exists");
+        }
+        if (byRollNumber.containsKey(student.getRollNumber())) {
+            throw new DuplicateKeyException("Roll number " + student.getRollNumber() + " already exists");
+        }
+        Student stored = copy(student);
+        stored.setId(student.getId() == null ? new ObjectId().toHexString() : student.getId());
+        stored.setVersion(0L);
+        write(stored, null);
+        student.setId(stored.getId());
+        student.setVersion(0L);
+        return student;
+    }
+
+    /**
+     * Logs {@code stored} and then publishes it, replacing {@code current}. Called with the write lock held.
+     */
+    private void write(Student stored, Entry current) {
+        if (stored.getRollNumber() == null) {
+            throw new IllegalArgumentException("Roll number is required");
+        }
+        Entry holder = byRollNumber.get(stored.getRollNumber());
+        if (holder != null && holder != current) {
+            throw new DuplicateKeyException("Roll number " + stored.getRollNumber() + " already exists");
+        }
+        int bytes = append(StudentLog.PUT, encode(stored));
+        Entry entry = new Entry(stored, bytes);
+        if (current != null) {
+            liveBytes -= current.logBytes;
+            if (!current.student.getRollNumber().equals(stored.getRollNumber())) {
+                byRollNumber.remove(current.student.getRollNumber(), current);
+            }
+        }
+        liveBytes += bytes;
+        byId.put(stored.getId(), entry);
+        byRollNumber.put(stored.getRollNumber(), entry);
+    }
+
+    private void remove(Entry current) {
+        append(StudentLog.DELETE, current.student.getId().getBytes(StandardCharsets.UTF_8));
+        liveBytes -= current.logBytes;
+        byId.remove(current.student.getId(), current);
+        byRollNumber.remove(current.student.getRollNumber(), current);
+    }
+
+    private int append(byte type, byte[] payload) {
+        try {
+            return (int) log.append(type, payload);
+        } catch (IOException e) {
+            throw new DataAccessResourceFailureException("Cannot append to student log", e);
+        }
+    }
+
+    private void replay(byte type, byte[] payload) throws IOException {
+        int bytes = StudentLog.RECORD_HEADER_BYTES + payload.length;
+        if (type == StudentLog.PUT) {
+            Student stored = reader.readValue(payload);
+            Entry current = byId.get(stored.getId());
+            if (current != null) {
+                liveBytes -= current.logBytes;
+                byRollNumber.remove(current.student.getRollNumber(), current);
+            }
+            Entry entry = new Entry(stored, bytes);
+            liveBytes += bytes;
+            byId.put(stored.getId(), entry);
+            byRollNumber.put(stored.getRollNumber(), entry);
+        } else if (type == StudentLog.DELETE) {
+            Entry current = byId.remove(new String(payload, StandardCharsets.UTF_8));
+            if (current != null) {
+                liveBytes -= current.logBytes;
+                byRollNumber.remove(current.student.getRollNumber(), current);
+            }
+        } else {
+            throw new IOException("Unknown student log record type " + type);
+        }
+    }
+
+    private byte[] encode(Student student) {
+        try {
+            return writer.writeValueAsBytes(student);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot encode student " + student.getId(), e);
+        }
+    }
+
+    private static void applyMarks(Exam exam, ExamMarksUpdate update) {
+        if (exam.getSubjectMarks() == null) {
+            exam.setSubjectMarks(new ScoreMap());
+        }
+        exam.getSubjectMarks().putAll(update.subjectMarks());
+        if (exam.getWeightedScores() == null) {
+            exam.setWeightedScores(new ScoreMap());
+        }
+        exam.getWeightedScores().put(update.scoreName(), update.examScore());
+    }
+
+    private static void accumulate(Map<List<Object>, Accumulator> groups, Term term, Exam exam, ScoreMap scores,
+                                   boolean weighted) {
+        if (scores == null) {
+            return;
+        }
+        scores.forEachMark((subjectId, mark) -> accumulate(groups, term, exam, SubjectDictionary.nameOf(subjectId), mark, weighted));
+        scores.unknownMarks().forEach((subject, mark) ->
+                accumulate(groups, term, exam, subject, mark == null ? Double.NaN : mark, weighted));
+    }
+
+    private static void accumulate(Map<List<Object>, Accumulator> groups, Term term, Exam exam, String subject,
+                                   double mark, boolean weighted) {
+        if (!Double.isNaN(mark)) {
+            List<Object> key = Arrays.asList(term.getTermName(), exam.getExamName(), weighted, subject);
+            groups.computeIfAbsent(key, k -> new Accumulator(term.getTermName(), exam.getExamName())).add(mark);
+        }
+    }
+
+    private static Comparator<Student> comparator(Sort sort) {
+        Comparator<Student> comparator = (a, b) -> 0;
+        for (Sort.Order order : sort) {
+            Comparator<Student> property = switch (order.getProperty()) {
+                case "id" -> Comparator.comparing(Student::getId, Comparator.nullsFirst(Comparator.naturalOrder()));
+                case "rollNumber" -> Comparator.comparing(Student::getRollNumber, Comparator.nullsFirst(Comparator.naturalOrder()));
+                case "name" -> Comparator.comparing(Student::getName, Comparator.nullsFirst(Comparator.naturalOrder()));
+                case "cohort" -> Comparator.comparing(Student::getCohort, Comparator.nullsFirst(Comparator.naturalOrder()));
+                case "curriculum" -> Comparator.comparing(Student::getCurriculum, Comparator.nullsFirst(Comparator.naturalOrder()));
+                case "finalScore" -> Comparator.comparing(Student::getFinalScore, Comparator.nullsFirst(Comparator.naturalOrder()));
+                default -> throw new IllegalArgumentException("Cannot sort students by " + order.getProperty());
+            };
+            comparator = comparator.thenComparing(order.isAscending() ? property : property.reversed());
+        }
+        return comparator;
+    }
+
+    private static Student projection(Student stored, boolean withScore) {
+        Student projected = new Student();
+        projected.setId(stored.getId());
+        projected.setRollNumber(stored.getRollNumber());
+        if (withScore) {
+            projected.setFinalScore(stored.getFinalScore());
+        }
+        return projected;
+    }
+
+    static Student copy(Student source) {
+        Student copy = new Student();
+        copy.setId(source.getId());
+        copy.setVersion(source.getVersion());
+        copy.setRollNumber(source.getRollNumber());
+        copy.setName(source.getName());
+        copy.setCurriculum(source.getCurriculum());
+        copy.setCohort(source.getCohort());
+        copy.setTerms(copyTerms(source.getTerms()));
+        copy.setFinalScore(source.getFinalScore());
+        copy.setSchemeVersion(source.getSchemeVersion());
+        return copy;
+    }
+
+    private static List<Term> copyTerms(List<Term> terms) {
+        if (terms == null) {
+            return null;
+        }
+        List<Term> copies = new ArrayList<>(terms.size());
+        for (Term term : terms) {
+            if (term == null) {
+                copies.add(null);
+                continue;
+            }
+            Term copy = new Term();
+            copy.setTermName(term.getTermName());
+            copy.setTermScore(term.getTermScore());
+            if (term.getExams() != null) {
+                List<Exam> exams = new ArrayList<>(term.getExams().size());
+                for (Exam exam : term.getExams()) {
+                    exams.add(exam == null ? null : copyExam(exam));
+                }
+                copy.setExams(exams);
+            }
+            copies.add(copy);
+        }
+        return copies;
+    }
+
+    private static Exam copyExam(Exam exam) {
+        Exam copy = new Exam();
+        copy.setExamName(exam.getExamName());
+        copy.setSubjectMarks(copyScores(exam.getSubjectMarks()));
+        copy.setWeightedScores(copyScores(exam.getWeightedScores()));
+        return copy;
+    }
+
+    private static ScoreMap copyScores(ScoreMap scores) {
+        if (scores == null) {
+            return null;
+        }
+        return scores.copy();
+    }
+
+    private static UnsupportedOperationException queryByExample() {
+        return new UnsupportedOperationException("Query by example is not supported by the embedded student store");
+    }
+
+    /**
+     * A stored student and the size of the log record that holds it.
+     */
+    private record Entry(Student student, int logBytes) {
+    }
+
+    /**
+     * Running count, mean, population variance (Welford), min, max and histogram of one score.
+     */
+    private static final class Accumulator {
+        private final String termName;
+        private final String examName;
+        private final long[] histogram = new long[StudentRepositoryImpl.HISTOGRAM_BUCKETS];
+        private long count;
+        private double mean;
+        private double squares;
+        private double min = Double.POSITIVE_INFINITY;
+        private double max = Double.NEGATIVE_INFINITY;
+
+        Accumulator(String termName, String examName) {
+            this.termName = termName;
+            this.examName = examName;
+        }
+
+        void add(double score) {
+            count++;
+            double delta = score - mean;
+            mean += delta / count;
+            squares += delta * (score - mean);
+            min = Math.min(min, score);
+            max = Math.max(max, score);
+            int bucket = (int) Math.floor(score / (100.0 / histogram.length));
+            histogram[Math.max(0, Math.min(bucket, histogram.length - 1))]++;
+        }
+
+        ScoreStatistics toStatistics(List<Object> key) {
+            ScoreStatistics statistics = new ScoreStatistics();
+            statistics.setTermName(termName);
+            statistics.setExamName(examName);
+            statistics.setWeighted((Boolean) key.get(2));
+            statistics.setSubject((String) key.get(3));
+            statistics.setCount(count);
+            statistics.setMean(mean);
+            statistics.setStdDev(Math.sqrt(squares / count));
+            statistics.setMin(min);
+            statistics.setMax(max);
+            statistics.setHistogram(histogram);
+            return statistics;
+        }
+    }
+}
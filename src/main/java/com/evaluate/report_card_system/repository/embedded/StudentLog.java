@@ -0,0 +1,191 @@
+package com.evaluate.report_card_system.repository.embedded;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only record log written through a memory-mapped window. A record is
+ * {@code [payload length][CRC32C of type and payload][type][payload]}. The file is extended one window of
+ * {@code windowBytes} at a time, so the bytes after the last record are zero; {@link #replay} stops at the first
+ * zero length, and at the first record whose length or checksum is wrong, which is how a write torn by a crash
+ * is detected and cut off. Closing trims the file to its last record. Not thread-safe; the owner serializes
+ * access.
+ */
+class StudentLog implements AutoCloseable {
+
+    static final byte PUT = 1;
+    static final byte DELETE = 2;
+    private static final Logger logger = LoggerFactory.getLogger(StudentLog.class);
+    static final int RECORD_HEADER_BYTES = 9;
+
+    private final Path file;
+    private final int windowBytes;
+    private FileChannel channel;
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long end;
+
+    StudentLog(Path file, int windowBytes) throws IOException {
+        this.file = file;
+        this.windowBytes = windowBytes;
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        this.channel = open(file);
+    }
+
+    @FunctionalInterface
+    interface RecordConsumer {
+        void accept(byte type, byte[] payload) throws IOException;
+    }
+
+    /**
+     * Reads every intact record from the start of the log and positions the log for appending after the last
+     * one. Must be called once, before the first append.
+     */
+    void replay(RecordConsumer consumer) throws IOException {
+        long size = channel.size();
+        long position = 0;
+        CRC32C crc = new CRC32C();
+        try (InputStream in = Channels.newInputStream(channel.position(0));
+             DataInputStream data = new DataInputStream(new BufferedInputStream(in, 1 << 16))) {
+            while (position + RECORD_HEADER_BYTES <= size) {
+                int length = data.readInt();
+                if (length <= 0 || position + RECORD_HEADER_BYTES + length > size) {
+                    break;
+                }
+                int checksum = data.readInt();
+                byte type = data.readByte();
+                byte[] payload = new byte[length];
+                data.readFully(payload);
+                crc.reset();
+                crc.update(type);
+                crc.update(payload);
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                consumer.accept(type, payload);
+                position += RECORD_HEADER_BYTES + length;
+            }
+        } catch (EOFException e) {
+            // A record header ran past the end of the file; everything before it is intact
+        }
+        channel = open(file);
+        if (hasData(position, size)) {
+            logger.warn("Discarding {} bytes of incomplete records at the end of {}", size - position, file);
+        }
+        channel.truncate(position);
+        end = position;
+    }
+
+    long append(byte type, byte[] payload) throws IOException {
+        int length = RECORD_HEADER_BYTES + payload.length;
+        if (window == null || end + length > windowStart + window.capacity()) {
+            remap(length);
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(type);
+        crc.update(payload);
+        window.position((int) (end - windowStart));
+        window.putInt(payload.length).putInt((int) crc.getValue()).put(type).put(payload);
+        end += length;
+        return length;
+    }
+
+    /**
+     * Bytes of records in the log.
+     */
+    long size() {
+        return end;
+    }
+
+    /**
+     * Flushes appended records from the page cache to the disk.
+     */
+    void force() {
+        if (window != null) {
+            window.force();
+        }
+    }
+
+    /**
+     * Replaces the log with {@code records}, written to a temporary sibling that is forced to disk and then
+     * atomically moved over the log, so a crash leaves either the old log or the new one.
+     */
+    void rewrite(Iterable<byte[]> records) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".compact");
+        long written = 0;
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            CRC32C crc = new CRC32C();
+            for (byte[] payload : records) {
+                crc.reset();
+                crc.update(PUT);
+                crc.update(payload);
+                ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_BYTES)
+                        .putInt(payload.length).putInt((int) crc.getValue()).put(PUT).flip();
+                ByteBuffer[] record = {header, ByteBuffer.wrap(payload)};
+                while (record[1].hasRemaining()) {
+                    out.write(record);
+                }
+                written += RECORD_HEADER_BYTES + payload.length;
+            }
+            out.force(true);
+        }
+        force();
+        window = null;
+        channel.close();
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel = open(file);
+        end = written;
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        window = null;
+        channel.truncate(end);
+        channel.force(true);
+        channel.close();
+    }
+
+    private void remap(int length) throws IOException {
+        force();
+        windowStart = end;
+        window = channel.map(FileChannel.MapMode.READ_WRITE, end, Math.max(windowBytes, length));
+    }
+
+    private boolean hasData(long from, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(8192);
+        for (long position = from; position < size; position += buffer.limit()) {
+            buffer.clear();
+            if (channel.read(buffer, position) <= 0) {
+                return false;
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                if (buffer.get() != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static FileChannel open(Path file) throws IOException {
+        return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+}
@@ -0,0 +1,26 @@
+package com.evaluate.report_card_system.response;
+
+import com.evaluate.report_card_system.archive.CohortArchive;
+import lombok.Data;
+
+import java.io.IOException;
+import java.util.List;
+
+@Data
+public class ArchiveSummary {
+    private String cohort;
+    private long students;
+    private long failed;
+    private long archiveBytes;
+    private List<String> errors;
+
+    public static ArchiveSummary of(String cohort, long students, long failed, CohortArchive archive) throws IOException {
+        ArchiveSummary summary = new ArchiveSummary();
+        summary.setCohort(cohort);
+        summary.setStudents(students);
+        summary.setFailed(failed);
+        summary.setArchiveBytes(archive.archiveBytes());
+        summary.setErrors(List.of());
+        return summary;
+    }
+}
@@ -0,0 +1,23 @@
+package com.evaluate.report_card_system.response;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BatchReportResponse {
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<StudentResult> results;
+
+    public static BatchReportResponse of(List<StudentResult> results) {
+        BatchReportResponse response = new BatchReportResponse();
+        response.setResults(results);
+        response.setTotal(results.size());
+        int succeeded = (int) results.stream().filter(StudentResult::isSuccess).count();
+        response.setSucceeded(succeeded);
+        response.setFailed(results.size() - succeeded);
+        return response;
+    }
+}
@@ -0,0 +1,12 @@
+package com.evaluate.report_card_system.response;
+
+import lombok.Data;
+
+@Data
+public class CacheStatsResponse {
+    private long size;
+    private long hits;
+    private long misses;
+    private double hitRate;
+    private long evictions;
+}
@@ -0,0 +1,15 @@
+package com.evaluate.report_card_system.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CohortAnalytics {
+    private String cohort;
+    private List<ScoreStatistics> statistics;
+}
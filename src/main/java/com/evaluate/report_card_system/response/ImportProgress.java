@@ -0,0 +1,22 @@
+package com.evaluate.report_card_system.response;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ImportProgress {
+    private String jobId;
+    private String state;
+    private long rowsRead;
+    private long rowErrors;
+    private long studentsRead;
+    private long studentsSkipped;
+    private long studentsInserted;
+    private long studentsFailed;
+    private long batchesCommitted;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+    private double studentsPerSecond;
+    private List<String> errors;
+}
@@ -0,0 +1,23 @@
+package com.evaluate.report_card_system.response;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class MultiGetResponse {
+    private int requested;
+    private int found;
+    private int notFound;
+    private List<StudentLookup> results;
+
+    public static MultiGetResponse of(List<StudentLookup> results) {
+        MultiGetResponse response = new MultiGetResponse();
+        response.setResults(results);
+        response.setRequested(results.size());
+        int found = (int) results.stream().filter(StudentLookup::isFound).count();
+        response.setFound(found);
+        response.setNotFound(results.size() - found);
+        return response;
+    }
+}
@@ -0,0 +1,16 @@
+package com.evaluate.report_card_system.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankResponse {
+    private Integer rollNumber;
+    private double finalScore;
+    private int rank;
+    private double percentile;
+    private int total;
+}
@@ -0,0 +1,22 @@
+package com.evaluate.report_card_system.response;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class RescoreProgress {
+    private String jobId;
+    private String state;
+    private String lastId;
+    private long studentsScanned;
+    private long studentsRescored;
+    private long studentsUnchanged;
+    private long studentsFailed;
+    private long conflicts;
+    private long batchesCommitted;
+    private long elapsedMillis;
+    private double studentsPerSecond;
+    private double writesPerSecond;
+    private List<String> errors;
+}
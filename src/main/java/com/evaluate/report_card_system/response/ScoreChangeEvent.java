@@ -0,0 +1,85 @@
+package com.evaluate.report_card_system.response;
+
+import com.evaluate.report_card_system.model.Student;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * One change to the stored scores of a student, as published on the score-change feed. {@code GENERATED}
+ * carries only the new scores; {@code UPDATED} lists every exam whose marks changed with its weighted score
+ * and its term's score before and after. {@code DELETED} carries the student's last final score.
+ * {@code RESYNC} carries no student: the subscriber missed events, or students were changed in bulk, and
+ * it should re-read whatever it tracks.
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ScoreChangeEvent {
+
+    public enum Type { GENERATED, UPDATED, DELETED, RESYNC }
+
+    private long sequence;
+    private Type type;
+    private Integer rollNumber;
+    private String cohort;
+    private Long version;
+    private Double oldFinalScore;
+    private Double newFinalScore;
+    private List<ExamScoreChange> changes;
+    private String reason;
+    private Instant timestamp;
+
+    public static ScoreChangeEvent generated(Student student) {
+        ScoreChangeEvent event = forStudent(Type.GENERATED, student);
+        event.setNewFinalScore(student.getFinalScore());
+        return event;
+    }
+
+    public static ScoreChangeEvent updated(Student student, Double oldFinalScore, List<ExamScoreChange> changes) {
+        ScoreChangeEvent event = forStudent(Type.UPDATED, student);
+        event.setOldFinalScore(oldFinalScore);
+        event.setNewFinalScore(student.getFinalScore());
+        event.setChanges(changes);
+        return event;
+    }
+
+    public static ScoreChangeEvent deleted(Student student) {
+        ScoreChangeEvent event = forStudent(Type.DELETED, student);
+        event.setOldFinalScore(student.getFinalScore());
+        return event;
+    }
+
+    public static ScoreChangeEvent resync(String reason) {
+        ScoreChangeEvent event = new ScoreChangeEvent();
+        event.setType(Type.RESYNC);
+        event.setReason(reason);
+        event.setTimestamp(Instant.now());
+        return event;
+    }
+
+    private static ScoreChangeEvent forStudent(Type type, Student student) {
+        ScoreChangeEvent event = new ScoreChangeEvent();
+        event.setType(type);
+        event.setRollNumber(student.getRollNumber());
+        event.setCohort(student.getCohort());
+        event.setVersion(student.getVersion());
+        event.setTimestamp(Instant.now());
+        return event;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ExamScoreChange {
+        private String termName;
+        private String examName;
+        private Double oldExamScore;
+        private Double newExamScore;
+        private Double oldTermScore;
+        private Double newTermScore;
+    }
+}
@@ -0,0 +1,19 @@
+package com.evaluate.report_card_system.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a score-range query. {@code nextCursor} resumes after the last student of this page and is
+ * {@code null} on the last page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScorePage {
+    private List<StudentSummary> students;
+    private String nextCursor;
+}
@@ -0,0 +1,21 @@
+package com.evaluate.report_card_system.response;
+
+import lombok.Data;
+
+/**
+ * Distribution of one subject mark (or one weighted score) across a cohort for one exam of one term.
+ * {@code histogram[i]} counts scores in {@code [10*i, 10*i + 10)}, with 100 counted in the last bucket.
+ */
+@Data
+public class ScoreStatistics {
+    private String termName;
+    private String examName;
+    private String subject;
+    private boolean weighted;
+    private long count;
+    private double mean;
+    private double stdDev;
+    private double min;
+    private double max;
+    private long[] histogram;
+}
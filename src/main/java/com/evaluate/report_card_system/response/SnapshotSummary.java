@@ -0,0 +1,18 @@
+package com.evaluate.report_card_system.response;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class SnapshotSummary {
+    private String name;
+    private long students;
+    private long failed;
+    private long snapshotBytes;
+    private long jsonBytes;
+    private double compressionRatio;
+    private long millis;
+    private double studentsPerSecond;
+    private List<String> errors;
+}
@@ -0,0 +1,23 @@
+package com.evaluate.report_card_system.response;
+
+import com.evaluate.report_card_system.model.Student;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentLookup {
+    private Integer rollNumber;
+    private boolean found;
+    private Student student;
+
+    public static StudentLookup found(Integer rollNumber, Student student) {
+        return new StudentLookup(rollNumber, true, student);
+    }
+
+    public static StudentLookup notFound(Integer rollNumber) {
+        return new StudentLookup(rollNumber, false, null);
+    }
+}
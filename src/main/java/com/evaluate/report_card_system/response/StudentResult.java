@@ -0,0 +1,35 @@
+package com.evaluate.report_card_system.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentResult {
+    private Integer rollNumber;
+    private Double finalScore;
+    private String error;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<Violation> violations;
+
+    public static StudentResult success(Integer rollNumber, double finalScore) {
+        return new StudentResult(rollNumber, finalScore, null, null);
+    }
+
+    public static StudentResult failure(Integer rollNumber, String error) {
+        return new StudentResult(rollNumber, null, error, null);
+    }
+
+    public static StudentResult invalid(Integer rollNumber, ValidationResult validation) {
+        return new StudentResult(rollNumber, null, validation.summary(), validation.getViolations());
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
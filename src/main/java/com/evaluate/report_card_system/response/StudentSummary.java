@@ -0,0 +1,48 @@
+package com.evaluate.report_card_system.response;
+
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.model.Term;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * The list-view shape of a student: roll number, name, term scores and final score, without exams.
+ * Read from Mongo through {@link #FIELDS}, so exam marks and weighted scores never leave the server.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentSummary {
+
+    public static final String FIELDS = "{ 'rollNumber': 1, 'name': 1, 'cohort': 1, 'finalScore': 1, "
+            + "'terms.termName': 1, 'terms.termScore': 1 }";
+
+    private String id;
+    private Integer rollNumber;
+    private String name;
+    private String cohort;
+    private List<TermSummary> terms;
+    private Double finalScore;
+
+    public static StudentSummary of(Student student) {
+        List<TermSummary> terms = student.getTerms() == null ? null
+                : student.getTerms().stream().map(TermSummary::of).toList();
+        return new StudentSummary(student.getId(), student.getRollNumber(), student.getName(), student.getCohort(),
+                terms, student.getFinalScore());
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TermSummary {
+        private String termName;
+        private double termScore;
+
+        static TermSummary of(Term term) {
+            return new TermSummary(term.getTermName(), term.getTermScore());
+        }
+    }
+}
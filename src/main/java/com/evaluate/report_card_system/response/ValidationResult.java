@@ -0,0 +1,35 @@
+package com.evaluate.report_card_system.response;
+
+import lombok.Data;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Data
+public class ValidationResult {
+
+    private static final ValidationResult VALID = new ValidationResult(List.of());
+
+    private final boolean valid;
+    private final List<Violation> violations;
+
+    private ValidationResult(List<Violation> violations) {
+        this.valid = violations.isEmpty();
+        this.violations = violations;
+    }
+
+    public static ValidationResult valid() {
+        return VALID;
+    }
+
+    public static ValidationResult of(List<Violation> violations) {
+        return violations == null || violations.isEmpty() ? VALID : new ValidationResult(List.copyOf(violations));
+    }
+
+    /**
+     * All violation messages joined with {@code "; "}, in the order they were found.
+     */
+    public String summary() {
+        return violations.stream().map(Violation::getMessage).collect(Collectors.joining("; "));
+    }
+}
@@ -0,0 +1,19 @@
+package com.evaluate.report_card_system.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One broken scoring rule: where it is ({@code terms[0].exams[2].subjectMarks.Physics}), which rule (the
+ * lower-case validation reason), the offending value when there is one, and a readable message.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Violation {
+    private String path;
+    private String code;
+    private Object value;
+    private String message;
+}
@@ -0,0 +1,89 @@
+package com.evaluate.report_card_system.service;
+
+import com.evaluate.report_card_system.repository.StudentRepository;
+import com.evaluate.report_card_system.response.CohortAnalytics;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cohort statistics computed by a Mongo aggregation and cached per cohort until a student of that cohort
+ * is written. Every write bumps the cohort's generation; a result is only cached if the generation did
+ * not move while it was being computed, so an aggregation racing a write is never kept.
+ * <p>
+ * Generations are only created by writes, so they are bounded by the cohorts students were actually
+ * written to; reads of any other cohort name leave nothing behind but a bounded cache entry. A cohort's
+ * generation also includes an epoch that {@link #invalidateAll()} bumps, so a bulk write moves the
+ * generation of every cohort, including ones no write has touched yet.
+ */
+@Service
+public class AnalyticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalyticsService.class);
+    private static final String ALL_COHORTS = "";
+    private static final int MAX_CACHED_COHORTS = 1000;
+
+    private final StudentRepository studentRepository;
+    private final Cache<String, CachedAnalytics> cache = Caffeine.newBuilder().maximumSize(MAX_CACHED_COHORTS).build();
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final AtomicLong globalGeneration = new AtomicLong();
+    private final AtomicLong epoch = new AtomicLong();
+
+    public AnalyticsService(StudentRepository studentRepository) {
+        this.studentRepository = studentRepository;
+    }
+
+    public CohortAnalytics getCohortAnalytics(String cohort) {
+        String key = cohort == null || cohort.isEmpty() ? ALL_COHORTS : cohort;
+        long generation = generation(key);
+        CachedAnalytics cached = cache.getIfPresent(key);
+        if (cached != null && cached.generation() == generation) {
+            return cached.analytics();
+        }
+        CohortAnalytics analytics = new CohortAnalytics(cohort,
+                studentRepository.aggregateScoreStatistics(key.equals(ALL_COHORTS) ? null : key));
+        if (generation(key) == generation) {
+            cache.put(key, new CachedAnalytics(generation, analytics));
+        }
+        logger.info("Computed analytics for cohort {}: {} score groups", key.isEmpty() ? "<all>" : key,
+                analytics.getStatistics().size());
+        return analytics;
+    }
+
+    /**
+     * Marks a cohort (and the all-students figures) stale. A {@code null} cohort only affects the latter.
+     */
+    public void invalidate(String cohort) {
+        globalGeneration.incrementAndGet();
+        if (cohort != null && !cohort.isEmpty()) {
+            generations.computeIfAbsent(cohort, c -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    /**
+     * For bulk writes that may touch any cohort: every cohort becomes stale.
+     */
+    public void invalidateAll() {
+        epoch.incrementAndGet();
+        globalGeneration.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    private long generation(String key) {
+        if (key.equals(ALL_COHORTS)) {
+            return globalGeneration.get();
+        }
+        // Both counters only grow, so the sum moves whenever either does.
+        AtomicLong generation = generations.get(key);
+        return epoch.get() + (generation == null ? 0 : generation.get());
+    }
+
+    private record CachedAnalytics(long generation, CohortAnalytics analytics) {
+    }
+}
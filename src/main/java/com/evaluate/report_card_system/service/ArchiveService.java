@@ -0,0 +1,293 @@
+package com.evaluate.report_card_system.service;
+
+import com.evaluate.report_card_system.archive.CohortArchive;
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.repository.StudentRepository;
+import com.evaluate.report_card_system.response.ArchiveSummary;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Moves whole cohorts out of the live {@code students} collection into {@link CohortArchive} files under
+ * {@code reportcard.archive.directory}, so the live collection and its {@code rollNumber} index only hold
+ * current students. A cohort is streamed in roll-number order and written in blocks of
+ * {@code reportcard.archive.block-size}; the students are deleted from Mongo only after the archive has been
+ * forced to disk and its index committed, and only if unchanged since they were read: a student edited in
+ * the meantime is read again and its new version archived on top (the later copy wins), for up to
+ * {@value #MAX_ARCHIVE_PASSES} passes. One still changing after that, or moved to another cohort, stays live
+ * and is reported. Restoring re-inserts the archived students and removes the files once every one of them
+ * is live again. Archive and restore runs are serialized by a lock rather than a monitor, so a run on a
+ * virtual thread does not pin its carrier while it waits on Mongo; lookups run concurrently.
+ */
+@Service
+public class ArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArchiveService.class);
+    private static final Pattern COHORT_NAME = Pattern.compile("[A-Za-z0-9][A-Za-z0-9._-]{0,63}");
+    private static final int MAX_ARCHIVE_PASSES = 3;
+
+    private final StudentRepository studentRepository;
+    private final StudentCache studentCache;
+    private final RankIndex rankIndex;
+    private final AnalyticsService analyticsService;
+    private final ScoreChangeBus scoreChangeBus;
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final int blockSize;
+    private final Map<String, CohortArchive> archives = new ConcurrentHashMap<>();
+    private final ReentrantLock runLock = new ReentrantLock();
+
+    public ArchiveService(StudentRepository studentRepository,
+                          StudentCache studentCache,
+                          RankIndex rankIndex,
+                          AnalyticsService analyticsService,
+                          ScoreChangeBus scoreChangeBus,
+                          ObjectMapper objectMapper,
+                          @Value("${reportcard.archive.directory:archive}") Path directory,
+                          @Value("${reportcard.archive.block-size:500}") int blockSize) {
+        this.studentRepository = studentRepository;
+        this.studentCache = studentCache;
+        this.rankIndex = rankIndex;
+        this.analyticsService = analyticsService;
+        this.scoreChangeBus = scoreChangeBus;
+        this.objectMapper = objectMapper;
+        this.directory = directory;
+        this.blockSize = blockSize;
+    }
+
+    public ArchiveSummary archiveCohort(String cohort) throws IOException {
+        runLock.lock();
+        try {
+            return archiveExclusively(cohort);
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    private ArchiveSummary archiveExclusively(String cohort) throws IOException {
+        CohortArchive archive = archive(cohort);
+        List<Student> pending;
+        long uncompressedBytes;
+        try (Stream<Student> students = studentRepository.streamByCohortOrderByRollNumber(cohort)) {
+            Iterator<Student> cursor = students.iterator();
+            if (!cursor.hasNext()) {
+                throw new IllegalArgumentException("Cohort " + cohort + " has no live students");
+            }
+            pending = new ArrayList<>();
+            uncompressedBytes = append(archive, cursor, pending);
+        }
+
+        long archived = 0;
+        List<String> errors = new ArrayList<>();
+        for (int pass = 1; !pending.isEmpty(); pass++) {
+            Set<String> changedIds = deleteUnchanged(pending);
+            archived += pending.size() - changedIds.size();
+            if (changedIds.isEmpty()) {
+                break;
+            }
+            List<Student> changed = new ArrayList<>();
+            for (Student student : studentRepository.findAllById(changedIds)) {
+                if (pass == MAX_ARCHIVE_PASSES) {
+                    errors.add("Roll number " + student.getRollNumber() + ": kept changing while archiving, left live");
+                } else if (!cohort.equals(student.getCohort())) {
+                    errors.add("Roll number " + student.getRollNumber() + ": moved to cohort " + student.getCohort()
+                            + " while archiving, left live");
+                } else {
+                    changed.add(student);
+                }
+            }
+            if (!changed.isEmpty()) {
+                logger.info("Re-archiving {} students of cohort {} changed while archiving", changed.size(), cohort);
+            }
+            pending = new ArrayList<>(changed.size());
+            uncompressedBytes += append(archive, changed.iterator(), pending);
+        }
+        analyticsService.invalidate(cohort);
+        if (archived > 0) {
+            scoreChangeBus.publishResync("Cohort " + cohort + " archived");
+        }
+        logger.info("Archived {} students of cohort {} ({} bytes of JSON into {} archive bytes), {} left live",
+                archived, cohort, uncompressedBytes, archive.archiveBytes(), errors.size());
+        ArchiveSummary summary = ArchiveSummary.of(cohort, archived, errors.size(), archive);
+        summary.setErrors(errors);
+        return summary;
+    }
+
+    /**
+     * Appends {@code students} to the archive in blocks and commits, collecting the id, version and roll number
+     * of each into {@code keys}. Returns the uncompressed bytes written; nothing is written for no students.
+     */
+    private long append(CohortArchive archive, Iterator<Student> students, List<Student> keys) throws IOException {
+        if (!students.hasNext()) {
+            return 0;
+        }
+        try (CohortArchive.Appender appender = archive.openAppender()) {
+            List<Student> block = new ArrayList<>(blockSize);
+            while (students.hasNext()) {
+                Student student = students.next();
+                block.add(student);
+                keys.add(key(student));
+                if (block.size() == blockSize) {
+                    appender.append(block);
+                    block.clear();
+                }
+            }
+            appender.append(block);
+            appender.commit();
+            return appender.getUncompressedBytes();
+        }
+    }
+
+    /**
+     * Deletes the archived students that are unchanged, one block per write, and drops them from the cache
+     * and rank index. Returns the ids of those changed since they were archived.
+     */
+    private Set<String> deleteUnchanged(List<Student> keys) {
+        Set<String> changed = new HashSet<>();
+        for (int from = 0; from < keys.size(); from += blockSize) {
+            List<Student> block = keys.subList(from, Math.min(keys.size(), from + blockSize));
+            Set<String> blockChanged = studentRepository.deleteUnchanged(block);
+            for (Student student : block) {
+                if (!blockChanged.contains(student.getId())) {
+                    studentCache.invalidate(student.getRollNumber());
+                    rankIndex.removeById(student.getId());
+                }
+            }
+            changed.addAll(blockChanged);
+        }
+        return changed;
+    }
+
+    private static Student key(Student student) {
+        Student key = new Student();
+        key.setId(student.getId());
+        key.setVersion(student.getVersion());
+        key.setRollNumber(student.getRollNumber());
+        return key;
+    }
+
+    /**
+     * Re-inserts every archived student of a cohort. The archive files are removed only when all of them
+     * were inserted; students whose roll number is live again are reported as failed and stay archived.
+     */
+    public ArchiveSummary restoreCohort(String cohort) throws IOException {
+        runLock.lock();
+        try {
+            return restoreExclusively(cohort);
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    private ArchiveSummary restoreExclusively(String cohort) throws IOException {
+        CohortArchive archive = existingArchive(cohort)
+                .orElseThrow(() -> new IllegalArgumentException("Cohort " + cohort + " is not archived"));
+        long[] counts = new long[2];
+        List<String> errors = new ArrayList<>();
+        archive.forEachBlock(block -> {
+            Map<Integer, String> failures = studentRepository.insertUnordered(block);
+            for (int i = 0; i < block.size(); i++) {
+                Student student = block.get(i);
+                studentCache.invalidate(student.getRollNumber());
+                String error = failures.get(i);
+                if (error == null) {
+                    rankIndex.put(student);
+                    counts[0]++;
+                } else {
+                    counts[1]++;
+                    if (errors.size() < 100) {
+                        errors.add("Roll number " + student.getRollNumber() + ": " + error);
+                    }
+                }
+            }
+        });
+        analyticsService.invalidate(cohort);
+        if (counts[0] > 0) {
+            scoreChangeBus.publishResync("Cohort " + cohort + " restored");
+        }
+        ArchiveSummary summary = ArchiveSummary.of(cohort, counts[0], counts[1], archive);
+        summary.setErrors(errors);
+        if (counts[1] == 0) {
+            archive.delete();
+            archives.remove(cohort);
+            summary.setArchiveBytes(0);
+        }
+        logger.info("Restored {} students of cohort {}, {} failed", counts[0], cohort, counts[1]);
+        return summary;
+    }
+
+    /**
+     * Looks a roll number up in every archived cohort.
+     */
+    public Optional<Student> findArchived(int rollNumber) {
+        if (rollNumber <= 0) {
+            throw new IllegalArgumentException("Roll number must be a positive integer");
+        }
+        for (CohortArchive archive : listArchives()) {
+            try {
+                Optional<Student> student = archive.find(rollNumber);
+                if (student.isPresent()) {
+                    return student;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read archive of cohort " + archive.getCohort(), e);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public List<ArchiveSummary> getArchives() throws IOException {
+        List<ArchiveSummary> summaries = new ArrayList<>();
+        for (CohortArchive archive : listArchives()) {
+            summaries.add(ArchiveSummary.of(archive.getCohort(), archive.size(), 0, archive));
+        }
+        return summaries;
+    }
+
+    private List<CohortArchive> listArchives() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.endsWith(CohortArchive.INDEX_SUFFIX))
+                    .map(name -> name.substring(0, name.length() - CohortArchive.INDEX_SUFFIX.length()))
+                    .sorted()
+                    .map(this::archive)
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list archives in " + directory, e);
+        }
+    }
+
+    private Optional<CohortArchive> existingArchive(String cohort) {
+        CohortArchive archive = archive(cohort);
+        return archive.exists() ? Optional.of(archive) : Optional.empty();
+    }
+
+    private CohortArchive archive(String cohort) {
+        if (cohort == null || !COHORT_NAME.matcher(cohort).matches()) {
+            throw new IllegalArgumentException("Cohort must be 1-64 letters, digits, '.', '_' or '-'");
+        }
+        return archives.computeIfAbsent(cohort, c -> new CohortArchive(directory, c, objectMapper));
+    }
+}
@@ -0,0 +1,131 @@
+package com.evaluate.report_card_system.service;
+
+import com.evaluate.report_card_system.model.ScoreMap;
+import com.evaluate.report_card_system.model.SubjectDictionary;
+import com.evaluate.report_card_system.model.WeightScheme;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A {@link WeightScheme} flattened into parallel arrays of {@link SubjectDictionary} ids and weights when
+ * it is loaded, so scoring an exam is an indexed walk over its {@link ScoreMap} with no name lookups.
+ * Instances are immutable and shared across threads. The {@link #getVersion() version} is derived from the
+ * weights alone, so every instance and restart gives the same scheme the same version.
+ */
+public final class CompiledWeightScheme {
+
+    private final String curriculum;
+    private final String version;
+    private final String scoreName;
+    private final int scoreNameId;
+    private final int[] subjectIds;
+    private final double[] subjectWeights;
+    private final double[] examWeights;
+
+    private CompiledWeightScheme(String curriculum, String scoreName, int[] subjectIds,
+                                 double[] subjectWeights, double[] examWeights) {
+        this.curriculum = curriculum;
+        this.version = version(scoreName, subjectIds, subjectWeights, examWeights);
+        this.scoreName = scoreName;
+        this.scoreNameId = SubjectDictionary.intern(scoreName);
+        this.subjectIds = subjectIds;
+        this.subjectWeights = subjectWeights;
+        this.examWeights = examWeights;
+    }
+
+    public static CompiledWeightScheme compile(String curriculum, WeightScheme scheme) {
+        if (scheme.getScoreName() == null || scheme.getScoreName().isEmpty()) {
+            throw new IllegalArgumentException("Weight scheme " + curriculum + ": score name is required");
+        }
+        Map<String, Double> weights = scheme.getSubjectWeights();
+        if (weights == null || weights.isEmpty()) {
+            throw new IllegalArgumentException("Weight scheme " + curriculum + ": at least one subject weight is required");
+        }
+        List<Double> exams = scheme.getExamWeights();
+        if (exams == null || exams.isEmpty()) {
+            throw new IllegalArgumentException("Weight scheme " + curriculum + ": at least one exam weight is required");
+        }
+        int[] subjectIds = new int[weights.size()];
+        double[] subjectWeights = new double[weights.size()];
+        int i = 0;
+        for (Map.Entry<String, Double> entry : weights.entrySet()) {
+            subjectIds[i] = SubjectDictionary.intern(entry.getKey());
+            subjectWeights[i++] = requireWeight(curriculum, entry.getKey(), entry.getValue());
+        }
+        double[] examWeights = new double[exams.size()];
+        for (int e = 0; e < examWeights.length; e++) {
+            examWeights[e] = requireWeight(curriculum, "exam " + (e + 1), exams.get(e));
+        }
+        return new CompiledWeightScheme(curriculum, scheme.getScoreName(), subjectIds, subjectWeights, examWeights);
+    }
+
+    private static String version(String scoreName, int[] subjectIds, double[] subjectWeights, double[] examWeights) {
+        Map<String, Double> weights = new TreeMap<>();
+        for (int i = 0; i < subjectIds.length; i++) {
+            weights.put(SubjectDictionary.nameOf(subjectIds[i]), subjectWeights[i]);
+        }
+        String definition = scoreName + '|' + weights + '|' + Arrays.toString(examWeights);
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(definition.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static double requireWeight(String curriculum, String name, Double weight) {
+        if (weight == null || weight < 0 || weight.isNaN()) {
+            throw new IllegalArgumentException("Weight scheme " + curriculum + ": weight for " + name + " must be a non-negative number");
+        }
+        return weight;
+    }
+
+    public String getCurriculum() {
+        return curriculum;
+    }
+
+    /**
+     * Short hash of the score name and weights; scores stamped with another version were computed under
+     * different weights.
+     */
+    public String getVersion() {
+        return version;
+    }
+
+    public String getScoreName() {
+        return scoreName;
+    }
+
+    public int getScoreNameId() {
+        return scoreNameId;
+    }
+
+    public int getExamCount() {
+        return examWeights.length;
+    }
+
+    /**
+     * Weighted score of one exam; subjects the scheme weights but the exam lacks count as zero.
+     */
+    public double scoreExam(ScoreMap marks) {
+        double score = 0.0;
+        for (int i = 0; i < subjectIds.length; i++) {
+            double mark = marks.getMark(subjectIds[i]);
+            if (!Double.isNaN(mark)) {
+                score += mark * subjectWeights[i];
+            }
+        }
+        return score;
+    }
+
+    public double examWeight(int examIndex) {
+        return examWeights[examIndex];
+    }
+}
@@ -0,0 +1,99 @@
+package com.evaluate.report_card_system.service;
+
+import com.evaluate.report_card_system.exception.IdempotencyKeyReusedException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Results of requests sent with an {@code Idempotency-Key}, kept for {@code reportcard.idempotency.ttl} and
+ * bounded to {@code reportcard.idempotency.maximum-size} keys. The first request with a key runs; a retry with
+ * the same key and the same request fingerprint gets the stored result without running again, and a retry
+ * that arrives while the first is still running waits for it. A request that throws leaves no result behind,
+ * so it can be retried; callers report rejections by throwing, which keeps 4xx responses out of the store.
+ * Reusing a key for a different request fails with {@link IdempotencyKeyReusedException}.
+ */
+@Component
+public class IdempotencyStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyStore.class);
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final Cache<String, Entry> results;
+
+    public IdempotencyStore(@Value("${reportcard.idempotency.maximum-size:10000}") long maximumSize,
+                            @Value("${reportcard.idempotency.ttl:24h}") Duration ttl) {
+        this.results = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    private record Entry(String fingerprint, CompletableFuture<Object> result) {
+    }
+
+    /**
+     * Runs {@code action} once per {@code operation} and {@code key}; see the class comment.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, String key, String fingerprint, Supplier<T> action) {
+        validateKey(key);
+        Entry entry = new Entry(fingerprint, new CompletableFuture<>());
+        Entry existing = results.asMap().putIfAbsent(operation + ":" + key, entry);
+        if (existing != null) {
+            if (!existing.fingerprint.equals(fingerprint)) {
+                throw new IdempotencyKeyReusedException(key);
+            }
+            logger.info("Replaying {} result for Idempotency-Key {}", operation, key);
+            try {
+                return (T) existing.result.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        try {
+            T result = action.get();
+            entry.result.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            entry.result.completeExceptionally(e);
+            results.asMap().remove(operation + ":" + key, entry);
+            throw e;
+        }
+    }
+
+    /**
+     * Rejects a key that {@link #execute} would not accept, so callers can check it before reading the body.
+     */
+    public static void validateKey(String key) {
+        if (key == null || key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key must be 1-" + MAX_KEY_LENGTH + " characters");
+        }
+    }
+
+    /**
+     * SHA-256 of a request body, used to tell a retry from a different request under the same key.
+     */
+    public static String fingerprint(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public long size() {
+        return results.estimatedSize();
+    }
+}
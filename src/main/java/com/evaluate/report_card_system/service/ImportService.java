@@ -0,0 +1,266 @@
+package com.evaluate.report_card_system.service;
+
+import com.evaluate.report_card_system.exception.MalformedRowException;
+import com.evaluate.report_card_system.importer.ImportJob;
+import com.evaluate.report_card_system.importer.MarkRow;
+import com.evaluate.report_card_system.importer.MarkRowReader;
+import com.evaluate.report_card_system.importer.StudentAssembler;
+import com.evaluate.report_card_system.importer.StudentAssembler.AssembledStudent;
+import com.evaluate.report_card_system.model.ImportCheckpoint;
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.repository.ImportCheckpointRepository;
+import com.evaluate.report_card_system.response.ImportProgress;
+import com.evaluate.report_card_system.response.StudentResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Streams a whole-school mark sheet into the students collection. Rows are parsed and grouped into
+ * students on the calling thread, scored on a bounded worker pool (the caller scores the student itself
+ * when the pool is saturated), and inserted batch by batch on a single writer thread. The parser never
+ * runs more than {@value #MAX_PENDING_BATCHES} batches ahead of the writer, so heap use does not depend
+ * on file size. A checkpoint is saved after every batch; re-running a job id skips what was committed.
+ * A student with a malformed row is reported as failed rather than inserted from its other rows. If the
+ * input itself fails mid-stream, the batches already handed to the writer are committed and the job is
+ * checkpointed as FAILED, so a re-run with the same id and input resumes after them.
+ * The writer only waits on Mongo, so it runs on a virtual thread when virtual threads are enabled; scoring
+ * is CPU-bound and stays on platform threads.
+ */
+@Service
+public class ImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportService.class);
+    private static final int MAX_PENDING_BATCHES = 2;
+
+    private final ReportCardService reportCardService;
+    private final ImportCheckpointRepository checkpointRepository;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final boolean virtualThreads;
+    private final ThreadPoolExecutor scoringPool;
+    private final Map<String, ImportJob> runningJobs = new ConcurrentHashMap<>();
+
+    public ImportService(ReportCardService reportCardService,
+                         ImportCheckpointRepository checkpointRepository,
+                         ObjectMapper objectMapper,
+                         @Value("${reportcard.import.batch-size:1000}") int batchSize,
+                         @Value("${reportcard.import.workers:0}") int workers,
+                         @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.reportCardService = reportCardService;
+        this.checkpointRepository = checkpointRepository;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.virtualThreads = virtualThreads;
+        int poolSize = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        this.scoringPool = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(batchSize),
+                Thread.ofPlatform().name("import-scoring-", 0).daemon().factory(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    public ImportProgress importMarks(String jobId, String format, InputStream input) throws IOException {
+        String id = jobId == null || jobId.isBlank() ? UUID.randomUUID().toString() : jobId;
+        ImportCheckpoint checkpoint = checkpointRepository.findById(id).orElseGet(() -> {
+            ImportCheckpoint created = new ImportCheckpoint();
+            created.setJobId(id);
+            return created;
+        });
+        if (checkpoint.isCompleted()) {
+            logger.info("Import {} already completed, nothing to resume", id);
+            return ImportJob.fromCheckpoint(checkpoint);
+        }
+        ImportJob job = new ImportJob(checkpoint);
+        if (runningJobs.putIfAbsent(id, job) != null) {
+            throw new IllegalArgumentException("Import " + id + " is already running");
+        }
+        Thread.Builder writerThread = virtualThreads ? Thread.ofVirtual() : Thread.ofPlatform();
+        ExecutorService writer = Executors.newSingleThreadExecutor(writerThread.name("import-writer-" + id).factory());
+        Deque<Future<?>> pendingWrites = new ArrayDeque<>();
+        AtomicBoolean writeFailed = new AtomicBoolean();
+        try {
+            MarkRowReader reader = MarkRowReader.of(format,
+                    new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)), objectMapper);
+            IOException inputFailure = null;
+            try {
+                readStudents(job, reader, checkpoint.getStudentsCommitted(), writer, pendingWrites, writeFailed);
+            } catch (IOException e) {
+                inputFailure = e;
+            }
+            while (!pendingWrites.isEmpty()) {
+                pendingWrites.removeFirst().get();
+            }
+            if (inputFailure != null) {
+                String failure = "Input failed after " + job.toProgress().getRowsRead() + " rows ("
+                        + inputFailure.getMessage() + "); committed students are checkpointed, re-run job " + id
+                        + " with the same input to resume";
+                logger.error("Import {} failed: {}", id, failure, inputFailure);
+                job.finish("FAILED", failure);
+                checkpointRepository.save(job.checkpoint());
+                return job.toProgress();
+            }
+            job.finish("COMPLETED", null);
+            checkpointRepository.save(job.checkpoint());
+            ImportProgress progress = job.toProgress();
+            logger.info("Import {} completed: {} inserted, {} failed, {} rows/s",
+                    id, progress.getStudentsInserted(), progress.getStudentsFailed(), Math.round(progress.getRowsPerSecond()));
+            return progress;
+        } catch (ExecutionException e) {
+            // Batches queued behind the failed one skip their write, so the checkpoint stays a prefix.
+            try {
+                awaitSkippedWrites(pendingWrites);
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            String failure = "Write failed after " + job.checkpoint().getStudentsCommitted() + " committed students ("
+                    + e.getCause().getMessage() + "); re-run job " + id + " with the same input to resume";
+            logger.error("Import {} failed: {}", id, failure, e.getCause());
+            job.finish("FAILED", failure);
+            checkpointRepository.save(job.checkpoint());
+            return job.toProgress();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.finish("INTERRUPTED", "Import interrupted");
+            return job.toProgress();
+        } finally {
+            writer.shutdownNow();
+            runningJobs.remove(id);
+        }
+    }
+
+    /**
+     * Parses and assembles the input, handing full batches to the writer; the last partial batch is handed
+     * over only when the input ends cleanly, since a failed read may have cut its last student short.
+     */
+    private void readStudents(ImportJob job, MarkRowReader reader, long toSkip, ExecutorService writer,
+                              Deque<Future<?>> pendingWrites, AtomicBoolean writeFailed)
+            throws IOException, ExecutionException, InterruptedException {
+        if (toSkip > 0) {
+            logger.info("Resuming import {} after {} committed students", job.getJobId(), toSkip);
+        }
+        StudentAssembler assembler = new StudentAssembler();
+        List<Student> batch = new ArrayList<>(batchSize);
+        List<Future<StudentResult>> scores = new ArrayList<>(batchSize);
+        boolean end = false;
+        while (!end) {
+            AssembledStudent assembled;
+            try {
+                MarkRow row = reader.next();
+                end = row == null;
+                if (row != null) {
+                    job.rowRead();
+                }
+                assembled = end ? assembler.finish() : assembler.accept(row);
+            } catch (MalformedRowException e) {
+                job.rowError(e.getMessage());
+                assembled = assembler.reject(e.getRollNumber(), e.getMessage());
+            }
+            if (assembled == null) {
+                continue;
+            }
+            job.studentRead();
+            if (toSkip > 0) {
+                toSkip--;
+                job.studentSkipped();
+                continue;
+            }
+            Student student = assembled.student();
+            batch.add(student);
+            scores.add(assembled.rejection() == null
+                    ? scoringPool.submit(() -> reportCardService.scoreStudent(student))
+                    : CompletableFuture.completedFuture(StudentResult.failure(student.getRollNumber(),
+                            "Rejected because of a malformed row: " + assembled.rejection())));
+            if (batch.size() == batchSize) {
+                submitBatch(job, writer, pendingWrites, writeFailed, batch, scores);
+                batch = new ArrayList<>(batchSize);
+                scores = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            submitBatch(job, writer, pendingWrites, writeFailed, batch, scores);
+        }
+    }
+
+    public Optional<ImportProgress> getProgress(String jobId) {
+        ImportJob running = runningJobs.get(jobId);
+        if (running != null) {
+            return Optional.of(running.toProgress());
+        }
+        return checkpointRepository.findById(jobId).map(ImportJob::fromCheckpoint);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scoringPool.shutdownNow();
+    }
+
+    /**
+     * Queues a batch on the single writer thread. Once a write has failed, later batches are skipped rather
+     * than committed, so the committed students stay a prefix of the input that a re-run can skip.
+     */
+    private void submitBatch(ImportJob job, ExecutorService writer, Deque<Future<?>> pendingWrites,
+                             AtomicBoolean writeFailed, List<Student> batch, List<Future<StudentResult>> scores)
+            throws ExecutionException, InterruptedException {
+        if (pendingWrites.size() == MAX_PENDING_BATCHES) {
+            pendingWrites.removeFirst().get();
+        }
+        pendingWrites.addLast(writer.submit(() -> {
+            if (writeFailed.get()) {
+                return null;
+            }
+            try {
+                writeBatch(job, batch, scores);
+            } catch (Exception e) {
+                writeFailed.set(true);
+                throw e;
+            }
+            return null;
+        }));
+    }
+
+    private static void awaitSkippedWrites(Deque<Future<?>> pendingWrites) throws InterruptedException {
+        while (!pendingWrites.isEmpty()) {
+            try {
+                pendingWrites.removeFirst().get();
+            } catch (ExecutionException e) {
+                logger.debug("Queued import write failed after an earlier one: {}", e.getCause().getMessage());
+            }
+        }
+    }
+
+    private void writeBatch(ImportJob job, List<Student> batch, List<Future<StudentResult>> scores)
+            throws ExecutionException, InterruptedException {
+        List<StudentResult> scored = new ArrayList<>(scores.size());
+        for (Future<StudentResult> score : scores) {
+            scored.add(score.get());
+        }
+        job.batchCommitted(reportCardService.insertScoredBatch(batch, scored));
+        checkpointRepository.save(job.checkpoint());
+    }
+}
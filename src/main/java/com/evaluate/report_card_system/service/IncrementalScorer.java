@@ -0,0 +1,78 @@
+package com.evaluate.report_card_system.service;
+
+import com.evaluate.report_card_system.model.Exam;
+import com.evaluate.report_card_system.model.ScoreMap;
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.model.Term;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Propagates exam score changes along the exam -&gt; term -&gt; final dependency graph of one student.
+ * A term score is the weighted sum of its exam scores and the final score is the mean of the term scores,
+ * so after an exam changes only its term is re-summed from the stored exam scores and the final score
+ * from the stored term scores; no other exam has to be rescored or revalidated. Both sums run in the same
+ * order as a full recompute, so the result is bit-for-bit what a full recompute would store and repeated
+ * edits cannot drift the way accumulated deltas would.
+ * <p>
+ * This is only sound on top of scores that a full recompute under the same weights produced. When the
+ * stored scores cannot be trusted (never scored, scored under another scheme version, a missing exam or
+ * term score, or the term no longer has the scheme's exam count) {@link #applyExamChange} refuses and the
+ * caller falls back to a full recompute.
+ */
+final class IncrementalScorer {
+
+    private final Student student;
+    private final CompiledWeightScheme scheme;
+    private final Map<String, Double> changedTermScores = new LinkedHashMap<>();
+
+    IncrementalScorer(Student student, CompiledWeightScheme scheme) {
+        this.student = student;
+        this.scheme = scheme;
+    }
+
+    /**
+     * Recomputes the term of an exam whose weighted score was just rescored, then the final score.
+     *
+     * @param previousScore the exam's stored score before the change, {@code NaN} if it had none
+     * @return {@code false}, leaving the student untouched, if the stored scores are not a valid base
+     */
+    boolean applyExamChange(Term term, double previousScore) {
+        if (Double.isNaN(previousScore) || student.getFinalScore() == null
+                || !scheme.getVersion().equals(student.getSchemeVersion())
+                || term.getExams().size() != scheme.getExamCount()) {
+            return false;
+        }
+        double termScore = 0.0;
+        List<Exam> exams = term.getExams();
+        for (int i = 0; i < exams.size(); i++) {
+            ScoreMap weightedScores = exams.get(i).getWeightedScores();
+            double examScore = weightedScores == null ? Double.NaN : weightedScores.getMark(scheme.getScoreNameId());
+            if (Double.isNaN(examScore)) {
+                return false;
+            }
+            termScore += examScore * scheme.examWeight(i);
+        }
+        double totalTermScore = 0.0;
+        for (Term other : student.getTerms()) {
+            Double score = other == term ? Double.valueOf(termScore) : other.getTermScore();
+            if (score == null) {
+                return false;
+            }
+            totalTermScore += score;
+        }
+        term.setTermScore(termScore);
+        student.setFinalScore(totalTermScore / student.getTerms().size());
+        changedTermScores.put(term.getTermName(), termScore);
+        return true;
+    }
+
+    /**
+     * Term scores touched by {@link #applyExamChange}, keyed by term name, for the partial write.
+     */
+    Map<String, Double> changedTermScores() {
+        return changedTermScores;
+    }
+}
@@ -0,0 +1,357 @@
+package com.evaluate.report_card_system.service;
+
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.repository.StudentRepository;
+import com.evaluate.report_card_system.response.RankResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * In-memory order-statistic index over persisted final scores. Students are kept in a treap ordered by
+ * score (highest first, then roll number) where every node knows the size of its subtree, so rank,
+ * percentile and the start of a top-N listing are found in O(log n) without touching Mongo.
+ * <p>
+ * Ties share a rank (1 + the number of strictly higher scores); percentile is the share of students
+ * with a strictly lower score. The index is rebuilt from Mongo at startup in one streaming pass and is
+ * kept current by the service write paths; writes made while a rebuild is streaming are journaled and
+ * replayed onto the rebuilt index before it is swapped in, so they are not lost to a stale cursor read.
+ */
+@Component
+public class RankIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(RankIndex.class);
+
+    private final StudentRepository studentRepository;
+    private final boolean rebuildOnStartup;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private Node root;
+    private Map<Integer, Node> byRollNumber = new HashMap<>();
+    private Map<String, Integer> rollNumberById = new HashMap<>();
+    private List<Consumer<RankIndex>> journal;
+
+    public RankIndex(StudentRepository studentRepository,
+                     @Value("${reportcard.rank.rebuild-on-startup:true}") boolean rebuildOnStartup) {
+        this.studentRepository = studentRepository;
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (!rebuildOnStartup) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            logger.warn("Could not rebuild rank index from Mongo: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Reloads every final score with one cursor over the students collection and swaps the result in.
+     * Rebuilds are serialised so only one journal is open at a time; with a lock rather than a monitor, so a
+     * rebuild on a virtual thread does not pin its carrier for the length of the cursor.
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            rebuildExclusively();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void rebuildExclusively() {
+        RankIndex fresh = new RankIndex(studentRepository, false);
+        long skipped = 0;
+        lock.writeLock().lock();
+        try {
+            journal = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try (Stream<Student> scores = studentRepository.streamAllScores()) {
+            for (Student student : (Iterable<Student>) scores::iterator) {
+                if (student.getFinalScore() == null) {
+                    skipped++;
+                } else {
+                    fresh.insert(student.getId(), student.getRollNumber(), student.getFinalScore());
+                }
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                journal = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+        lock.writeLock().lock();
+        try {
+            journal.forEach(write -> write.accept(fresh));
+            journal = null;
+            root = fresh.root;
+            byRollNumber = fresh.byRollNumber;
+            rollNumberById = fresh.rollNumberById;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Rank index rebuilt with {} students ({} without a final score)", size(root), skipped);
+    }
+
+    public void put(Student student) {
+        if (student.getRollNumber() == null || student.getFinalScore() == null) {
+            return;
+        }
+        String id = student.getId();
+        int rollNumber = student.getRollNumber();
+        double score = student.getFinalScore();
+        lock.writeLock().lock();
+        try {
+            replace(id, rollNumber, score);
+            if (journal != null) {
+                journal.add(index -> index.replace(id, rollNumber, score));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeById(String id) {
+        lock.writeLock().lock();
+        try {
+            removeId(id);
+            if (journal != null) {
+                journal.add(index -> index.removeId(id));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<RankResponse> rank(int rollNumber) {
+        lock.readLock().lock();
+        try {
+            Node node = byRollNumber.get(rollNumber);
+            if (node == null) {
+                return Optional.empty();
+            }
+            int total = size(root);
+            int higher = countAbove(node.score);
+            int lower = total - higher - countEqual(node.score);
+            double percentile = total == 0 ? 0.0 : 100.0 * lower / total;
+            return Optional.of(new RankResponse(rollNumber, node.score, higher + 1, percentile, total));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The {@code n} highest scores in rank order.
+     */
+    public List<RankResponse> top(int n) {
+        lock.readLock().lock();
+        try {
+            int total = size(root);
+            List<Node> nodes = new ArrayList<>(Math.min(n, total));
+            collect(root, n, nodes);
+            List<RankResponse> top = new ArrayList<>(nodes.size());
+            int rank = 0;
+            for (int i = 0; i < nodes.size(); i++) {
+                Node node = nodes.get(i);
+                if (i == 0 || node.score != nodes.get(i - 1).score) {
+                    rank = i + 1;
+                }
+                int lower = total - (rank - 1) - countEqual(node.score);
+                top.add(new RankResponse(node.rollNumber, node.score, rank, 100.0 * lower / total, total));
+            }
+            return top;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size(root);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void replace(String id, int rollNumber, double score) {
+        remove(rollNumber);
+        insert(id, rollNumber, score);
+    }
+
+    private void removeId(String id) {
+        Integer rollNumber = rollNumberById.get(id);
+        if (rollNumber != null) {
+            remove(rollNumber);
+        }
+    }
+
+    private void insert(String id, int rollNumber, double score) {
+        Node node = new Node(rollNumber, score, ThreadLocalRandom.current().nextInt());
+        Node[] parts = split(root, node);
+        root = merge(merge(parts[0], node), parts[1]);
+        byRollNumber.put(rollNumber, node);
+        if (id != null) {
+            rollNumberById.put(id, rollNumber);
+            node.id = id;
+        }
+    }
+
+    private void remove(int rollNumber) {
+        Node node = byRollNumber.remove(rollNumber);
+        if (node == null) {
+            return;
+        }
+        if (node.id != null) {
+            rollNumberById.remove(node.id);
+        }
+        root = delete(root, node);
+    }
+
+    private int countAbove(double score) {
+        int count = 0;
+        Node current = root;
+        while (current != null) {
+            if (current.score > score) {
+                count += size(current.left) + 1;
+                current = current.right;
+            } else {
+                current = current.left;
+            }
+        }
+        return count;
+    }
+
+    private int countEqual(double score) {
+        int atLeast = 0;
+        Node current = root;
+        while (current != null) {
+            if (current.score >= score) {
+                atLeast += size(current.left) + 1;
+                current = current.right;
+            } else {
+                current = current.left;
+            }
+        }
+        return atLeast - countAbove(score);
+    }
+
+    private static void collect(Node node, int limit, List<Node> out) {
+        if (node == null || out.size() >= limit) {
+            return;
+        }
+        collect(node.left, limit, out);
+        if (out.size() < limit) {
+            out.add(node);
+        }
+        collect(node.right, limit, out);
+    }
+
+    /**
+     * Splits into the nodes ordered before {@code key} and the rest.
+     */
+    private static Node[] split(Node node, Node key) {
+        if (node == null) {
+            return new Node[2];
+        }
+        if (node.compareTo(key) < 0) {
+            Node[] parts = split(node.right, key);
+            node.right = parts[0];
+            node.update();
+            return new Node[]{node, parts[1]};
+        }
+        Node[] parts = split(node.left, key);
+        node.left = parts[1];
+        node.update();
+        return new Node[]{parts[0], node};
+    }
+
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static Node delete(Node node, Node target) {
+        if (node == null) {
+            return null;
+        }
+        if (node == target) {
+            return merge(node.left, node.right);
+        }
+        if (target.compareTo(node) < 0) {
+            node.left = delete(node.left, target);
+        } else {
+            node.right = delete(node.right, target);
+        }
+        node.update();
+        return node;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node implements Comparable<Node> {
+        private final int rollNumber;
+        private final double score;
+        private final int priority;
+        private String id;
+        private int size = 1;
+        private Node left;
+        private Node right;
+
+        private Node(int rollNumber, double score, int priority) {
+            this.rollNumber = rollNumber;
+            this.score = score;
+            this.priority = priority;
+        }
+
+        private void update() {
+            size = 1 + RankIndex.size(left) + RankIndex.size(right);
+        }
+
+        /**
+         * Highest score first; equal scores by roll number.
+         */
+        @Override
+        public int compareTo(Node other) {
+            int byScore = Double.compare(other.score, score);
+            return byScore != 0 ? byScore : Integer.compare(rollNumber, other.rollNumber);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.evaluate.report_card_system.service;
+
+import com.evaluate.report_card_system.exception.ScoreValidationException;
+import com.evaluate.report_card_system.exception.ScoreValidationException.Reason;
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.repository.ReactiveStudentRepository;
+import com.evaluate.report_card_system.request.UpdateMarkRequest;
+import com.evaluate.report_card_system.response.StudentLookup;
+import com.evaluate.report_card_system.response.StudentSummary;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Non-blocking front for the reactive profile. Reads and inserts go through {@link ReactiveStudentRepository};
+ * scoring is the unchanged, CPU-only {@link ReportCardService#calculateFinalScore(Student)}. Mark updates and
+ * deletes keep their versioned retry logic in {@link ReportCardService} and run on the bounded elastic
+ * scheduler so they never block an event-loop thread.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveReportCardService {
+
+    private final ReactiveStudentRepository studentRepository;
+    private final ReportCardService reportCardService;
+
+    public ReactiveReportCardService(ReactiveStudentRepository studentRepository, ReportCardService reportCardService) {
+        this.studentRepository = studentRepository;
+        this.reportCardService = reportCardService;
+    }
+
+    public Mono<Student> getStudentByRollNumber(int rollNumber) {
+        if (rollNumber <= 0) {
+            return Mono.error(new ScoreValidationException(Reason.INVALID_ROLL_NUMBER, "Roll number must be a positive integer"));
+        }
+        return studentRepository.findByRollNumber(rollNumber);
+    }
+
+    /**
+     * The id and version of a student, read as a two-field projection.
+     */
+    public Mono<Student> getStudentVersion(int rollNumber) {
+        if (rollNumber <= 0) {
+            return Mono.error(new ScoreValidationException(Reason.INVALID_ROLL_NUMBER, "Roll number must be a positive integer"));
+        }
+        return studentRepository.findVersionByRollNumber(rollNumber);
+    }
+
+    /**
+     * Same contract as {@link ReportCardService#getStudentsByRollNumbers(List)}: one {@code $in} query,
+     * results in request order with not-found markers.
+     */
+    public Flux<StudentLookup> getStudentsByRollNumbers(List<Integer> rollNumbers) {
+        return Mono.fromRunnable(() -> ReportCardService.validateMultiGet(rollNumbers))
+                .then(Mono.defer(() -> studentRepository.findByRollNumberIn(new LinkedHashSet<>(rollNumbers))
+                        .collectMap(Student::getRollNumber, Function.identity())))
+                .flatMapIterable(found -> rollNumbers.stream()
+                        .map(rollNumber -> found.containsKey(rollNumber)
+                                ? StudentLookup.found(rollNumber, found.get(rollNumber))
+                                : StudentLookup.notFound(rollNumber))
+                        .toList());
+    }
+
+    /**
+     * Students of a cohort, emitted as the cursor delivers them; demand from the subscriber bounds how many
+     * documents the driver fetches ahead.
+     */
+    public Flux<Student> streamCohort(String cohort) {
+        if (cohort == null || cohort.isBlank()) {
+            return Flux.error(new IllegalArgumentException("Cohort is required"));
+        }
+        return studentRepository.findByCohort(cohort);
+    }
+
+    public Mono<StudentSummary> getStudentSummary(int rollNumber) {
+        if (rollNumber <= 0) {
+            return Mono.error(new ScoreValidationException(Reason.INVALID_ROLL_NUMBER, "Roll number must be a positive integer"));
+        }
+        return studentRepository.findSummaryByRollNumber(rollNumber);
+    }
+
+    /**
+     * Summaries of a cohort in roll-number order, read with the summary projection.
+     */
+    public Flux<StudentSummary> streamCohortSummaries(String cohort) {
+        if (cohort == null || cohort.isBlank()) {
+            return Flux.error(new IllegalArgumentException("Cohort is required"));
+        }
+        return studentRepository.findSummariesByCohort(cohort);
+    }
+
+    public Mono<Student> generateReportCard(Student student) {
+        if (student.getRollNumber() == null || student.getRollNumber() <= 0) {
+            return Mono.error(new ScoreValidationException(Reason.INVALID_ROLL_NUMBER, "Roll number must be a positive integer"));
+        }
+        return Mono.fromCallable(() -> reportCardService.calculateFinalScore(student))
+                .then(Mono.defer(() -> studentRepository.insert(student)))
+                .onErrorMap(DuplicateKeyException.class,
+                        e -> new ScoreValidationException(Reason.DUPLICATE_ROLL_NUMBER, "Roll number already exists"))
+                .doOnNext(reportCardService::studentInserted);
+    }
+
+    public Mono<Student> updateExamMarks(int rollNumber, UpdateMarkRequest request) {
+        return Mono.fromCallable(() -> reportCardService.updateExamMarks(rollNumber, request))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    public Mono<Void> deleteStudent(String id) {
+        return Mono.fromRunnable(() -> reportCardService.deleteStudent(id))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+}
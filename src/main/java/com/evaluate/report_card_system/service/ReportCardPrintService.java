@@ -0,0 +1,148 @@
+package com.evaluate.report_card_system.service;
+
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.render.ReportCardRenderer;
+import com.evaluate.report_card_system.render.ReportFormat;
+import com.evaluate.report_card_system.repository.StudentRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Prints report cards in bulk. Students are read from one cursor in roll-number order and rendered on a
+ * pool of {@code reportcard.print.parallelism} threads (0 means one per core). At most
+ * {@code reportcard.print.window} rendered cards per thread wait to be written, so only the cursor batch and
+ * that window are ever in memory. Cards are written to a streamed ZIP on the calling thread, in cursor order,
+ * one entry per student named {@code <rollNumber>.<format>}.
+ */
+@Service
+public class ReportCardPrintService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportCardPrintService.class);
+
+    private final StudentRepository studentRepository;
+    private final ReportCardRenderer renderer;
+    private final ExecutorService renderPool;
+    private final int maxInFlight;
+
+    public ReportCardPrintService(StudentRepository studentRepository,
+                                  ReportCardRenderer renderer,
+                                  @Value("${reportcard.print.parallelism:0}") int parallelism,
+                                  @Value("${reportcard.print.window:4}") int window) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.studentRepository = studentRepository;
+        this.renderer = renderer;
+        this.renderPool = Executors.newFixedThreadPool(threads, Thread.ofPlatform().name("report-render-", 0).daemon().factory());
+        this.maxInFlight = threads * Math.max(1, window);
+    }
+
+    /**
+     * Writes the report cards of one cohort, or of every student when {@code cohort} is {@code null}, to
+     * {@code out} as a ZIP. Returns the number of cards written.
+     */
+    public long printAll(String cohort, ReportFormat format, OutputStream out) throws IOException {
+        try (Stream<Student> students = cohort == null
+                ? studentRepository.streamAllByOrderByRollNumber()
+                : studentRepository.streamByCohortOrderByRollNumber(cohort)) {
+            return writeZip(students, format, out);
+        }
+    }
+
+    /**
+     * One student's report card, or empty when the roll number is unknown.
+     */
+    public Optional<byte[]> print(int rollNumber, ReportFormat format) {
+        if (rollNumber <= 0) {
+            throw new IllegalArgumentException("Roll number must be a positive integer");
+        }
+        return studentRepository.findByRollNumber(rollNumber).map(student -> render(student, format).content());
+    }
+
+    /**
+     * Renders {@code students} in parallel and writes them to {@code out} as a ZIP in stream order. The
+     * stream is consumed on the calling thread; {@code out} is finished but not closed.
+     */
+    public long writeZip(Stream<Student> students, ReportFormat format, OutputStream out) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(out);
+        Deque<Future<RenderedCard>> pending = new ArrayDeque<>(maxInFlight);
+        long written = 0;
+        try {
+            Iterator<Student> cursor = students.iterator();
+            while (cursor.hasNext()) {
+                if (pending.size() == maxInFlight) {
+                    write(zip, await(pending.poll()));
+                    written++;
+                }
+                Student student = cursor.next();
+                pending.add(renderPool.submit(() -> render(student, format)));
+            }
+            while (!pending.isEmpty()) {
+                write(zip, await(pending.poll()));
+                written++;
+            }
+        } finally {
+            pending.forEach(future -> future.cancel(true));
+        }
+        zip.finish();
+        zip.flush();
+        logger.info("Printed {} {} report cards", written, format.extension());
+        return written;
+    }
+
+    private RenderedCard render(Student student, ReportFormat format) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(format == ReportFormat.PDF ? 8192 : 4096);
+        try {
+            renderer.render(student, format, buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot render report card of roll number " + student.getRollNumber(), e);
+        }
+        return new RenderedCard(student.getRollNumber() + "." + format.extension(), buffer.toByteArray());
+    }
+
+    private static void write(ZipOutputStream zip, RenderedCard card) throws IOException {
+        zip.putNextEntry(new ZipEntry(card.name()));
+        zip.write(card.content());
+        zip.closeEntry();
+    }
+
+    private static RenderedCard await(Future<RenderedCard> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while printing report cards");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renderPool.shutdownNow();
+    }
+
+    private record RenderedCard(String name, byte[] content) {
+    }
+}
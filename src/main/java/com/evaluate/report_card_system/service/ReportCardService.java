@@ -1,36 +1,77 @@
 package com.evaluate.report_card_system.service;
 
-import com.evaluate.report_card_system.config.WeightConfig;
+import com.evaluate.report_card_system.exception.ScoreValidationException;
+import com.evaluate.report_card_system.exception.ScoreValidationException.Reason;
 import com.evaluate.report_card_system.request.UpdateMarkRequest;
 import com.evaluate.report_card_system.model.Exam;
+import com.evaluate.report_card_system.model.ScoreMap;
 import com.evaluate.report_card_system.model.Student;
 import com.evaluate.report_card_system.model.Term;
+import com.evaluate.report_card_system.repository.ExamMarksUpdate;
+import com.evaluate.report_card_system.repository.ScoreCursor;
 import com.evaluate.report_card_system.repository.StudentRepository;
+import com.evaluate.report_card_system.response.CacheStatsResponse;
+import com.evaluate.report_card_system.response.ScoreChangeEvent;
+import com.evaluate.report_card_system.response.ScorePage;
+import com.evaluate.report_card_system.response.StudentLookup;
+import com.evaluate.report_card_system.response.StudentResult;
+import com.evaluate.report_card_system.response.StudentSummary;
+import com.evaluate.report_card_system.response.ValidationResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.IntStream;
 
 @Service
 public class ReportCardService {
 
     private static final Logger logger = LoggerFactory.getLogger(ReportCardService.class);
+    private static final int MAX_UPDATE_ATTEMPTS = 3;
+    private static final double RESCORE_TOLERANCE = 1e-9;
+    public static final int MAX_MULTI_GET = 200;
+    public static final int MAX_PAGE_SIZE = 500;
     private final StudentRepository studentRepository;
+    private final WeightSchemeRegistry weightSchemeRegistry;
+    private final StudentCache studentCache;
+    private final RankIndex rankIndex;
+    private final AnalyticsService analyticsService;
+    private final ScoringMetrics scoringMetrics;
+    private final ScoreChangeBus scoreChangeBus;
+    private final StudentValidator studentValidator;
 
-    public ReportCardService(StudentRepository studentRepository) {
+    public ReportCardService(StudentRepository studentRepository, WeightSchemeRegistry weightSchemeRegistry,
+                             StudentCache studentCache, RankIndex rankIndex, AnalyticsService analyticsService,
+                             ScoringMetrics scoringMetrics, ScoreChangeBus scoreChangeBus) {
         this.studentRepository = studentRepository;
+        this.weightSchemeRegistry = weightSchemeRegistry;
+        this.studentCache = studentCache;
+        this.rankIndex = rankIndex;
+        this.analyticsService = analyticsService;
+        this.scoringMetrics = scoringMetrics;
+        this.scoreChangeBus = scoreChangeBus;
+        this.studentValidator = new StudentValidator(weightSchemeRegistry);
     }
 
     public Optional<Student> getStudentByRollNumber(int rollNumber) {
         if (rollNumber <= 0) {
             logger.warn("Invalid roll number provided: {}", rollNumber);
-            throw new IllegalArgumentException("Roll number must be a positive integer");
+            throw new ScoreValidationException(Reason.INVALID_ROLL_NUMBER, "Roll number must be a positive integer");
         }
-        Optional<Student> student = studentRepository.findByRollNumber(rollNumber);
+        Optional<Student> student = studentCache.get(rollNumber, () -> studentRepository.findByRollNumber(rollNumber));
         if (student.isPresent()) {
             logger.info("Student found for rollNumber={}", rollNumber);
         } else {
@@ -39,192 +80,578 @@ public class ReportCardService {
         return student;
     }
 
-    private void validateSubjectMarks(Map<String, Double> subjectMarks, String context) {
-        if (subjectMarks == null || subjectMarks.isEmpty()) {
-            throw new IllegalArgumentException(context + ": Subject marks are required");
+    /**
+     * Summary of one student. A cached student is summarized in place; otherwise only the summary fields are
+     * read, and the result is not cached because it is not a whole student.
+     */
+    public Optional<StudentSummary> getStudentSummary(int rollNumber) {
+        if (rollNumber <= 0) {
+            throw new ScoreValidationException(Reason.INVALID_ROLL_NUMBER, "Roll number must be a positive integer");
         }
-        subjectMarks.forEach((subject, mark) -> {
-            if (mark == null) {
-                throw new IllegalArgumentException(context + ": Mark for " + subject + " cannot be null");
-            }
-            if (mark < 0 || mark > 100) {
-                throw new IllegalArgumentException(context + ": Marks for " + subject + " must be between 0 and 100");
-            }
+        Optional<Student> cached = studentCache.getIfLoaded(rollNumber);
+        return cached.isPresent() ? cached.map(StudentSummary::of) : studentRepository.findSummaryByRollNumber(rollNumber);
+    }
+
+    /**
+     * Summaries of up to {@value #MAX_MULTI_GET} students in one projected {@code $in} query, in request order.
+     * Roll numbers without a student are left out.
+     */
+    public List<StudentSummary> getStudentSummaries(List<Integer> rollNumbers) {
+        validateMultiGet(rollNumbers);
+        Map<Integer, StudentSummary> found = new HashMap<>();
+        studentRepository.findSummariesByRollNumberIn(new LinkedHashSet<>(rollNumbers))
+                .forEach(summary -> found.put(summary.getRollNumber(), summary));
+        return new LinkedHashSet<>(rollNumbers).stream().map(found::get).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * Summaries of every student of a cohort, in roll-number order.
+     */
+    public List<StudentSummary> getCohortSummaries(String cohort) {
+        if (cohort == null || cohort.isBlank()) {
+            throw new IllegalArgumentException("Cohort is required");
+        }
+        return studentRepository.findSummariesByCohort(cohort);
+    }
+
+    /**
+     * Students whose final score is within {@code [min, max]}, lowest score first, {@code limit} per page.
+     * Pages are keyset-paginated on (final score, id), so a deep page costs as much as the first.
+     */
+    public ScorePage getStudentsByFinalScore(Double min, Double max, String cursor, int limit) {
+        validateScoreRange(min, max, limit);
+        ScoreCursor after = cursor == null ? null : ScoreCursor.decode(cursor);
+        if (after != null && after.score() == null) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        List<StudentSummary> found = studentRepository.findSummariesByFinalScore(min, max, after, limit + 1);
+        return page(found, limit, last -> new ScoreCursor(last.getFinalScore(), last.getId()));
+    }
+
+    /**
+     * Students with a term named {@code termName} scored within {@code [min, max]}, in id order,
+     * {@code limit} per page, keyset-paginated on the id.
+     */
+    public ScorePage getStudentsByTermScore(String termName, Double min, Double max, String cursor, int limit) {
+        if (termName == null || termName.isBlank()) {
+            throw new IllegalArgumentException("Term name is required");
+        }
+        validateScoreRange(min, max, limit);
+        String afterId = cursor == null ? null : ScoreCursor.decode(cursor).id();
+        List<StudentSummary> found = studentRepository.findSummariesByTermScore(termName, min, max, afterId, limit + 1);
+        return page(found, limit, last -> new ScoreCursor(null, last.getId()));
+    }
+
+    private static void validateScoreRange(Double min, Double max, int limit) {
+        if (min != null && max != null && min > max) {
+            throw new IllegalArgumentException("min must not be greater than max");
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    /**
+     * Trims a result fetched with one extra row to {@code limit}; the extra row only signals that a next page exists.
+     */
+    private static ScorePage page(List<StudentSummary> found, int limit, Function<StudentSummary, ScoreCursor> cursorOf) {
+        if (found.size() <= limit) {
+            return new ScorePage(found, null);
+        }
+        List<StudentSummary> students = found.subList(0, limit);
+        return new ScorePage(students, cursorOf.apply(students.get(limit - 1)).encode());
+    }
+
+    /**
+     * The id and version of a student, enough to answer a conditional request. A cached student answers
+     * without a query; otherwise only those two fields are read.
+     */
+    public Optional<Student> getStudentVersion(int rollNumber) {
+        if (rollNumber <= 0) {
+            throw new ScoreValidationException(Reason.INVALID_ROLL_NUMBER, "Roll number must be a positive integer");
+        }
+        Optional<Student> cached = studentCache.getIfLoaded(rollNumber);
+        return cached.isPresent() ? cached : studentRepository.findVersionByRollNumber(rollNumber);
+    }
+
+    /**
+     * Looks up to {@value #MAX_MULTI_GET} students at once. Cached students are served from the cache and
+     * the rest are read with a single {@code rollNumber $in} query. Results follow request order, duplicates
+     * included, and carry an explicit not-found marker.
+     */
+    public List<StudentLookup> getStudentsByRollNumbers(List<Integer> rollNumbers) {
+        validateMultiGet(rollNumbers);
+        Map<Integer, Optional<Student>> students = studentCache.getAll(new LinkedHashSet<>(rollNumbers), missing -> {
+            Map<Integer, Student> found = new HashMap<>();
+            studentRepository.findByRollNumberIn(missing).forEach(student -> found.put(student.getRollNumber(), student));
+            return found;
         });
+        List<StudentLookup> results = new ArrayList<>(rollNumbers.size());
+        for (Integer rollNumber : rollNumbers) {
+            results.add(students.get(rollNumber).map(student -> StudentLookup.found(rollNumber, student))
+                    .orElseGet(() -> StudentLookup.notFound(rollNumber)));
+        }
+        logger.info("Multi-get of {} roll numbers: {} found", rollNumbers.size(),
+                results.stream().filter(StudentLookup::isFound).count());
+        return results;
     }
 
-    private double calculateScienceScore(Exam exam) {
-        try {
-            validateSubjectMarks(exam.getSubjectMarks(), "Exam " + exam.getExamName());
-            var marks = exam.getSubjectMarks();
-            double physics = marks.getOrDefault("Physics", 0.0);
-            double chemistry = marks.getOrDefault("Chemistry", 0.0);
-            double biology = marks.getOrDefault("Biology", 0.0);
-
-            double scienceScore = (physics * WeightConfig.PHYSICS_WEIGHT) +
-                    (chemistry * WeightConfig.CHEMISTRY_WEIGHT) +
-                    (biology * WeightConfig.BIOLOGY_WEIGHT);
-
-            var weightedScores = exam.getWeightedScores() != null ? exam.getWeightedScores() : new HashMap<String, Double>();
-            weightedScores.put("Science", scienceScore);
+    static void validateMultiGet(List<Integer> rollNumbers) {
+        if (rollNumbers == null || rollNumbers.isEmpty()) {
+            throw new IllegalArgumentException("At least one roll number is required");
+        }
+        if (rollNumbers.size() > MAX_MULTI_GET) {
+            throw new IllegalArgumentException("At most " + MAX_MULTI_GET + " roll numbers can be requested at once");
+        }
+        for (Integer rollNumber : rollNumbers) {
+            if (rollNumber == null || rollNumber <= 0) {
+                throw new ScoreValidationException(Reason.INVALID_ROLL_NUMBER, "Roll number must be a positive integer");
+            }
+        }
+    }
+
+    /**
+     * Checks a student against every scoring rule without throwing; see {@link StudentValidator}.
+     */
+    public ValidationResult validate(Student student) {
+        return studentValidator.validate(student);
+    }
+
+    private double calculateExamScore(Exam exam, CompiledWeightScheme scheme) {
+        double examScore = scheme.scoreExam(exam.getSubjectMarks());
+
+        ScoreMap weightedScores = exam.getWeightedScores();
+        if (weightedScores == null) {
+            weightedScores = new ScoreMap();
             exam.setWeightedScores(weightedScores);
+        }
+        weightedScores.putMark(scheme.getScoreNameId(), examScore);
 
-            logger.debug("Calculated science score for exam {}: {}", exam.getExamName(), scienceScore);
-            return scienceScore;
-        } catch (IllegalArgumentException e) {
-            logger.error("Validation error for exam {}: {}", exam.getExamName(), e.getMessage());
-            throw e;
-        } catch (Exception e) {
-            logger.error("Error calculating science score for exam {}: {}", exam.getExamName(), e.getMessage(), e);
-            throw new RuntimeException("Failed to calculate science score", e);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Calculated {} score for exam {}: {}", scheme.getScoreName(), exam.getExamName(), examScore);
         }
+        return examScore;
     }
 
-    private double calculateTermScore(Term term) {
+    private double calculateTermScore(Term term, CompiledWeightScheme scheme) {
+        long start = System.nanoTime();
         try {
-            if (term.getTermName() == null || term.getTermName().isEmpty()) {
-                throw new IllegalArgumentException("Term name is required");
-            }
             List<Exam> exams = term.getExams();
-            if (exams == null || exams.isEmpty()) {
-                throw new IllegalArgumentException("Term " + term.getTermName() + ": At least one exam is required");
-            }
-            if (exams.size() != 3) {
-                throw new IllegalArgumentException("Term " + term.getTermName() + ": Each term must have exactly 3 exams");
+            double termScore = 0.0;
+            for (int i = 0; i < exams.size(); i++) {
+                termScore += calculateExamScore(exams.get(i), scheme) * scheme.examWeight(i);
             }
 
-            double exam1Science = calculateScienceScore(exams.get(0));
-            double exam2Science = calculateScienceScore(exams.get(1));
-            double exam3Science = calculateScienceScore(exams.get(2));
-
-            double termScore = (exam1Science * WeightConfig.EXAM1_WEIGHT) +
-                    (exam2Science * WeightConfig.EXAM2_WEIGHT) +
-                    (exam3Science * WeightConfig.EXAM3_WEIGHT);
-
-            logger.debug("Calculated term score for {}: {}", term.getTermName(), termScore);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Calculated term score for {}: {}", term.getTermName(), termScore);
+            }
             return termScore;
-        } catch (IllegalArgumentException e) {
-            logger.error("Validation error for term {}: {}", term.getTermName(), e.getMessage());
-            throw e;
-        } catch (Exception e) {
-            logger.error("Error calculating term score for {}: {}", term.getTermName(), e.getMessage(), e);
-            throw new RuntimeException("Failed to calculate term score", e);
+        } finally {
+            scoringMetrics.recordTermScore(System.nanoTime() - start);
         }
     }
 
+    /**
+     * Validates and scores a student, filling in every weighted, term and final score. A student that breaks
+     * any rule is rejected with a {@link ScoreValidationException} listing all violations.
+     */
     public double calculateFinalScore(Student student) {
+        long start = System.nanoTime();
         try {
-            if (student.getRollNumber() == null || student.getRollNumber() <= 0) {
-                throw new IllegalArgumentException("Roll number must be a positive integer");
-            }
-            if (student.getName() == null || student.getName().isEmpty()) {
-                throw new IllegalArgumentException("Name is required");
-            }
-            List<Term> terms = student.getTerms();
-            if (terms == null || terms.isEmpty()) {
-                throw new IllegalArgumentException("Student must have at least one term");
+            ValidationResult validation = studentValidator.validate(student);
+            if (!validation.isValid()) {
+                ScoreValidationException e = new ScoreValidationException(validation);
+                scoringMetrics.validationFailed("score", e);
+                throw e;
             }
+            return computeFinalScore(student);
+        } finally {
+            scoringMetrics.recordFinalScore(System.nanoTime() - start);
+        }
+    }
 
-            double totalTermScore = 0.0;
-            for (Term term : terms) {
-                double termScore = calculateTermScore(term);
-                term.setTermScore(termScore);
-                totalTermScore += termScore;
-            }
-            double finalScore = totalTermScore / terms.size();
-            logger.info("Final score calculated for rollNumber {}: {}", student.getRollNumber(), finalScore);
-            return finalScore;
-        } catch (IllegalArgumentException e) {
-            logger.error("Validation error for rollNumber {}: {}", student.getRollNumber(), e.getMessage());
-            throw e;
-        } catch (Exception e) {
-            logger.error("Error calculating final score for rollNumber {}: {}", student.getRollNumber(), e.getMessage(), e);
-            throw new RuntimeException("Failed to calculate final score", e);
+    /**
+     * Scores a student that already passed {@link StudentValidator#validate(Student)}.
+     */
+    private double computeFinalScore(Student student) {
+        List<Term> terms = student.getTerms();
+        CompiledWeightScheme scheme = weightSchemeRegistry.forCurriculum(student.getCurriculum());
+        double totalTermScore = 0.0;
+        for (int i = 0; i < terms.size(); i++) {
+            Term term = terms.get(i);
+            double termScore = calculateTermScore(term, scheme);
+            term.setTermScore(termScore);
+            totalTermScore += termScore;
         }
+        double finalScore = totalTermScore / terms.size();
+        student.setFinalScore(finalScore);
+        student.setSchemeVersion(scheme.getVersion());
+        if (logger.isDebugEnabled()) {
+            logger.debug("Final score calculated for rollNumber {}: {}", student.getRollNumber(), finalScore);
+        }
+        return finalScore;
     }
 
+    /**
+     * Scores a new student and stores it with one insert. The unique {@code rollNumber} index is the
+     * duplicate check, so concurrent generates of the same roll number cannot both succeed; the loser gets
+     * the same rejection as a plain duplicate.
+     */
     public Student generateReportCard(Student student) {
         if (student.getRollNumber() == null || student.getRollNumber() <= 0) {
-            throw new IllegalArgumentException("Roll number must be a positive integer");
+            throw rejected("generate", new ScoreValidationException(Reason.INVALID_ROLL_NUMBER, "Roll number must be a positive integer"));
         }
-        if (studentRepository.findByRollNumber(student.getRollNumber()).isPresent()) {
+        calculateFinalScore(student);
+        Student saved;
+        try {
+            saved = studentRepository.insert(student);
+        } catch (DuplicateKeyException e) {
             logger.warn("Roll number {} already exists", student.getRollNumber());
-            throw new IllegalArgumentException("Roll number already exists");
+            throw rejected("generate", new ScoreValidationException(Reason.DUPLICATE_ROLL_NUMBER, "Roll number already exists"));
         }
-        calculateFinalScore(student);
-        studentRepository.save(student);
-        return studentRepository.save(student);
+        studentInserted(saved);
+        return saved;
     }
 
-    public Student updateExamMarks(int rollNumber, UpdateMarkRequest request) {
+    /**
+     * Brings the cache, rank index and analytics in line after a new student was stored by any write path.
+     */
+    void studentInserted(Student saved) {
+        studentCache.invalidate(saved.getRollNumber());
+        rankIndex.put(saved);
+        analyticsService.invalidate(saved.getCohort());
+        scoreChangeBus.publish(ScoreChangeEvent.generated(saved));
+    }
+
+    /**
+     * Scores and inserts a batch of students. Scoring runs in parallel, existing roll numbers are
+     * checked with one {@code $in} query and the survivors are written with one unordered bulk insert,
+     * so a bad record only fails its own entry in the returned list (which follows input order).
+     */
+    public List<StudentResult> generateReportCards(List<Student> students) {
+        StudentResult[] scored = new StudentResult[students.size()];
+        IntStream.range(0, students.size()).parallel().forEach(i -> scored[i] = scoreStudent(students.get(i)));
+        return insertScoredBatch(students, List.of(scored));
+    }
+
+    /**
+     * Scores one student for a bulk workload. Validation problems come back as a failed result listing every
+     * violation; nothing is thrown or logged, so callers keep going with the rest of the batch.
+     */
+    public StudentResult scoreStudent(Student student) {
+        if (student == null) {
+            return StudentResult.failure(null, "Student is required");
+        }
+        long start = System.nanoTime();
         try {
-            if (rollNumber <= 0) {
-                throw new IllegalArgumentException("Roll number must be a positive integer");
+            ValidationResult validation = studentValidator.validate(student);
+            if (!validation.isValid()) {
+                scoringMetrics.validationFailed("score", validation.getViolations().get(0).getCode());
+                return StudentResult.invalid(student.getRollNumber(), validation);
             }
-            if (request.getTermName() == null || request.getTermName().isEmpty()) {
-                throw new IllegalArgumentException("Term name is required");
+            return StudentResult.success(student.getRollNumber(), computeFinalScore(student));
+        } catch (RuntimeException e) {
+            logger.error("Error scoring rollNumber {}: {}", student.getRollNumber(), e.getMessage(), e);
+            return StudentResult.failure(student.getRollNumber(), "Failed to calculate final score");
+        } finally {
+            scoringMetrics.recordFinalScore(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Second half of {@link #generateReportCards(List)}: takes students already run through
+     * {@link #scoreStudent(Student)} and inserts the successfully scored ones, skipping roll numbers
+     * that repeat within the batch or already exist.
+     */
+    public List<StudentResult> insertScoredBatch(List<Student> students, List<StudentResult> scored) {
+        StudentResult[] results = scored.toArray(new StudentResult[0]);
+
+        Set<Integer> seenRollNumbers = new HashSet<>();
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = 0; i < students.size(); i++) {
+            if (!results[i].isSuccess()) {
+                continue;
             }
-            if (request.getExamName() == null || request.getExamName().isEmpty()) {
-                throw new IllegalArgumentException("Exam name is required");
+            if (!seenRollNumbers.add(students.get(i).getRollNumber())) {
+                results[i] = StudentResult.failure(students.get(i).getRollNumber(), "Duplicate roll number in batch");
+                continue;
             }
-            validateSubjectMarks(request.getSubjectMarks(), "Update request");
+            candidates.add(i);
+        }
+
+        Set<Integer> existingRollNumbers = new HashSet<>();
+        if (!candidates.isEmpty()) {
+            studentRepository.findRollNumbersIn(seenRollNumbers)
+                    .forEach(existing -> existingRollNumbers.add(existing.getRollNumber()));
+        }
 
-            Optional<Student> studentOpt = studentRepository.findByRollNumber(rollNumber);
-            if (studentOpt.isEmpty()) {
-                logger.warn("Student not found for rollNumber={}", rollNumber);
-                throw new IllegalArgumentException("Student not found for rollNumber " + rollNumber);
+        List<Integer> insertIndexes = new ArrayList<>();
+        List<Student> toInsert = new ArrayList<>();
+        for (int i : candidates) {
+            Student student = students.get(i);
+            if (existingRollNumbers.contains(student.getRollNumber())) {
+                results[i] = StudentResult.failure(student.getRollNumber(), "Roll number already exists");
+            } else {
+                insertIndexes.add(i);
+                toInsert.add(student);
             }
-            Student student = studentOpt.get();
+        }
+
+        Map<Integer, String> insertErrors = studentRepository.insertUnordered(toInsert);
+        for (int j = 0; j < toInsert.size(); j++) {
+            Student student = toInsert.get(j);
+            studentCache.invalidate(student.getRollNumber());
+            String error = insertErrors.get(j);
+            if (error == null) {
+                rankIndex.put(student);
+                analyticsService.invalidate(student.getCohort());
+                scoreChangeBus.publish(ScoreChangeEvent.generated(student));
+            } else {
+                results[insertIndexes.get(j)] = StudentResult.failure(student.getRollNumber(), error);
+            }
+        }
+        logger.info("Batch generated: {} students, {} inserted", students.size(), toInsert.size() - insertErrors.size());
+        return List.of(results);
+    }
 
-            boolean termFound = false;
+    /**
+     * Recomputes every score of a stored student with the current weighting scheme. Returns whether any
+     * weighted, term or final score moved or the stored scheme version is stale, i.e. whether the student
+     * needs to be written back.
+     */
+    public boolean rescoreStudent(Student student) {
+        CompiledWeightScheme scheme = weightSchemeRegistry.forCurriculum(student.getCurriculum());
+        String storedVersion = student.getSchemeVersion();
+        double[] before = storedScores(student, scheme);
+        calculateFinalScore(student);
+        double[] after = storedScores(student, scheme);
+        if (before.length != after.length || !scheme.getVersion().equals(storedVersion)) {
+            return true;
+        }
+        for (int i = 0; i < before.length; i++) {
+            if (!(Math.abs(before[i] - after[i]) <= RESCORE_TOLERANCE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Writes students rescored by {@link #rescoreStudent(Student)} with one bulk update and brings the
+     * cache and rank index in line. Students edited concurrently keep their newer version; the rank index
+     * then takes their scores from Mongo. Returns how many students were written. Score-change subscribers
+     * are told once per rescore by {@link RescoreService}, not per batch.
+     */
+    public long writeRescoredBatch(List<Student> students) {
+        long written = studentRepository.updateScores(students);
+        for (Student student : students) {
+            studentCache.invalidate(student.getRollNumber());
+        }
+        if (written == students.size()) {
+            students.forEach(rankIndex::put);
+        } else {
+            studentRepository.findScoresByIdIn(students.stream().map(Student::getId).toList()).forEach(rankIndex::put);
+        }
+        analyticsService.invalidateAll();
+        return written;
+    }
+
+    private static double[] storedScores(Student student, CompiledWeightScheme scheme) {
+        List<Double> scores = new ArrayList<>();
+        scores.add(student.getFinalScore() == null ? Double.NaN : student.getFinalScore());
+        if (student.getTerms() != null) {
             for (Term term : student.getTerms()) {
-                if (term.getTermName().equals(request.getTermName())) {
-                    termFound = true;
-                    boolean examFound = false;
-                    for (Exam exam : term.getExams()) {
-                        if (exam.getExamName().equals(request.getExamName())) {
-                            examFound = true;
-                            logger.info("Updating marks for rollNumber={}, term={}, exam={}",
-                                    rollNumber, request.getTermName(), request.getExamName());
-                            var currentMarks = exam.getSubjectMarks();
-                            if (currentMarks == null) {
-                                currentMarks = new HashMap<>();
-                                exam.setSubjectMarks(currentMarks);
-                            }
-                            currentMarks.putAll(request.getSubjectMarks());
-                            calculateScienceScore(exam);
-                            term.setTermScore(calculateTermScore(term));
-                            break;
-                        }
+                scores.add(term.getTermScore());
+                for (Exam exam : term.getExams() == null ? List.<Exam>of() : term.getExams()) {
+                    scores.add(exam.getWeightedScores() == null
+                            ? Double.NaN : exam.getWeightedScores().getMark(scheme.getScoreNameId()));
+                }
+            }
+        }
+        return scores.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
+    /**
+     * Applies new marks to one exam; see {@link #updateExamMarks(int, List)}.
+     */
+    public Student updateExamMarks(int rollNumber, UpdateMarkRequest request) {
+        return updateExamMarks(rollNumber, List.of(request));
+    }
+
+    /**
+     * Applies mark corrections to any number of exams of one student in a single write. Only the changed
+     * exams are rescored; an {@link IncrementalScorer} re-sums only their terms and the final score from the
+     * stored scores, so the cost follows the number of changed exams and the result equals a full recompute.
+     * Only the changed fields are written, guarded by the version that was read. Stored scores that are not a
+     * sound base (never scored, or scored under another weight scheme version) are recomputed in full and
+     * every exam and term score is written instead. If another edit to the same student lands in between,
+     * the update is recomputed from a fresh read, up to {@value #MAX_UPDATE_ATTEMPTS} times.
+     */
+    public Student updateExamMarks(int rollNumber, List<UpdateMarkRequest> requests) {
+        long start = System.nanoTime();
+        String outcome = ScoringMetrics.OUTCOME_ERROR;
+        Long expectedVersion = null;
+        try {
+            ValidationResult validation = studentValidator.validateUpdates(rollNumber, requests);
+            if (!validation.isValid()) {
+                throw new ScoreValidationException(validation);
+            }
+            Map<List<String>, Map<String, Double>> marksByExam = new LinkedHashMap<>();
+            for (UpdateMarkRequest request : requests) {
+                marksByExam.computeIfAbsent(List.of(request.getTermName(), request.getExamName()), k -> new LinkedHashMap<>())
+                        .putAll(request.getSubjectMarks());
+            }
+
+            for (int attempt = 1; attempt <= MAX_UPDATE_ATTEMPTS; attempt++) {
+                Optional<Student> studentOpt = studentRepository.findByRollNumber(rollNumber);
+                if (studentOpt.isEmpty()) {
+                    logger.warn("Student not found for rollNumber={}", rollNumber);
+                    throw new ScoreValidationException(Reason.STUDENT_NOT_FOUND, "Student not found for rollNumber " + rollNumber);
+                }
+                Student student = studentOpt.get();
+                expectedVersion = student.getVersion();
+                CompiledWeightScheme scheme = weightSchemeRegistry.forCurriculum(student.getCurriculum());
+                IncrementalScorer scorer = new IncrementalScorer(student, scheme);
+                boolean incremental = true;
+                Double oldFinalScore = student.getFinalScore();
+                Map<String, Double> oldTermScores = new LinkedHashMap<>();
+                student.getTerms().forEach(term -> oldTermScores.put(term.getTermName(), term.getTermScore()));
+                List<Double> oldExamScores = new ArrayList<>();
+
+                List<Exam> changedExams = new ArrayList<>();
+                for (Map.Entry<List<String>, Map<String, Double>> change : marksByExam.entrySet()) {
+                    Term term = findTerm(student, change.getKey().get(0));
+                    int examIndex = findExamIndex(term, change.getKey().get(1));
+                    Exam exam = term.getExams().get(examIndex);
+                    logger.info("Updating marks for rollNumber={}, term={}, exam={}",
+                            rollNumber, term.getTermName(), exam.getExamName());
+
+                    ScoreMap currentMarks = exam.getSubjectMarks();
+                    if (currentMarks == null) {
+                        currentMarks = new ScoreMap();
+                        exam.setSubjectMarks(currentMarks);
                     }
-                    if (!examFound) {
-                        throw new IllegalArgumentException("Exam " + request.getExamName() + " not found in term " + request.getTermName());
+                    double previousScore = exam.getWeightedScores() == null
+                            ? Double.NaN : exam.getWeightedScores().getMark(scheme.getScoreNameId());
+                    oldExamScores.add(Double.isNaN(previousScore) ? null : previousScore);
+                    currentMarks.putAll(change.getValue());
+                    ValidationResult merged = studentValidator.validateExam(exam, student.getTerms().indexOf(term), examIndex);
+                    if (!merged.isValid()) {
+                        throw new ScoreValidationException(merged);
                     }
-                    break;
+                    calculateExamScore(exam, scheme);
+                    incremental = incremental && scorer.applyExamChange(term, previousScore);
+                    changedExams.add(exam);
                 }
+
+                if (!incremental) {
+                    logger.info("Stored scores for rollNumber={} are not incremental-safe, recomputing all terms", rollNumber);
+                    ValidationResult full = studentValidator.validate(student);
+                    if (!full.isValid()) {
+                        throw new ScoreValidationException(full);
+                    }
+                    computeFinalScore(student);
+                }
+
+                List<ExamMarksUpdate> updates = new ArrayList<>();
+                int c = 0;
+                for (Map.Entry<List<String>, Map<String, Double>> change : marksByExam.entrySet()) {
+                    Exam exam = changedExams.get(c++);
+                    updates.add(new ExamMarksUpdate(change.getKey().get(0), exam.getExamName(), change.getValue(),
+                            scheme.getScoreName(), exam.getWeightedScores().getMark(scheme.getScoreNameId())));
+                }
+                // A full recompute may move every exam and term, so it replaces all of them at once.
+                boolean written = incremental
+                        ? studentRepository.applyExamUpdates(student.getId(), student.getVersion(), updates,
+                                scorer.changedTermScores(), student.getFinalScore())
+                        : studentRepository.updateScores(List.of(student)) == 1;
+                if (written) {
+                    student.setVersion(student.getVersion() == null ? 1L : student.getVersion() + 1);
+                    studentCache.invalidate(rollNumber);
+                    rankIndex.put(student);
+                    analyticsService.invalidate(student.getCohort());
+                    scoreChangeBus.publish(ScoreChangeEvent.updated(student, oldFinalScore,
+                            scoreChanges(student, updates, oldExamScores, oldTermScores)));
+                    outcome = ScoringMetrics.OUTCOME_SUCCESS;
+                    return student;
+                }
+                logger.warn("Concurrent update detected for rollNumber={} at version {} (attempt {}), retrying",
+                        rollNumber, expectedVersion, attempt);
             }
-            if (!termFound) {
-                throw new IllegalArgumentException("Term " + request.getTermName() + " not found for student " + rollNumber);
-            }
-            return studentRepository.save(student);
+            outcome = ScoringMetrics.OUTCOME_CONFLICT;
+            throw new OptimisticLockingFailureException("Student " + rollNumber + " is being updated concurrently, please retry");
         } catch (IllegalArgumentException e) {
-            logger.error("Validation error updating marks for rollNumber {}: {}", rollNumber, e.getMessage());
+            outcome = ScoringMetrics.OUTCOME_INVALID;
+            scoringMetrics.validationFailed("update", e);
+            logger.warn("Rejected mark update for rollNumber {}: {}", rollNumber, e.getMessage());
+            throw e;
+        } catch (OptimisticLockingFailureException e) {
+            outcome = ScoringMetrics.OUTCOME_CONFLICT;
+            logger.warn("Update conflict for rollNumber {} at expected version {}: {}", rollNumber, expectedVersion, e.getMessage());
             throw e;
         } catch (Exception e) {
             logger.error("Error updating marks for rollNumber {}: {}", rollNumber, e.getMessage(), e);
             throw new RuntimeException("Failed to update exam marks", e);
+        } finally {
+            scoringMetrics.recordUpdate(outcome, System.nanoTime() - start);
+        }
+    }
+
+    private static List<ScoreChangeEvent.ExamScoreChange> scoreChanges(Student student, List<ExamMarksUpdate> updates,
+                                                                       List<Double> oldExamScores,
+                                                                       Map<String, Double> oldTermScores) {
+        List<ScoreChangeEvent.ExamScoreChange> changes = new ArrayList<>(updates.size());
+        for (int i = 0; i < updates.size(); i++) {
+            ExamMarksUpdate update = updates.get(i);
+            Term term = student.getTerms().stream()
+                    .filter(t -> t.getTermName().equals(update.termName())).findFirst().orElseThrow();
+            changes.add(new ScoreChangeEvent.ExamScoreChange(update.termName(), update.examName(),
+                    oldExamScores.get(i), update.examScore(), oldTermScores.get(update.termName()), term.getTermScore()));
+        }
+        return changes;
+    }
+
+    private ScoreValidationException rejected(String operation, ScoreValidationException e) {
+        scoringMetrics.validationFailed(operation, e);
+        return e;
+    }
+
+    private Term findTerm(Student student, String termName) {
+        for (Term term : student.getTerms()) {
+            if (term.getTermName().equals(termName)) {
+                return term;
+            }
         }
+        throw new ScoreValidationException(Reason.TERM_NOT_FOUND, "Term " + termName + " not found for student " + student.getRollNumber());
+    }
+
+    private int findExamIndex(Term term, String examName) {
+        List<Exam> exams = term.getExams();
+        for (int i = 0; i < exams.size(); i++) {
+            if (exams.get(i).getExamName().equals(examName)) {
+                return i;
+            }
+        }
+        throw new ScoreValidationException(Reason.EXAM_NOT_FOUND, "Exam " + examName + " not found in term " + term.getTermName());
+    }
+
+    public CacheStatsResponse getCacheStats() {
+        return studentCache.stats();
     }
 
     public void deleteStudent(String id) {
         if (id == null || id.isEmpty()) {
             throw new IllegalArgumentException("ID is required");
         }
-        if (!studentRepository.existsById(id)) {
+        Student student = studentRepository.findById(id).orElseThrow(() -> {
             logger.warn("Student not found with id: {}", id);
-            throw new IllegalArgumentException("Student not found with id " + id);
-        }
+            return new IllegalArgumentException("Student not found with id " + id);
+        });
         studentRepository.deleteById(id);
+        studentCache.invalidate(student.getRollNumber());
+        rankIndex.removeById(id);
+        analyticsService.invalidate(student.getCohort());
+        scoreChangeBus.publish(ScoreChangeEvent.deleted(student));
         logger.info("Student deleted successfully with id: {}", id);
     }
 }
\ No newline at end of file
@@ -0,0 +1,153 @@
+package com.evaluate.report_card_system.service;
+
+import com.evaluate.report_card_system.model.RescoreCheckpoint;
+import com.evaluate.report_card_system.response.RescoreProgress;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Live counters for one run of a rescore. Only the job thread updates them; progress requests read them
+ * concurrently, so the counters are atomic and the resume position is volatile.
+ */
+class RescoreJob {
+
+    private static final int MAX_ERROR_SAMPLES = 100;
+
+    private final String jobId;
+    private final long startedAtNanos = System.nanoTime();
+    private final long scannedBefore;
+    private final long rescoredBefore;
+    private final AtomicLong studentsScanned;
+    private final AtomicLong studentsRescored;
+    private final AtomicLong studentsUnchanged;
+    private final AtomicLong studentsFailed;
+    private final AtomicLong conflicts;
+    private final AtomicLong batchesCommitted;
+    private final List<String> errors = new ArrayList<>();
+    private volatile String lastId;
+    private volatile String state;
+
+    RescoreJob(RescoreCheckpoint checkpoint) {
+        this.jobId = checkpoint.getJobId();
+        this.lastId = checkpoint.getLastId();
+        this.scannedBefore = checkpoint.getStudentsScanned();
+        this.rescoredBefore = checkpoint.getStudentsRescored();
+        this.studentsScanned = new AtomicLong(checkpoint.getStudentsScanned());
+        this.studentsRescored = new AtomicLong(checkpoint.getStudentsRescored());
+        this.studentsUnchanged = new AtomicLong(checkpoint.getStudentsUnchanged());
+        this.studentsFailed = new AtomicLong(checkpoint.getStudentsFailed());
+        this.conflicts = new AtomicLong(checkpoint.getConflicts());
+        this.batchesCommitted = new AtomicLong(checkpoint.getBatchesCommitted());
+        this.state = checkpoint.isCompleted() ? "COMPLETED" : "RUNNING";
+    }
+
+    String getJobId() {
+        return jobId;
+    }
+
+    String getLastId() {
+        return lastId;
+    }
+
+    boolean isCompleted() {
+        return "COMPLETED".equals(state);
+    }
+
+    long getStartedAtNanos() {
+        return startedAtNanos;
+    }
+
+    /**
+     * Documents written by this run, which is what the write budget is measured against.
+     */
+    long writesThisRun() {
+        return studentsRescored.get() - rescoredBefore;
+    }
+
+    void studentUnchanged() {
+        studentsUnchanged.incrementAndGet();
+    }
+
+    void studentFailed(Integer rollNumber, String error) {
+        studentsFailed.incrementAndGet();
+        addError("Roll number " + rollNumber + ": " + error);
+    }
+
+    void batchCommitted(int scanned, int toWrite, long written, String batchLastId) {
+        studentsScanned.addAndGet(scanned);
+        studentsRescored.addAndGet(written);
+        conflicts.addAndGet(toWrite - written);
+        batchesCommitted.incrementAndGet();
+        lastId = batchLastId;
+    }
+
+    void finish(String state, String error) {
+        this.state = state;
+        if (error != null) {
+            addError(error);
+        }
+    }
+
+    /**
+     * Checkpoint covering every batch committed so far; a resumed run continues after {@code lastId}.
+     */
+    RescoreCheckpoint checkpoint() {
+        RescoreCheckpoint checkpoint = new RescoreCheckpoint();
+        checkpoint.setJobId(jobId);
+        checkpoint.setLastId(lastId);
+        checkpoint.setStudentsScanned(studentsScanned.get());
+        checkpoint.setStudentsRescored(studentsRescored.get());
+        checkpoint.setStudentsUnchanged(studentsUnchanged.get());
+        checkpoint.setStudentsFailed(studentsFailed.get());
+        checkpoint.setConflicts(conflicts.get());
+        checkpoint.setBatchesCommitted(batchesCommitted.get());
+        checkpoint.setCompleted(isCompleted());
+        checkpoint.setUpdatedAt(Instant.now());
+        return checkpoint;
+    }
+
+    RescoreProgress toProgress() {
+        RescoreProgress progress = new RescoreProgress();
+        progress.setJobId(jobId);
+        progress.setState(state);
+        progress.setLastId(lastId);
+        progress.setStudentsScanned(studentsScanned.get());
+        progress.setStudentsRescored(studentsRescored.get());
+        progress.setStudentsUnchanged(studentsUnchanged.get());
+        progress.setStudentsFailed(studentsFailed.get());
+        progress.setConflicts(conflicts.get());
+        progress.setBatchesCommitted(batchesCommitted.get());
+        long elapsedMillis = (System.nanoTime() - startedAtNanos) / 1_000_000;
+        progress.setElapsedMillis(elapsedMillis);
+        double seconds = Math.max(elapsedMillis, 1) / 1000.0;
+        progress.setStudentsPerSecond((studentsScanned.get() - scannedBefore) / seconds);
+        progress.setWritesPerSecond(writesThisRun() / seconds);
+        synchronized (errors) {
+            progress.setErrors(List.copyOf(errors));
+        }
+        return progress;
+    }
+
+    static RescoreProgress fromCheckpoint(RescoreCheckpoint checkpoint) {
+        RescoreJob job = new RescoreJob(checkpoint);
+        if (!checkpoint.isCompleted()) {
+            job.state = "INTERRUPTED";
+        }
+        RescoreProgress progress = job.toProgress();
+        progress.setElapsedMillis(0);
+        progress.setStudentsPerSecond(0);
+        progress.setWritesPerSecond(0);
+        return progress;
+    }
+
+    private void addError(String message) {
+        synchronized (errors) {
+            if (errors.size() < MAX_ERROR_SAMPLES) {
+                errors.add(message);
+            }
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.evaluate.report_card_system.service;
+
+import com.evaluate.report_card_system.model.RescoreCheckpoint;
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.repository.RescoreCheckpointRepository;
+import com.evaluate.report_card_system.repository.StudentRepository;
+import com.evaluate.report_card_system.response.RescoreProgress;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Recomputes the stored scores of every student after a weighting scheme changes. The students collection
+ * is read with one cursor in {@code _id} order, each batch is rescored on a fork-join pool and only the
+ * students whose scores moved are written back with one bulk update. Writes are paced to
+ * {@code reportcard.rescore.max-writes-per-second} (0 means unthrottled) so a rescore does not starve
+ * regular traffic. A checkpoint with the last finished {@code _id} is saved after every batch; starting
+ * the same job id again resumes from there. One rescore runs at a time. When a run that rewrote any
+ * student ends, however it ends, score-change subscribers get a single {@code RESYNC}.
+ */
+@Service
+public class RescoreService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RescoreService.class);
+
+    private final ReportCardService reportCardService;
+    private final StudentRepository studentRepository;
+    private final RescoreCheckpointRepository checkpointRepository;
+    private final ScoreChangeBus scoreChangeBus;
+    private final int batchSize;
+    private final int maxWritesPerSecond;
+    private final ForkJoinPool scoringPool;
+    private final ExecutorService runner;
+    private final AtomicReference<RescoreJob> runningJob = new AtomicReference<>();
+
+    public RescoreService(ReportCardService reportCardService,
+                          StudentRepository studentRepository,
+                          RescoreCheckpointRepository checkpointRepository,
+                          ScoreChangeBus scoreChangeBus,
+                          @Value("${reportcard.rescore.batch-size:500}") int batchSize,
+                          @Value("${reportcard.rescore.parallelism:0}") int parallelism,
+                          @Value("${reportcard.rescore.max-writes-per-second:0}") int maxWritesPerSecond,
+                          @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.reportCardService = reportCardService;
+        this.studentRepository = studentRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.scoreChangeBus = scoreChangeBus;
+        this.batchSize = batchSize;
+        this.maxWritesPerSecond = maxWritesPerSecond;
+        this.scoringPool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.runner = Executors.newSingleThreadExecutor(virtualThreads
+                ? Thread.ofVirtual().name("rescore-runner").factory()
+                : Thread.ofPlatform().name("rescore-runner").daemon().factory());
+    }
+
+    /**
+     * Starts (or resumes) a rescore in the background and returns its initial progress.
+     */
+    public RescoreProgress startRescore(String jobId) {
+        RescoreJob job = claim(jobId);
+        if (!job.isCompleted()) {
+            runner.submit(() -> execute(job));
+        }
+        return job.toProgress();
+    }
+
+    /**
+     * Runs (or resumes) a rescore on the calling thread.
+     */
+    public RescoreProgress rescore(String jobId) {
+        RescoreJob job = claim(jobId);
+        return job.isCompleted() ? job.toProgress() : execute(job);
+    }
+
+    public Optional<RescoreProgress> getProgress(String jobId) {
+        RescoreJob running = runningJob.get();
+        if (running != null && running.getJobId().equals(jobId)) {
+            return Optional.of(running.toProgress());
+        }
+        return checkpointRepository.findById(jobId).map(RescoreJob::fromCheckpoint);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        runner.shutdownNow();
+        scoringPool.shutdownNow();
+    }
+
+    private RescoreJob claim(String jobId) {
+        String id = jobId == null || jobId.isBlank() ? UUID.randomUUID().toString() : jobId;
+        RescoreCheckpoint checkpoint = checkpointRepository.findById(id).orElseGet(() -> {
+            RescoreCheckpoint created = new RescoreCheckpoint();
+            created.setJobId(id);
+            return created;
+        });
+        RescoreJob job = new RescoreJob(checkpoint);
+        if (job.isCompleted()) {
+            logger.info("Rescore {} already completed, nothing to resume", id);
+            return job;
+        }
+        if (!runningJob.compareAndSet(null, job)) {
+            throw new IllegalArgumentException("Rescore " + runningJob.get().getJobId() + " is already running");
+        }
+        return job;
+    }
+
+    private RescoreProgress execute(RescoreJob job) {
+        if (job.getLastId() != null) {
+            logger.info("Resuming rescore {} after _id {}", job.getJobId(), job.getLastId());
+        }
+        long written = 0;
+        try (Stream<Student> students = studentRepository.streamAfterId(job.getLastId())) {
+            Iterator<Student> cursor = students.iterator();
+            List<Student> batch = new ArrayList<>(batchSize);
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == batchSize) {
+                    written += commitBatch(job, batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                written += commitBatch(job, batch);
+            }
+            job.finish("COMPLETED", null);
+            checkpointRepository.save(job.checkpoint());
+            RescoreProgress progress = job.toProgress();
+            logger.info("Rescore {} completed: {} scanned, {} rewritten, {} conflicts, {} students/s",
+                    job.getJobId(), progress.getStudentsScanned(), progress.getStudentsRescored(),
+                    progress.getConflicts(), Math.round(progress.getStudentsPerSecond()));
+            return progress;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.finish("INTERRUPTED", "Rescore interrupted");
+            return job.toProgress();
+        } catch (ExecutionException | RuntimeException e) {
+            Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+            logger.error("Rescore {} stopped after _id {}: {}", job.getJobId(), job.getLastId(), cause.getMessage(), cause);
+            job.finish("FAILED", cause.getMessage());
+            return job.toProgress();
+        } finally {
+            if (written > 0) {
+                scoreChangeBus.publishResync("Rescore " + job.getJobId() + " rewrote " + written + " students");
+            }
+            runningJob.compareAndSet(job, null);
+        }
+    }
+
+    /**
+     * Rescores and writes one batch; returns how many students were written.
+     */
+    private long commitBatch(RescoreJob job, List<Student> batch) throws ExecutionException, InterruptedException {
+        boolean[] changed = new boolean[batch.size()];
+        String[] errors = new String[batch.size()];
+        scoringPool.submit(() -> IntStream.range(0, batch.size()).parallel().forEach(i -> {
+            try {
+                changed[i] = reportCardService.rescoreStudent(batch.get(i));
+            } catch (RuntimeException e) {
+                errors[i] = e.getMessage();
+            }
+        })).get();
+
+        List<Student> toWrite = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            if (errors[i] != null) {
+                job.studentFailed(batch.get(i).getRollNumber(), errors[i]);
+            } else if (changed[i]) {
+                toWrite.add(batch.get(i));
+            } else {
+                job.studentUnchanged();
+            }
+        }
+        long written = toWrite.isEmpty() ? 0 : reportCardService.writeRescoredBatch(toWrite);
+        job.batchCommitted(batch.size(), toWrite.size(), written, batch.get(batch.size() - 1).getId());
+        checkpointRepository.save(job.checkpoint());
+        throttle(job);
+        return written;
+    }
+
+    /**
+     * Sleeps until the writes made so far fit the configured budget.
+     */
+    private void throttle(RescoreJob job) throws InterruptedException {
+        if (maxWritesPerSecond <= 0) {
+            return;
+        }
+        long dueNanos = job.getStartedAtNanos() + job.writesThisRun() * 1_000_000_000L / maxWritesPerSecond;
+        long waitNanos = dueNanos - System.nanoTime();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
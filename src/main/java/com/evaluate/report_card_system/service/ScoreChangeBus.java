@@ -0,0 +1,193 @@
+package com.evaluate.report_card_system.service;
+
+import com.evaluate.report_card_system.response.ScoreChangeEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-process fan-out of {@link ScoreChangeEvent}s from the service write paths to feed subscribers.
+ * Publishing never blocks a writer: each event is numbered and offered to every matching subscription's
+ * buffer of {@code reportcard.events.buffer-size} events. A subscriber that falls that far behind loses its
+ * buffered events and finds a single {@code RESYNC} event in their place, after which it receives new events
+ * as usual. Bulk score changes that are not worth one event per student are announced with
+ * {@link #publishResync(String)}.
+ * <p>
+ * The latest sequence is also tracked per roll number and per cohort so that a reconnecting subscriber is
+ * only told to resync when it missed an event it would actually have received. Those maps are cleared when
+ * they grow past {@value #MAX_TRACKED_KEYS} entries; everything published before then counts as missed.
+ */
+@Component
+public class ScoreChangeBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScoreChangeBus.class);
+
+    private final int bufferSize;
+    private static final int MAX_TRACKED_KEYS = 65_536;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong floor = new AtomicLong();
+    private final Map<Integer, Long> lastByRollNumber = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastByCohort = new ConcurrentHashMap<>();
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+    public ScoreChangeBus(@Value("${reportcard.events.buffer-size:256}") int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Subscribes to changes of one roll number, of one cohort, or (both {@code null}) of every student.
+     */
+    public Subscription subscribe(Integer rollNumber, String cohort) {
+        Subscription subscription = new Subscription(rollNumber, cohort);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    public void publish(ScoreChangeEvent event) {
+        long published = sequence.incrementAndGet();
+        event.setSequence(published);
+        track(event, published);
+        for (Subscription subscription : subscriptions) {
+            if (subscription.matches(event)) {
+                subscription.offer(event);
+            }
+        }
+    }
+
+    public void publishResync(String reason) {
+        publish(ScoreChangeEvent.resync(reason));
+    }
+
+    /**
+     * Sequence number of the latest published event.
+     */
+    public long lastSequence() {
+        return sequence.get();
+    }
+
+    /**
+     * Sequence number of the latest published event a subscription with this filter would have received, or
+     * a later one. With both a roll number and a cohort, the roll number's latest event is used.
+     */
+    public long lastSequence(Integer rollNumber, String cohort) {
+        long forgotten = floor.get();
+        if (rollNumber != null) {
+            return Math.max(forgotten, lastByRollNumber.getOrDefault(rollNumber, 0L));
+        }
+        if (cohort != null) {
+            return Math.max(forgotten, lastByCohort.getOrDefault(cohort, 0L));
+        }
+        return sequence.get();
+    }
+
+    public int subscriberCount() {
+        return subscriptions.size();
+    }
+
+    private void track(ScoreChangeEvent event, long published) {
+        if (event.getType() == ScoreChangeEvent.Type.RESYNC) {
+            floor.accumulateAndGet(published, Math::max);
+            return;
+        }
+        if (event.getRollNumber() != null) {
+            lastByRollNumber.merge(event.getRollNumber(), published, Math::max);
+        }
+        if (event.getCohort() != null) {
+            lastByCohort.merge(event.getCohort(), published, Math::max);
+        }
+        if (lastByRollNumber.size() > MAX_TRACKED_KEYS || lastByCohort.size() > MAX_TRACKED_KEYS) {
+            lastByRollNumber.clear();
+            lastByCohort.clear();
+            floor.accumulateAndGet(sequence.get(), Math::max);
+        }
+    }
+
+    public class Subscription implements AutoCloseable {
+
+        private final Integer rollNumber;
+        private final String cohort;
+        private final ArrayDeque<ScoreChangeEvent> buffer = new ArrayDeque<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition notEmpty = lock.newCondition();
+        private long dropped;
+
+        private Subscription(Integer rollNumber, String cohort) {
+            this.rollNumber = rollNumber;
+            this.cohort = cohort;
+        }
+
+        private boolean matches(ScoreChangeEvent event) {
+            if (event.getType() == ScoreChangeEvent.Type.RESYNC) {
+                return true;
+            }
+            return (rollNumber == null || rollNumber.equals(event.getRollNumber()))
+                    && (cohort == null || cohort.equals(event.getCohort()));
+        }
+
+        void offer(ScoreChangeEvent event) {
+            lock.lock();
+            try {
+                if (buffer.size() >= bufferSize) {
+                    dropped += buffer.size();
+                    buffer.clear();
+                    ScoreChangeEvent resync = ScoreChangeEvent.resync("Subscriber fell more than " + bufferSize + " events behind");
+                    resync.setSequence(event.getSequence() - 1);
+                    buffer.add(resync);
+                    logger.warn("Score-change subscriber (rollNumber={}, cohort={}) overflowed; {} events dropped so far",
+                            rollNumber, cohort, dropped);
+                }
+                buffer.add(event);
+                notEmpty.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * The next event, waiting up to {@code timeout}; {@code null} when none arrived in time.
+         */
+        public ScoreChangeEvent poll(Duration timeout) throws InterruptedException {
+            long remaining = timeout.toNanos();
+            lock.lock();
+            try {
+                while (buffer.isEmpty()) {
+                    if (remaining <= 0) {
+                        return null;
+                    }
+                    remaining = notEmpty.awaitNanos(remaining);
+                }
+                return buffer.poll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Events discarded because this subscriber's buffer was full.
+         */
+        public long getDropped() {
+            lock.lock();
+            try {
+                return dropped;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void close() {
+            subscriptions.remove(this);
+        }
+    }
+}
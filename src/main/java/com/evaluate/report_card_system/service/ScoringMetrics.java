@@ -0,0 +1,72 @@
+package com.evaluate.report_card_system.service;
+
+import com.evaluate.report_card_system.exception.ScoreValidationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Meters for the scoring paths. Timers are registered once and recorded with raw nanos so the hot loop
+ * does not allocate; percentiles and histogram buckets for every {@code reportcard.*} timer are switched
+ * on in application.properties.
+ */
+@Component
+public class ScoringMetrics {
+
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_INVALID = "invalid";
+    public static final String OUTCOME_CONFLICT = "conflict";
+    public static final String OUTCOME_ERROR = "error";
+
+    private final MeterRegistry registry;
+    private final Timer finalScoreTimer;
+    private final Timer termScoreTimer;
+    private final Map<String, Timer> updateTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> validationFailures = new ConcurrentHashMap<>();
+
+    public ScoringMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.finalScoreTimer = Timer.builder("reportcard.score.final")
+                .description("Time to validate and score one student")
+                .register(registry);
+        this.termScoreTimer = Timer.builder("reportcard.score.term")
+                .description("Time to score one term of a student that already passed validation")
+                .register(registry);
+    }
+
+    void recordFinalScore(long nanos) {
+        finalScoreTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordTermScore(long nanos) {
+        termScoreTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordUpdate(String outcome, long nanos) {
+        updateTimers.computeIfAbsent(outcome, o -> Timer.builder("reportcard.marks.update")
+                .description("Time to apply one mark update request, including retries")
+                .tag("outcome", o)
+                .register(registry)).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Counts a rejected request under {@code operation}, tagged with the validation reason
+     * ({@code other} for rejections that carry none).
+     */
+    void validationFailed(String operation, IllegalArgumentException e) {
+        validationFailed(operation, e instanceof ScoreValidationException validation ? validation.getReason().tag() : "other");
+    }
+
+    void validationFailed(String operation, String reason) {
+        validationFailures.computeIfAbsent(operation + '/' + reason, k -> Counter.builder("reportcard.validation.failures")
+                .description("Requests rejected by scoring validation")
+                .tag("operation", operation)
+                .tag("reason", reason)
+                .register(registry)).increment();
+    }
+}
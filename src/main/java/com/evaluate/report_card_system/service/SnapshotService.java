@@ -0,0 +1,185 @@
+package com.evaluate.report_card_system.service;
+
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.repository.StudentRepository;
+import com.evaluate.report_card_system.response.SnapshotSummary;
+import com.evaluate.report_card_system.snapshot.StudentSnapshot;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Exports every student into a {@link StudentSnapshot} under {@code reportcard.snapshot.directory} and loads
+ * one back into the live collection. Exports also measure how large the same students are as JSON
+ * documents, so the summary reports the compression ratio; loads report throughput. A load inserts each
+ * snapshot group with one unordered bulk write; students whose roll number already exists are reported as
+ * failed and the rest still go in. Exports and loads are serialized on a {@link ReentrantLock}.
+ */
+@Service
+public class SnapshotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotService.class);
+    private static final Pattern SNAPSHOT_NAME = Pattern.compile("[A-Za-z0-9][A-Za-z0-9._-]{0,63}");
+
+    private final StudentRepository studentRepository;
+    private final StudentCache studentCache;
+    private final RankIndex rankIndex;
+    private final AnalyticsService analyticsService;
+    private final ScoreChangeBus scoreChangeBus;
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final int groupSize;
+    private final ReentrantLock runLock = new ReentrantLock();
+
+    public SnapshotService(StudentRepository studentRepository,
+                           StudentCache studentCache,
+                           RankIndex rankIndex,
+                           AnalyticsService analyticsService,
+                           ScoreChangeBus scoreChangeBus,
+                           ObjectMapper objectMapper,
+                           @Value("${reportcard.snapshot.directory:snapshots}") Path directory,
+                           @Value("${reportcard.snapshot.group-size:4096}") int groupSize) {
+        this.studentRepository = studentRepository;
+        this.studentCache = studentCache;
+        this.rankIndex = rankIndex;
+        this.analyticsService = analyticsService;
+        this.scoreChangeBus = scoreChangeBus;
+        this.objectMapper = objectMapper;
+        this.directory = directory;
+        this.groupSize = groupSize;
+    }
+
+    public SnapshotSummary export(String name) throws IOException {
+        runLock.lock();
+        try {
+            return exportExclusively(name);
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    private SnapshotSummary exportExclusively(String name) throws IOException {
+        Path file = file(name);
+        long started = System.nanoTime();
+        CountingOutputStream json = new CountingOutputStream();
+        long snapshotBytes;
+        long students;
+        try (Stream<Student> all = studentRepository.streamAllByOrderByRollNumber();
+             StudentSnapshot.Writer writer = StudentSnapshot.create(file, groupSize);
+             JsonGenerator generator = objectMapper.createGenerator(json)) {
+            Iterator<Student> cursor = all.iterator();
+            while (cursor.hasNext()) {
+                Student student = cursor.next();
+                writer.write(student);
+                objectMapper.writeValue(generator, student);
+            }
+            generator.flush();
+            students = writer.getStudents();
+            snapshotBytes = writer.finish();
+        }
+        SnapshotSummary summary = summary(name, students, 0, started);
+        summary.setSnapshotBytes(snapshotBytes);
+        summary.setJsonBytes(json.count);
+        summary.setCompressionRatio(snapshotBytes == 0 ? 0 : (double) json.count / snapshotBytes);
+        logger.info("Exported {} students to snapshot {} ({} bytes, {} bytes as JSON)", students, name,
+                snapshotBytes, json.count);
+        return summary;
+    }
+
+    /**
+     * Inserts every student of a snapshot. Students that are live already are reported as failed.
+     */
+    public SnapshotSummary load(String name) throws IOException {
+        runLock.lock();
+        try {
+            return loadExclusively(name);
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    private SnapshotSummary loadExclusively(String name) throws IOException {
+        Path file = file(name);
+        if (!Files.exists(file)) {
+            throw new IllegalArgumentException("Snapshot " + name + " does not exist");
+        }
+        long started = System.nanoTime();
+        long[] counts = new long[2];
+        List<String> errors = new ArrayList<>();
+        StudentSnapshot.read(file, group -> {
+            Map<Integer, String> failures = studentRepository.insertUnordered(group);
+            for (int i = 0; i < group.size(); i++) {
+                Student student = group.get(i);
+                String error = failures.get(i);
+                if (error == null) {
+                    studentCache.invalidate(student.getRollNumber());
+                    rankIndex.put(student);
+                    counts[0]++;
+                } else {
+                    counts[1]++;
+                    if (errors.size() < 100) {
+                        errors.add("Roll number " + student.getRollNumber() + ": " + error);
+                    }
+                }
+            }
+        });
+        analyticsService.invalidateAll();
+        if (counts[0] > 0) {
+            scoreChangeBus.publishResync("Snapshot " + name + " loaded");
+        }
+        SnapshotSummary summary = summary(name, counts[0], counts[1], started);
+        summary.setSnapshotBytes(Files.size(file));
+        summary.setErrors(errors);
+        logger.info("Loaded {} students from snapshot {} in {} ms, {} failed", counts[0], name,
+                summary.getMillis(), counts[1]);
+        return summary;
+    }
+
+    private static SnapshotSummary summary(String name, long students, long failed, long started) {
+        long nanos = System.nanoTime() - started;
+        SnapshotSummary summary = new SnapshotSummary();
+        summary.setName(name);
+        summary.setStudents(students);
+        summary.setFailed(failed);
+        summary.setMillis(nanos / 1_000_000);
+        summary.setStudentsPerSecond(nanos == 0 ? 0 : (students + failed) * 1e9 / nanos);
+        summary.setErrors(List.of());
+        return summary;
+    }
+
+    private Path file(String name) {
+        if (name == null || !SNAPSHOT_NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException("Snapshot name must be 1-64 letters, digits, '.', '_' or '-'");
+        }
+        return directory.resolve(name + StudentSnapshot.SUFFIX);
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
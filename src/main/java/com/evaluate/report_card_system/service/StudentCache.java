@@ -0,0 +1,139 @@
+package com.evaluate.report_card_system.service;
+
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.response.CacheStatsResponse;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache of students by roll number, bounded by size and time since load. Misses are cached
+ * too, so repeated lookups of an unknown roll number do not reach Mongo either.
+ * <p>
+ * A miss installs an incomplete future before loading, so concurrent misses for the same roll number wait
+ * on one Mongo query. The load runs on the calling thread with no lock held. Invalidation removes the
+ * future, so a load that started before a write is never kept once the write has invalidated its key.
+ * Cached students are shared and must be treated as read-only.
+ */
+@Component
+public class StudentCache {
+
+    private final AsyncCache<Integer, Optional<Student>> cache;
+
+    public StudentCache(@Value("${reportcard.cache.maximum-size:10000}") long maximumSize,
+                        @Value("${reportcard.cache.ttl:5m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+    }
+
+    public Optional<Student> get(int rollNumber, Supplier<Optional<Student>> loader) {
+        CompletableFuture<Optional<Student>> cached = cache.getIfPresent(rollNumber);
+        if (cached == null) {
+            CompletableFuture<Optional<Student>> loading = new CompletableFuture<>();
+            cached = cache.asMap().putIfAbsent(rollNumber, loading);
+            if (cached == null) {
+                try {
+                    Optional<Student> student = loader.get();
+                    loading.complete(student);
+                    return student;
+                } catch (RuntimeException e) {
+                    loading.completeExceptionally(e);
+                    cache.asMap().remove(rollNumber, loading);
+                    throw e;
+                }
+            }
+        }
+        try {
+            return cached.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    /**
+     * The cached student for {@code rollNumber}, or empty when it is not cached, still loading, or cached as
+     * absent. Never loads.
+     */
+    public Optional<Student> getIfLoaded(int rollNumber) {
+        CompletableFuture<Optional<Student>> cached = cache.getIfPresent(rollNumber);
+        if (cached == null || !cached.isDone() || cached.isCompletedExceptionally()) {
+            return Optional.empty();
+        }
+        return cached.join();
+    }
+
+    /**
+     * Multi-key form of {@link #get}: every roll number not cached or already being loaded is fetched with
+     * one call to {@code bulkLoader}, which returns the students it found keyed by roll number. Absent keys
+     * are cached as misses. The result has an entry for every requested roll number.
+     */
+    public Map<Integer, Optional<Student>> getAll(Collection<Integer> rollNumbers,
+                                                  Function<Set<Integer>, Map<Integer, Student>> bulkLoader) {
+        Map<Integer, CompletableFuture<Optional<Student>>> pending = new HashMap<>();
+        Map<Integer, CompletableFuture<Optional<Student>>> owned = new HashMap<>();
+        for (Integer rollNumber : rollNumbers) {
+            CompletableFuture<Optional<Student>> cached = cache.getIfPresent(rollNumber);
+            if (cached == null) {
+                CompletableFuture<Optional<Student>> loading = new CompletableFuture<>();
+                cached = cache.asMap().putIfAbsent(rollNumber, loading);
+                if (cached == null) {
+                    owned.put(rollNumber, loading);
+                    cached = loading;
+                }
+            }
+            pending.put(rollNumber, cached);
+        }
+        if (!owned.isEmpty()) {
+            try {
+                Map<Integer, Student> loaded = bulkLoader.apply(owned.keySet());
+                owned.forEach((rollNumber, loading) -> loading.complete(Optional.ofNullable(loaded.get(rollNumber))));
+            } catch (RuntimeException e) {
+                owned.forEach((rollNumber, loading) -> {
+                    loading.completeExceptionally(e);
+                    cache.asMap().remove(rollNumber, loading);
+                });
+                throw e;
+            }
+        }
+        Map<Integer, Optional<Student>> students = new HashMap<>();
+        try {
+            pending.forEach((rollNumber, future) -> students.put(rollNumber, future.join()));
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+        return students;
+    }
+
+    public void invalidate(Integer rollNumber) {
+        if (rollNumber != null) {
+            cache.synchronous().invalidate(rollNumber);
+        }
+    }
+
+    public CacheStatsResponse stats() {
+        CacheStats stats = cache.synchronous().stats();
+        CacheStatsResponse response = new CacheStatsResponse();
+        response.setSize(cache.synchronous().estimatedSize());
+        response.setHits(stats.hitCount());
+        response.setMisses(stats.missCount());
+        response.setHitRate(stats.hitRate());
+        response.setEvictions(stats.evictionCount());
+        return response;
+    }
+}
@@ -0,0 +1,189 @@
+package com.evaluate.report_card_system.service;
+
+import com.evaluate.report_card_system.exception.ScoreValidationException.Reason;
+import com.evaluate.report_card_system.model.Exam;
+import com.evaluate.report_card_system.model.ScoreMap;
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.model.SubjectDictionary;
+import com.evaluate.report_card_system.model.Term;
+import com.evaluate.report_card_system.request.UpdateMarkRequest;
+import com.evaluate.report_card_system.response.ValidationResult;
+import com.evaluate.report_card_system.response.Violation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Checks students and mark updates against the scoring rules in one walk and returns every violation instead
+ * of stopping at the first. Nothing is thrown or logged, and paths and messages are only built for actual
+ * violations, so bulk workloads can validate millions of rows cheaply. Violations come out in the order the
+ * old fail-fast checks ran, so the first one is what used to be thrown. Thread-safe.
+ */
+public class StudentValidator {
+
+    private final WeightSchemeRegistry weightSchemeRegistry;
+
+    public StudentValidator(WeightSchemeRegistry weightSchemeRegistry) {
+        this.weightSchemeRegistry = weightSchemeRegistry;
+    }
+
+    public ValidationResult validate(Student student) {
+        Violations violations = new Violations();
+        if (student.getRollNumber() == null || student.getRollNumber() <= 0) {
+            violations.add("rollNumber", Reason.INVALID_ROLL_NUMBER, student.getRollNumber(), "Roll number must be a positive integer");
+        }
+        if (student.getName() == null || student.getName().isEmpty()) {
+            violations.add("name", Reason.MISSING_NAME, student.getName(), "Name is required");
+        }
+        List<Term> terms = student.getTerms();
+        if (terms == null || terms.isEmpty()) {
+            violations.add("terms", Reason.MISSING_TERMS, null, "Student must have at least one term");
+        }
+        CompiledWeightScheme scheme = weightSchemeRegistry.find(student.getCurriculum());
+        if (scheme == null) {
+            violations.add("curriculum", Reason.UNKNOWN_CURRICULUM, student.getCurriculum(), "Unknown curriculum " + student.getCurriculum());
+        }
+        if (terms != null) {
+            for (int t = 0; t < terms.size(); t++) {
+                checkTerm(terms.get(t), t, scheme, violations);
+            }
+        }
+        return violations.result();
+    }
+
+    /**
+     * Checks a batch of mark updates for one student before anything is read from the database.
+     */
+    public ValidationResult validateUpdates(int rollNumber, List<UpdateMarkRequest> requests) {
+        Violations violations = new Violations();
+        if (rollNumber <= 0) {
+            violations.add("rollNumber", Reason.INVALID_ROLL_NUMBER, rollNumber, "Roll number must be a positive integer");
+        }
+        if (requests == null || requests.isEmpty()) {
+            violations.add("updates", Reason.MISSING_MARKS, null, "At least one exam update is required");
+            return violations.result();
+        }
+        for (int i = 0; i < requests.size(); i++) {
+            UpdateMarkRequest request = requests.get(i);
+            if (request == null) {
+                violations.add("[" + i + "]", Reason.MISSING_MARKS, null, "Update request " + i + " is empty");
+                continue;
+            }
+            if (request.getTermName() == null || request.getTermName().isEmpty()) {
+                violations.add(updatePath(i, "termName"), Reason.MISSING_TERM_NAME, request.getTermName(), "Term name is required");
+            }
+            if (request.getExamName() == null || request.getExamName().isEmpty()) {
+                violations.add(updatePath(i, "examName"), Reason.MISSING_EXAM_NAME, request.getExamName(), "Exam name is required");
+            }
+            Map<String, Double> marks = request.getSubjectMarks();
+            if (marks == null || marks.isEmpty()) {
+                violations.add(updatePath(i, "subjectMarks"), Reason.MISSING_MARKS, null, "Update request: Subject marks are required");
+                continue;
+            }
+            for (Map.Entry<String, Double> mark : marks.entrySet()) {
+                Double value = mark.getValue();
+                if (value == null) {
+                    violations.add(updatePath(i, "subjectMarks." + mark.getKey()), Reason.NULL_MARK, null,
+                            "Update request: Mark for " + mark.getKey() + " cannot be null");
+                } else if (value < 0 || value > 100) {
+                    violations.add(updatePath(i, "subjectMarks." + mark.getKey()), Reason.MARK_OUT_OF_RANGE, value,
+                            "Update request: Marks for " + mark.getKey() + " must be between 0 and 100");
+                }
+            }
+        }
+        return violations.result();
+    }
+
+    /**
+     * Checks the marks of exam {@code examIndex} of term {@code termIndex}, e.g. after an update merged new
+     * marks into it.
+     */
+    public ValidationResult validateExam(Exam exam, int termIndex, int examIndex) {
+        Violations violations = new Violations();
+        checkExam(exam, termIndex, examIndex, violations);
+        return violations.result();
+    }
+
+    private void checkTerm(Term term, int index, CompiledWeightScheme scheme, Violations violations) {
+        if (term == null) {
+            violations.add(termPath(index), Reason.MISSING_TERM_NAME, null, "Term name is required");
+            return;
+        }
+        if (term.getTermName() == null || term.getTermName().isEmpty()) {
+            violations.add(termPath(index) + ".termName", Reason.MISSING_TERM_NAME, term.getTermName(), "Term name is required");
+        }
+        List<Exam> exams = term.getExams();
+        if (exams == null || exams.isEmpty()) {
+            violations.add(termPath(index) + ".exams", Reason.MISSING_EXAMS, null, "Term " + term.getTermName() + ": At least one exam is required");
+            return;
+        }
+        if (scheme != null && exams.size() != scheme.getExamCount()) {
+            violations.add(termPath(index) + ".exams", Reason.EXAM_COUNT, exams.size(), "Term " + term.getTermName()
+                    + ": Each term must have exactly " + scheme.getExamCount() + " exams");
+        }
+        for (int e = 0; e < exams.size(); e++) {
+            checkExam(exams.get(e), index, e, violations);
+        }
+    }
+
+    private void checkExam(Exam exam, int termIndex, int examIndex, Violations violations) {
+        ScoreMap marks = exam == null ? null : exam.getSubjectMarks();
+        if (marks == null || marks.isEmpty()) {
+            violations.add(examPath(termIndex, examIndex) + ".subjectMarks", Reason.MISSING_MARKS, null,
+                    "Exam " + (exam == null ? null : exam.getExamName()) + ": Subject marks are required");
+            return;
+        }
+        for (int subjectId = marks.nextId(0); subjectId >= 0; subjectId = marks.nextId(subjectId + 1)) {
+            double mark = marks.getMark(subjectId);
+            if (Double.isNaN(mark) || mark < 0 || mark > 100) {
+                checkMark(exam, termIndex, examIndex, SubjectDictionary.nameOf(subjectId), mark, violations);
+            }
+        }
+        for (Map.Entry<String, Double> unknown : marks.unknownMarks().entrySet()) {
+            Double mark = unknown.getValue();
+            checkMark(exam, termIndex, examIndex, unknown.getKey(), mark == null ? Double.NaN : mark, violations);
+        }
+    }
+
+    private static void checkMark(Exam exam, int termIndex, int examIndex, String subject, double mark,
+                                  Violations violations) {
+        if (Double.isNaN(mark)) {
+            violations.add(examPath(termIndex, examIndex) + ".subjectMarks." + subject, Reason.NULL_MARK, null,
+                    "Exam " + exam.getExamName() + ": Mark for " + subject + " cannot be null");
+        } else if (mark < 0 || mark > 100) {
+            violations.add(examPath(termIndex, examIndex) + ".subjectMarks." + subject, Reason.MARK_OUT_OF_RANGE, mark,
+                    "Exam " + exam.getExamName() + ": Marks for " + subject + " must be between 0 and 100");
+        }
+    }
+
+    private static String termPath(int termIndex) {
+        return "terms[" + termIndex + "]";
+    }
+
+    private static String examPath(int termIndex, int examIndex) {
+        return termPath(termIndex) + ".exams[" + examIndex + "]";
+    }
+
+    private static String updatePath(int index, String field) {
+        return "[" + index + "]." + field;
+    }
+
+    /**
+     * Collects violations, creating the list only when the first one is found.
+     */
+    private static final class Violations {
+        private List<Violation> list;
+
+        void add(String path, Reason reason, Object value, String message) {
+            if (list == null) {
+                list = new ArrayList<>();
+            }
+            list.add(new Violation(path, reason.tag(), value, message));
+        }
+
+        ValidationResult result() {
+            return list == null ? ValidationResult.valid() : ValidationResult.of(list);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.evaluate.report_card_system.service;
+
+import com.evaluate.report_card_system.config.WeightConfig;
+import com.evaluate.report_card_system.exception.ScoreValidationException;
+import com.evaluate.report_card_system.model.WeightScheme;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the compiled weighting scheme for every curriculum. A reload compiles the complete new set first
+ * and then swaps it in with one reference write, so scoring never waits on a reload and a student is
+ * always scored against a single consistent scheme. If any scheme fails to compile the old set stays.
+ */
+@Component
+public class WeightSchemeRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(WeightSchemeRegistry.class);
+    private final WeightConfig weightConfig;
+    private final AtomicReference<Map<String, CompiledWeightScheme>> schemes = new AtomicReference<>();
+
+    public WeightSchemeRegistry(WeightConfig weightConfig) {
+        this.weightConfig = weightConfig;
+        reload(Set.of());
+    }
+
+    /**
+     * Returns the scheme for a curriculum; students without one use the default scheme.
+     */
+    public CompiledWeightScheme forCurriculum(String curriculum) {
+        CompiledWeightScheme scheme = find(curriculum);
+        if (scheme == null) {
+            throw new ScoreValidationException(ScoreValidationException.Reason.UNKNOWN_CURRICULUM, "Unknown curriculum " + curriculum);
+        }
+        return scheme;
+    }
+
+    /**
+     * Like {@link #forCurriculum(String)}, but returns {@code null} for an unknown curriculum.
+     */
+    public CompiledWeightScheme find(String curriculum) {
+        Map<String, CompiledWeightScheme> current = schemes.get();
+        return current.get(curriculum == null || curriculum.isEmpty() ? WeightConfig.DEFAULT_CURRICULUM : curriculum);
+    }
+
+    public Set<String> getCurricula() {
+        return schemes.get().keySet();
+    }
+
+    /**
+     * Recompiles the configured schemes, overridden by {@code stored} schemes with the same curriculum.
+     * Stored schemes without a curriculum are skipped with a warning rather than failing the reload.
+     */
+    public void reload(Collection<WeightScheme> stored) {
+        Map<String, WeightScheme> definitions = new LinkedHashMap<>();
+        definitions.put(WeightConfig.DEFAULT_CURRICULUM, weightConfig.getDefaultScheme());
+        definitions.putAll(weightConfig.getCurricula());
+        for (WeightScheme scheme : stored) {
+            if (scheme.getCurriculum() == null || scheme.getCurriculum().isBlank()) {
+                logger.warn("Skipping stored weight scheme '{}' without a curriculum", scheme.getScoreName());
+                continue;
+            }
+            definitions.put(scheme.getCurriculum(), scheme);
+        }
+        Map<String, CompiledWeightScheme> compiled = new LinkedHashMap<>();
+        definitions.forEach((curriculum, scheme) -> compiled.put(curriculum, CompiledWeightScheme.compile(curriculum, scheme)));
+        schemes.set(Map.copyOf(compiled));
+        logger.info("Loaded weight schemes for curricula {}", compiled.keySet());
+    }
+}
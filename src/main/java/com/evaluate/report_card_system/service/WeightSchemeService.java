@@ -0,0 +1,62 @@
+package com.evaluate.report_card_system.service;
+
+import com.evaluate.report_card_system.config.WeightConfig;
+import com.evaluate.report_card_system.model.WeightScheme;
+import com.evaluate.report_card_system.repository.WeightSchemeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Set;
+
+@Service
+public class WeightSchemeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(WeightSchemeService.class);
+    private final WeightSchemeRegistry weightSchemeRegistry;
+    private final WeightSchemeRepository weightSchemeRepository;
+    private final WeightConfig weightConfig;
+
+    public WeightSchemeService(WeightSchemeRegistry weightSchemeRegistry,
+                               WeightSchemeRepository weightSchemeRepository,
+                               WeightConfig weightConfig) {
+        this.weightSchemeRegistry = weightSchemeRegistry;
+        this.weightSchemeRepository = weightSchemeRepository;
+        this.weightConfig = weightConfig;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadStoredSchemes() {
+        if (!weightConfig.isLoadFromMongo()) {
+            return;
+        }
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            logger.warn("Could not load weight schemes from Mongo, using configured schemes: {}", e.getMessage());
+        }
+    }
+
+    public Set<String> reload() {
+        List<WeightScheme> stored = weightSchemeRepository.findAll();
+        weightSchemeRegistry.reload(stored);
+        return weightSchemeRegistry.getCurricula();
+    }
+
+    public WeightScheme saveScheme(WeightScheme scheme) {
+        if (scheme.getCurriculum() == null || scheme.getCurriculum().isBlank()) {
+            throw new IllegalArgumentException("Curriculum is required");
+        }
+        CompiledWeightScheme.compile(scheme.getCurriculum(), scheme);
+        WeightScheme saved = weightSchemeRepository.save(scheme);
+        reload();
+        return saved;
+    }
+
+    public Set<String> getCurricula() {
+        return weightSchemeRegistry.getCurricula();
+    }
+}
@@ -0,0 +1,559 @@
+package com.evaluate.report_card_system.snapshot;
+
+import com.evaluate.report_card_system.model.Exam;
+import com.evaluate.report_card_system.model.ScoreMap;
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.model.SubjectDictionary;
+import com.evaluate.report_card_system.model.Term;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Columnar binary snapshot of students. Students are written in groups; inside a group every field is one
+ * contiguous little-endian column (all roll numbers, then all versions, ..., then every term score, then every
+ * mark as a packed {@code double}), and terms and exams are flattened into their own columns with a
+ * per-parent count. Subject, term, exam, curriculum and cohort names are dictionary-encoded as {@code int}
+ * codes. The ordered subject set of an exam's marks is a layout, itself dictionary-encoded, so an exam stores
+ * one layout code and each mark costs only its eight bytes. The dictionaries and the group offsets are in a
+ * footer, located through the fixed-size trailer.
+ * <pre>
+ *   [MAGIC][FORMAT_VERSION] group... [footer: names, layouts, students, (offset, length) per group][footer offset][MAGIC]
+ * </pre>
+ * Loading memory-maps one group at a time and bulk-copies each column out of the mapping, so it never goes
+ * through a stream or a JSON parser. Counts and codes of -1 stand for {@code null}, -2 for a {@code null}
+ * term or exam element; a {@code null} number is stored as {@code NaN} or the type's minimum value.
+ */
+public final class StudentSnapshot {
+
+    public static final String SUFFIX = ".snapshot";
+    static final int MAGIC = 0x52435331;
+    static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 8;
+    private static final int TRAILER_BYTES = 12;
+    private static final int NULL_INT = Integer.MIN_VALUE;
+    private static final long NULL_LONG = Long.MIN_VALUE;
+    private static final int NULL_CODE = -1;
+    private static final int NULL_COUNT = -1;
+    private static final int NULL_ELEMENT = -2;
+
+    private StudentSnapshot() {
+    }
+
+    /**
+     * Starts a snapshot at {@code file}. The data goes to a temporary sibling that replaces {@code file} only
+     * when {@link Writer#finish()} succeeds, so a failed export never leaves a truncated snapshot behind.
+     */
+    public static Writer create(Path file, int groupSize) throws IOException {
+        return new Writer(file, groupSize);
+    }
+
+    /**
+     * Hands the students of {@code file} to {@code consumer}, one group at a time, in the order they were
+     * written. Returns the number of students read.
+     */
+    public static long read(Path file, Consumer<List<Student>> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES + TRAILER_BYTES) {
+                throw new IOException(file + " is not a student snapshot");
+            }
+            ByteBuffer header = map(channel, 0, HEADER_BYTES);
+            ByteBuffer trailer = map(channel, size - TRAILER_BYTES, TRAILER_BYTES);
+            if (header.getInt(0) != MAGIC || trailer.getInt(8) != MAGIC) {
+                throw new IOException(file + " is not a student snapshot");
+            }
+            if (header.getInt(4) != FORMAT_VERSION) {
+                throw new IOException(file + " has unsupported snapshot format " + header.getInt(4));
+            }
+            long footerOffset = trailer.getLong(0);
+            if (footerOffset < HEADER_BYTES || footerOffset > size - TRAILER_BYTES) {
+                throw new IOException(file + " has a corrupt footer");
+            }
+            ByteBuffer footer = map(channel, footerOffset, size - TRAILER_BYTES - footerOffset);
+            try {
+                String[] names = readStrings(footer, footer.getInt());
+                int[][] layouts = new int[footer.getInt()][];
+                for (int l = 0; l < layouts.length; l++) {
+                    layouts[l] = readInts(footer, footer.getInt());
+                }
+                Decoder decoder = new Decoder(names, layouts);
+                long students = footer.getLong();
+                int groups = footer.getInt();
+                long read = 0;
+                for (int g = 0; g < groups; g++) {
+                    long offset = footer.getLong();
+                    int length = footer.getInt();
+                    List<Student> group = decoder.decode(map(channel, offset, length));
+                    read += group.size();
+                    consumer.accept(group);
+                }
+                if (read != students) {
+                    throw new IOException(file + " holds " + read + " students, footer says " + students);
+                }
+                return read;
+            } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+                throw new IOException(file + " is truncated or corrupt", e);
+            }
+        }
+    }
+
+    private static ByteBuffer map(FileChannel channel, long position, long length) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, length).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static String[] readStrings(ByteBuffer in, int count) {
+        int[] lengths = readInts(in, count);
+        byte[] bytes = new byte[Arrays.stream(lengths).filter(length -> length > 0).sum()];
+        in.get(bytes);
+        String[] strings = new String[count];
+        int start = 0;
+        for (int i = 0; i < count; i++) {
+            if (lengths[i] >= 0) {
+                strings[i] = new String(bytes, start, lengths[i], StandardCharsets.UTF_8);
+                start += lengths[i];
+            }
+        }
+        return strings;
+    }
+
+    private static int[] readInts(ByteBuffer in, int count) {
+        int[] values = new int[count];
+        in.asIntBuffer().get(values);
+        in.position(in.position() + count * Integer.BYTES);
+        return values;
+    }
+
+    private static long[] readLongs(ByteBuffer in, int count) {
+        long[] values = new long[count];
+        in.asLongBuffer().get(values);
+        in.position(in.position() + count * Long.BYTES);
+        return values;
+    }
+
+    private static double[] readDoubles(ByteBuffer in, int count) {
+        double[] values = new double[count];
+        in.asDoubleBuffer().get(values);
+        in.position(in.position() + count * Double.BYTES);
+        return values;
+    }
+
+    /**
+     * Buffers students into groups and writes each full group as a set of columns. Not thread-safe.
+     */
+    public static final class Writer implements AutoCloseable {
+
+        private final Path file;
+        private final Path temp;
+        private final FileChannel channel;
+        private final int groupSize;
+        private final List<Student> group;
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> names = new ArrayList<>();
+        private final Map<Layout, Integer> layoutCodes = new HashMap<>();
+        private final List<int[]> layouts = new ArrayList<>();
+        private final List<long[]> groups = new ArrayList<>();
+        private int[] subjectCodes = new int[0];
+        private long students;
+        private boolean finished;
+
+        private Writer(Path file, int groupSize) throws IOException {
+            if (groupSize <= 0) {
+                throw new IllegalArgumentException("Group size must be positive");
+            }
+            this.file = file;
+            this.temp = file.resolveSibling(file.getFileName() + ".tmp");
+            this.groupSize = groupSize;
+            this.group = new ArrayList<>(groupSize);
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            this.channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            writeFully(ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN)
+                    .putInt(MAGIC).putInt(FORMAT_VERSION).flip());
+        }
+
+        public void write(Student student) throws IOException {
+            group.add(student);
+            if (group.size() == groupSize) {
+                flushGroup();
+            }
+        }
+
+        public long getStudents() {
+            return students + group.size();
+        }
+
+        /**
+         * Writes the last group and the footer, forces the file to disk and moves it into place. Returns the
+         * size of the snapshot in bytes.
+         */
+        public long finish() throws IOException {
+            flushGroup();
+            long footerOffset = channel.size();
+            List<byte[]> encodedNames = names.stream().map(name -> name.getBytes(StandardCharsets.UTF_8)).toList();
+            int footerBytes = Integer.BYTES + Integer.BYTES + Long.BYTES + Integer.BYTES
+                    + groups.size() * (Long.BYTES + Integer.BYTES)
+                    + encodedNames.stream().mapToInt(bytes -> Integer.BYTES + bytes.length).sum()
+                    + layouts.stream().mapToInt(layout -> Integer.BYTES * (1 + layout.length)).sum();
+            ByteBuffer footer = ByteBuffer.allocate(footerBytes + TRAILER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            footer.putInt(encodedNames.size());
+            encodedNames.forEach(bytes -> footer.putInt(bytes.length));
+            encodedNames.forEach(footer::put);
+            footer.putInt(layouts.size());
+            for (int[] layout : layouts) {
+                footer.putInt(layout.length);
+                Arrays.stream(layout).forEach(footer::putInt);
+            }
+            footer.putLong(students).putInt(groups.size());
+            groups.forEach(g -> footer.putLong(g[0]).putInt((int) g[1]));
+            footer.putLong(footerOffset).putInt(MAGIC);
+            writeFully(footer.flip());
+            channel.force(true);
+            long size = channel.size();
+            channel.close();
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            finished = true;
+            return size;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+            if (!finished) {
+                Files.deleteIfExists(temp);
+            }
+        }
+
+        private void flushGroup() throws IOException {
+            if (group.isEmpty()) {
+                return;
+            }
+            int n = group.size();
+            List<Term> terms = new ArrayList<>(n * 3);
+            List<Exam> exams = new ArrayList<>(n * 9);
+            byte[][] ids = new byte[n][];
+            byte[][] studentNames = new byte[n][];
+            long stringBytes = 0;
+            for (int i = 0; i < n; i++) {
+                Student student = group.get(i);
+                ids[i] = utf8(student.getId());
+                studentNames[i] = utf8(student.getName());
+                stringBytes += (ids[i] == null ? 0 : ids[i].length) + (studentNames[i] == null ? 0 : studentNames[i].length);
+                if (student.getTerms() != null) {
+                    terms.addAll(student.getTerms());
+                }
+            }
+            for (Term term : terms) {
+                if (term != null && term.getExams() != null) {
+                    exams.addAll(term.getExams());
+                }
+            }
+            int marks = 0;
+            int weighted = 0;
+            for (Exam exam : exams) {
+                if (exam != null) {
+                    marks += Math.max(0, count(exam.getSubjectMarks()));
+                    weighted += Math.max(0, count(exam.getWeightedScores()));
+                }
+            }
+
+            long bytes = Integer.BYTES + (long) n * (Integer.BYTES + Long.BYTES + Double.BYTES + 5 * Integer.BYTES)
+                    + stringBytes
+                    + Integer.BYTES + (long) terms.size() * (Integer.BYTES + Double.BYTES + Integer.BYTES)
+                    + Integer.BYTES + (long) exams.size() * 3 * Integer.BYTES
+                    + Integer.BYTES + (long) marks * Double.BYTES
+                    + Integer.BYTES + (long) weighted * Double.BYTES;
+            if (bytes > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Snapshot group of " + n + " students exceeds 2 GB; use a smaller group size");
+            }
+            ByteBuffer out = ByteBuffer.allocate((int) bytes).order(ByteOrder.LITTLE_ENDIAN);
+
+            out.putInt(n);
+            for (Student student : group) {
+                out.putInt(student.getRollNumber() == null ? NULL_INT : student.getRollNumber());
+            }
+            for (Student student : group) {
+                out.putLong(student.getVersion() == null ? NULL_LONG : student.getVersion());
+            }
+            for (Student student : group) {
+                out.putDouble(student.getFinalScore() == null ? Double.NaN : student.getFinalScore());
+            }
+            for (Student student : group) {
+                out.putInt(code(student.getCurriculum()));
+            }
+            for (Student student : group) {
+                out.putInt(code(student.getCohort()));
+            }
+            for (Student student : group) {
+                out.putInt(student.getTerms() == null ? NULL_COUNT : student.getTerms().size());
+            }
+            putStrings(out, ids);
+            putStrings(out, studentNames);
+
+            out.putInt(terms.size());
+            for (Term term : terms) {
+                out.putInt(term == null ? NULL_CODE : code(term.getTermName()));
+            }
+            for (Term term : terms) {
+                out.putDouble(term == null ? 0 : term.getTermScore());
+            }
+            for (Term term : terms) {
+                out.putInt(term == null ? NULL_ELEMENT : term.getExams() == null ? NULL_COUNT : term.getExams().size());
+            }
+
+            out.putInt(exams.size());
+            for (Exam exam : exams) {
+                out.putInt(exam == null ? NULL_CODE : code(exam.getExamName()));
+            }
+            for (Exam exam : exams) {
+                out.putInt(exam == null ? NULL_ELEMENT : layoutCode(exam.getSubjectMarks()));
+            }
+            for (Exam exam : exams) {
+                out.putInt(exam == null ? NULL_ELEMENT : layoutCode(exam.getWeightedScores()));
+            }
+
+            out.putInt(marks);
+            putScores(out, exams, true);
+            out.putInt(weighted);
+            putScores(out, exams, false);
+
+            long offset = channel.size();
+            writeFully(out.flip());
+            groups.add(new long[]{offset, bytes});
+            students += n;
+            group.clear();
+        }
+
+        /**
+         * Writes the packed-double column of every subject mark or weighted score, in layout order.
+         */
+        private static void putScores(ByteBuffer out, List<Exam> exams, boolean subjectMarks) {
+            for (Exam exam : exams) {
+                ScoreMap scores = exam == null ? null : subjectMarks ? exam.getSubjectMarks() : exam.getWeightedScores();
+                if (scores != null) {
+                    scores.forEachMark((subjectId, mark) -> out.putDouble(mark));
+                    for (Double mark : scores.unknownMarks().values()) {
+                        out.putDouble(mark == null ? Double.NaN : mark);
+                    }
+                }
+            }
+        }
+
+        private static void putStrings(ByteBuffer out, byte[][] strings) {
+            for (byte[] string : strings) {
+                out.putInt(string == null ? NULL_COUNT : string.length);
+            }
+            for (byte[] string : strings) {
+                if (string != null) {
+                    out.put(string);
+                }
+            }
+        }
+
+        private int layoutCode(ScoreMap scores) {
+            if (scores == null) {
+                return NULL_CODE;
+            }
+            int[] layout = new int[scores.size()];
+            int k = 0;
+            for (int id = scores.nextId(0); id >= 0; id = scores.nextId(id + 1)) {
+                layout[k++] = subjectCode(id);
+            }
+            for (String subject : scores.unknownMarks().keySet()) {
+                layout[k++] = code(subject);
+            }
+            return layoutCodes.computeIfAbsent(new Layout(layout), l -> {
+                layouts.add(l.codes());
+                return layouts.size() - 1;
+            });
+        }
+
+        private int subjectCode(int subjectId) {
+            if (subjectId >= subjectCodes.length) {
+                int previous = subjectCodes.length;
+                subjectCodes = Arrays.copyOf(subjectCodes, Math.max(subjectId + 1, previous * 2));
+                Arrays.fill(subjectCodes, previous, subjectCodes.length, NULL_CODE);
+            }
+            if (subjectCodes[subjectId] == NULL_CODE) {
+                subjectCodes[subjectId] = code(SubjectDictionary.nameOf(subjectId));
+            }
+            return subjectCodes[subjectId];
+        }
+
+        private int code(String name) {
+            if (name == null) {
+                return NULL_CODE;
+            }
+            return codes.computeIfAbsent(name, n -> {
+                names.add(n);
+                return names.size() - 1;
+            });
+        }
+
+        private static int count(ScoreMap scores) {
+            return scores == null ? NULL_COUNT : scores.size();
+        }
+
+        private static byte[] utf8(String value) {
+            return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+        }
+
+        private void writeFully(ByteBuffer buffer) throws IOException {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * Rebuilds students from the columns of one group. Subject codes are translated to
+     * {@link SubjectDictionary} ids once per name, so marks go straight into {@link ScoreMap} slots; names the
+     * dictionary does not know are put by name.
+     */
+    private static final class Decoder {
+
+        private final String[] names;
+        private final int[][] layouts;
+        private final int[] subjectIds;
+
+        Decoder(String[] names, int[][] layouts) {
+            this.names = names;
+            this.layouts = layouts;
+            this.subjectIds = new int[names.length];
+            Arrays.fill(subjectIds, -1);
+        }
+
+        List<Student> decode(ByteBuffer in) {
+            int n = in.getInt();
+            int[] rollNumbers = readInts(in, n);
+            long[] versions = readLongs(in, n);
+            double[] finalScores = readDoubles(in, n);
+            int[] curricula = readInts(in, n);
+            int[] cohorts = readInts(in, n);
+            int[] termCounts = readInts(in, n);
+            String[] ids = readStrings(in, n);
+            String[] studentNames = readStrings(in, n);
+
+            int termTotal = in.getInt();
+            int[] termNames = readInts(in, termTotal);
+            double[] termScores = readDoubles(in, termTotal);
+            int[] examCounts = readInts(in, termTotal);
+
+            int examTotal = in.getInt();
+            int[] examNames = readInts(in, examTotal);
+            int[] markLayouts = readInts(in, examTotal);
+            int[] weightedLayouts = readInts(in, examTotal);
+
+            double[] markValues = readDoubles(in, in.getInt());
+            double[] weightedValues = readDoubles(in, in.getInt());
+
+            List<Student> students = new ArrayList<>(n);
+            int t = 0;
+            int e = 0;
+            int[] m = {0, 0};
+            for (int i = 0; i < n; i++) {
+                Student student = new Student();
+                student.setId(ids[i]);
+                student.setVersion(versions[i] == NULL_LONG ? null : versions[i]);
+                student.setRollNumber(rollNumbers[i] == NULL_INT ? null : rollNumbers[i]);
+                student.setName(studentNames[i]);
+                student.setCurriculum(name(curricula[i]));
+                student.setCohort(name(cohorts[i]));
+                student.setFinalScore(Double.isNaN(finalScores[i]) ? null : finalScores[i]);
+                if (termCounts[i] != NULL_COUNT) {
+                    List<Term> terms = new ArrayList<>(termCounts[i]);
+                    for (int k = 0; k < termCounts[i]; k++, t++) {
+                        if (examCounts[t] == NULL_ELEMENT) {
+                            terms.add(null);
+                            continue;
+                        }
+                        Term term = new Term();
+                        term.setTermName(name(termNames[t]));
+                        term.setTermScore(termScores[t]);
+                        if (examCounts[t] != NULL_COUNT) {
+                            List<Exam> exams = new ArrayList<>(examCounts[t]);
+                            for (int x = 0; x < examCounts[t]; x++, e++) {
+                                if (markLayouts[e] == NULL_ELEMENT) {
+                                    exams.add(null);
+                                    continue;
+                                }
+                                Exam exam = new Exam();
+                                exam.setExamName(name(examNames[e]));
+                                exam.setSubjectMarks(scores(markLayouts[e], markValues, m, 0));
+                                exam.setWeightedScores(scores(weightedLayouts[e], weightedValues, m, 1));
+                                exams.add(exam);
+                            }
+                            term.setExams(exams);
+                        }
+                        terms.add(term);
+                    }
+                    student.setTerms(terms);
+                }
+                students.add(student);
+            }
+            return students;
+        }
+
+        private ScoreMap scores(int layoutCode, double[] values, int[] cursors, int cursor) {
+            if (layoutCode == NULL_CODE) {
+                return null;
+            }
+            int[] layout = layouts[layoutCode];
+            ScoreMap scores = new ScoreMap();
+            int start = cursors[cursor];
+            for (int k = 0; k < layout.length; k++) {
+                int id = subjectId(layout[k]);
+                double value = values[start + k];
+                if (id >= 0) {
+                    scores.putMark(id, value);
+                } else {
+                    scores.put(names[layout[k]], Double.isNaN(value) ? null : value);
+                }
+            }
+            cursors[cursor] = start + layout.length;
+            return scores;
+        }
+
+        private int subjectId(int code) {
+            int id = subjectIds[code];
+            if (id < 0) {
+                id = SubjectDictionary.lookup(names[code]);
+                subjectIds[code] = id;
+            }
+            return id;
+        }
+
+        private String name(int code) {
+            return code == NULL_CODE ? null : names[code];
+        }
+    }
+
+    /**
+     * Subject codes of one exam's marks in id order, compared by content.
+     */
+    private record Layout(int[] codes) {
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Layout layout && Arrays.equals(codes, layout.codes);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(codes);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.evaluate.report_card_system;
+
+import com.evaluate.report_card_system.model.Exam;
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.model.Term;
+import com.evaluate.report_card_system.repository.StudentRepository;
+import com.evaluate.report_card_system.repository.embedded.EmbeddedStudentRepository;
+import com.evaluate.report_card_system.service.ReportCardService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+		"reportcard.rank.rebuild-on-startup=false",
+		"reportcard.embedded.directory=target/embedded-profile-test"
+})
+@ActiveProfiles("embedded")
+class EmbeddedProfileApplicationTests {
+
+	@Autowired
+	private StudentRepository studentRepository;
+
+	@Autowired
+	private ReportCardService reportCardService;
+
+	@Test
+	void storesStudentsWithoutMongo() {
+		assertInstanceOf(EmbeddedStudentRepository.class, studentRepository);
+		studentRepository.deleteAll();
+
+		Exam exam = new Exam();
+		exam.setExamName("Exam 1");
+		exam.setSubjectMarks(Map.of("Physics", 80.0, "Chemistry", 70.0, "Biology", 60.0));
+		Term term = new Term();
+		term.setTermName("Term 1");
+		term.setExams(List.of(exam, exam, exam));
+		Student student = new Student();
+		student.setRollNumber(7);
+		student.setName("Embedded");
+		student.setTerms(List.of(term));
+		reportCardService.generateReportCard(student);
+
+		Student stored = reportCardService.getStudentByRollNumber(7).orElseThrow();
+		assertEquals(71.0, stored.getFinalScore(), 1e-9);
+		assertEquals(0L, stored.getVersion());
+	}
+
+}
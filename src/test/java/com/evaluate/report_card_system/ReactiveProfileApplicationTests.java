@@ -0,0 +1,32 @@
+package com.evaluate.report_card_system;
+
+import com.evaluate.report_card_system.controller.RankController;
+import com.evaluate.report_card_system.controller.ReactiveReportCardController;
+import com.evaluate.report_card_system.controller.ReportCardController;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+		"reportcard.weights.load-from-mongo=false",
+		"reportcard.indexes.create-on-startup=false",
+		"reportcard.rank.rebuild-on-startup=false"
+})
+@ActiveProfiles("reactive")
+class ReactiveProfileApplicationTests {
+
+	@Autowired
+	private ApplicationContext context;
+
+	@Test
+	void servesStudentRoutesReactively() {
+		assertEquals(1, context.getBeanNamesForType(ReactiveReportCardController.class).length);
+		assertEquals(0, context.getBeanNamesForType(ReportCardController.class).length);
+		assertEquals(0, context.getBeanNamesForType(RankController.class).length);
+	}
+
+}
@@ -3,7 +3,11 @@ package com.evaluate.report_card_system;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = {
+		"reportcard.weights.load-from-mongo=false",
+		"reportcard.indexes.create-on-startup=false",
+		"reportcard.rank.rebuild-on-startup=false"
+})
 class ReportCardSystemApplicationTests {
 
 	@Test
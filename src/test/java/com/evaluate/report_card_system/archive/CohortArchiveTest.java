@@ -0,0 +1,95 @@
+package com.evaluate.report_card_system.archive;
+
+import com.evaluate.report_card_system.model.Exam;
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.model.Term;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CohortArchiveTest {
+
+    @TempDir
+    Path directory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void find_ShouldReturnArchivedStudentFromItsBlock() throws Exception {
+        CohortArchive archive = new CohortArchive(directory, "2019", objectMapper);
+        try (CohortArchive.Appender appender = archive.openAppender()) {
+            appender.append(students(1, 50));
+            appender.append(students(51, 100));
+            appender.commit();
+            assertTrue(appender.getUncompressedBytes() > archive.archiveBytes());
+        }
+
+        Student found = new CohortArchive(directory, "2019", objectMapper).find(73).orElseThrow();
+
+        assertEquals("Student 73", found.getName());
+        assertEquals(73.0, found.getTerms().get(0).getExams().get(0).getSubjectMarks().get("Physics"));
+        assertEquals(100, archive.size());
+        assertTrue(archive.find(101).isEmpty());
+    }
+
+    @Test
+    void appendedBlocks_ShouldStayInvisibleUntilCommit() throws Exception {
+        CohortArchive archive = new CohortArchive(directory, "2020", objectMapper);
+        try (CohortArchive.Appender appender = archive.openAppender()) {
+            appender.append(students(1, 10));
+        }
+
+        assertFalse(archive.exists());
+        assertTrue(archive.find(5).isEmpty());
+        assertTrue(Files.size(directory.resolve("2020" + CohortArchive.ARCHIVE_SUFFIX)) > 0);
+    }
+
+    @Test
+    void forEachBlock_ShouldSkipSupersededCopies() throws Exception {
+        CohortArchive archive = new CohortArchive(directory, "2021", objectMapper);
+        try (CohortArchive.Appender appender = archive.openAppender()) {
+            appender.append(students(1, 4));
+            appender.commit();
+        }
+        List<Student> rewritten = students(3, 4);
+        rewritten.forEach(student -> student.setName("Updated " + student.getRollNumber()));
+        try (CohortArchive.Appender appender = archive.openAppender()) {
+            appender.append(rewritten);
+            appender.commit();
+        }
+
+        List<String> names = new ArrayList<>();
+        archive.forEachBlock(block -> block.forEach(student -> names.add(student.getName())));
+
+        assertEquals(List.of("Student 1", "Student 2", "Updated 3", "Updated 4"), names);
+        assertEquals("Updated 4", archive.find(4).orElseThrow().getName());
+        assertEquals(4, archive.size());
+    }
+
+    private static List<Student> students(int from, int to) {
+        return new ArrayList<>(IntStream.rangeClosed(from, to).mapToObj(rollNumber -> {
+            Student student = new Student();
+            student.setId("id-" + rollNumber);
+            student.setRollNumber(rollNumber);
+            student.setName("Student " + rollNumber);
+            student.setCohort("2019");
+            Exam exam = new Exam();
+            exam.setExamName("Exam 1");
+            exam.setSubjectMarks(Map.of("Physics", (double) (rollNumber % 100)));
+            Term term = new Term();
+            term.setTermName("Term 1");
+            term.setExams(List.of(exam));
+            student.setTerms(List.of(term));
+            return student;
+        }).toList());
+    }
+}
@@ -1,9 +1,16 @@
 package com.evaluate.report_card_system.controller;
 
+import com.evaluate.report_card_system.exception.ScoreValidationException;
 import com.evaluate.report_card_system.model.Exam;
 import com.evaluate.report_card_system.model.Student;
 import com.evaluate.report_card_system.model.Term;
 import com.evaluate.report_card_system.request.UpdateMarkRequest;
+import com.evaluate.report_card_system.response.StudentLookup;
+import com.evaluate.report_card_system.response.StudentResult;
+import com.evaluate.report_card_system.response.StudentSummary;
+import com.evaluate.report_card_system.response.ValidationResult;
+import com.evaluate.report_card_system.response.Violation;
+import com.evaluate.report_card_system.service.IdempotencyStore;
 import com.evaluate.report_card_system.service.ReportCardService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,6 +22,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
@@ -37,10 +45,10 @@ class ReportCardControllerTest {
 
     @BeforeEach
     void setUp() {
-        ReportCardController controller = new ReportCardController(reportCardService);
-        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
-
         objectMapper = new ObjectMapper();
+        ReportCardController controller = new ReportCardController(reportCardService, objectMapper,
+                new IdempotencyStore(100, Duration.ofMinutes(1)));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
 
         sampleStudent = new Student();
         sampleStudent.setId("1");
@@ -61,6 +69,7 @@ class ReportCardControllerTest {
         term1.setTermScore(76.8);
 
         sampleStudent.setTerms(List.of(term1));
+        sampleStudent.setFinalScore(76.8);
     }
 
     @Test
@@ -75,6 +84,72 @@ class ReportCardControllerTest {
                 .andExpect(content().string("76.8"));
     }
 
+    @Test
+    void generateReportCard_ShouldReplayFirstResponse_WhenIdempotencyKeyRepeats() throws Exception {
+        when(reportCardService.generateReportCard(any(Student.class))).thenReturn(sampleStudent);
+        String requestJson = objectMapper.writeValueAsString(sampleStudent);
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            mockMvc.perform(post("/api/reportcard/generate")
+                            .header("Idempotency-Key", "k-1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(requestJson))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string("76.8"));
+        }
+        verify(reportCardService, times(1)).generateReportCard(any(Student.class));
+    }
+
+    @Test
+    void generateReportCard_ShouldRejectReusedIdempotencyKey_WhenBodyDiffers() throws Exception {
+        when(reportCardService.generateReportCard(any(Student.class))).thenReturn(sampleStudent);
+        mockMvc.perform(post("/api/reportcard/generate")
+                        .header("Idempotency-Key", "k-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(sampleStudent)))
+                .andExpect(status().isOk());
+
+        sampleStudent.setName("Someone Else");
+        mockMvc.perform(post("/api/reportcard/generate")
+                        .header("Idempotency-Key", "k-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(sampleStudent)))
+                .andExpect(status().isUnprocessableEntity());
+        verify(reportCardService, times(1)).generateReportCard(any(Student.class));
+    }
+
+    @Test
+    void generateReportCard_ShouldRejectInvalidIdempotencyKey_BeforeReadingBody() throws Exception {
+        mockMvc.perform(post("/api/reportcard/generate")
+                        .header("Idempotency-Key", " ")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{not json"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Idempotency-Key must be 1-255 characters"));
+        verify(reportCardService, never()).generateReportCard(any(Student.class));
+    }
+
+    @Test
+    void generateReportCard_ShouldNotStoreRejection_WhenIdempotencyKeyRepeats() throws Exception {
+        when(reportCardService.generateReportCard(any(Student.class)))
+                .thenThrow(new IllegalArgumentException("Roll number already exists"))
+                .thenReturn(sampleStudent);
+        String requestJson = objectMapper.writeValueAsString(sampleStudent);
+
+        mockMvc.perform(post("/api/reportcard/generate")
+                        .header("Idempotency-Key", "k-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/reportcard/generate")
+                        .header("Idempotency-Key", "k-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson))
+                .andExpect(status().isOk())
+                .andExpect(content().string("76.8"));
+        verify(reportCardService, times(2)).generateReportCard(any(Student.class));
+    }
+
     @Test
     void generateReportCard_ShouldReturnBadRequest_WhenNegativeRollNumber() throws Exception {
         Student invalidStudent = new Student();
@@ -111,6 +186,71 @@ class ReportCardControllerTest {
                 .andExpect(content().string("Term name is required"));
     }
 
+    @Test
+    void generateReportCard_ShouldReturnViolations_WhenScoringRulesBroken() throws Exception {
+        ValidationResult result = ValidationResult.of(List.of(
+                new Violation("name", "missing_name", "", "Name is required"),
+                new Violation("terms[0].exams[0].subjectMarks.Physics", "mark_out_of_range", 120.0,
+                        "Exam Exam 1: Marks for Physics must be between 0 and 100")));
+        when(reportCardService.generateReportCard(any(Student.class))).thenThrow(new ScoreValidationException(result));
+
+        mockMvc.perform(post("/api/reportcard/generate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(sampleStudent)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.valid").value(false))
+                .andExpect(jsonPath("$.violations.length()").value(2))
+                .andExpect(jsonPath("$.violations[1].path").value("terms[0].exams[0].subjectMarks.Physics"))
+                .andExpect(jsonPath("$.violations[1].code").value("mark_out_of_range"))
+                .andExpect(jsonPath("$.violations[1].value").value(120.0));
+    }
+
+    @Test
+    void validate_ShouldReturnOk_WhenStudentValid() throws Exception {
+        when(reportCardService.validate(any(Student.class))).thenReturn(ValidationResult.valid());
+
+        mockMvc.perform(post("/api/reportcard/validate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(sampleStudent)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.valid").value(true))
+                .andExpect(jsonPath("$.violations").isEmpty());
+    }
+
+    @Test
+    void generateReportCards_ShouldReturnPerStudentResults_WhenJsonArray() throws Exception {
+        when(reportCardService.generateReportCards(anyList())).thenReturn(List.of(
+                StudentResult.success(101, 76.8),
+                StudentResult.failure(102, "Name is required")));
+        String requestJson = objectMapper.writeValueAsString(List.of(sampleStudent, sampleStudent));
+
+        mockMvc.perform(post("/api/reportcard/generate/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.results[0].finalScore").value(76.8))
+                .andExpect(jsonPath("$.results[1].error").value("Name is required"));
+    }
+
+    @Test
+    void generateReportCards_ShouldKeepLineOrder_WhenNdjsonHasMalformedLine() throws Exception {
+        when(reportCardService.generateReportCards(anyList())).thenReturn(List.of(
+                StudentResult.success(101, 76.8),
+                StudentResult.success(101, 76.8)));
+        String line = objectMapper.writeValueAsString(sampleStudent);
+
+        mockMvc.perform(post("/api/reportcard/generate/batch")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(line + "\n{not json\n" + line + "\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[1].error").value("Line 2: malformed student JSON"))
+                .andExpect(jsonPath("$.results[2].rollNumber").value(101));
+    }
+
     @Test
     void updateExamMarks_ShouldReturnStudent_WhenValid() throws Exception {
         UpdateMarkRequest request = new UpdateMarkRequest();
@@ -190,6 +330,92 @@ class ReportCardControllerTest {
                 .andExpect(jsonPath("$.rollNumber").value(101));
     }
 
+    @Test
+    void getStudentByRollNo_ShouldTagResponseWithVersion() throws Exception {
+        sampleStudent.setVersion(3L);
+        when(reportCardService.getStudentByRollNumber(101)).thenReturn(Optional.of(sampleStudent));
+
+        mockMvc.perform(get("/api/reportcard/roll/101"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"1-3\""))
+                .andExpect(header().string("Cache-Control", "no-cache"));
+        verify(reportCardService, never()).getStudentVersion(anyInt());
+    }
+
+    @Test
+    void getStudentByRollNo_ShouldReturnNotModified_WithoutLoadingStudent_WhenETagMatches() throws Exception {
+        Student version = new Student();
+        version.setId("1");
+        version.setVersion(3L);
+        when(reportCardService.getStudentVersion(101)).thenReturn(Optional.of(version));
+
+        mockMvc.perform(get("/api/reportcard/roll/101").header("If-None-Match", "W/\"1-3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        verify(reportCardService, never()).getStudentByRollNumber(anyInt());
+    }
+
+    @Test
+    void getStudentByRollNo_ShouldReturnStudent_WhenETagIsStale() throws Exception {
+        Student version = new Student();
+        version.setId("1");
+        version.setVersion(4L);
+        sampleStudent.setVersion(4L);
+        when(reportCardService.getStudentVersion(101)).thenReturn(Optional.of(version));
+        when(reportCardService.getStudentByRollNumber(101)).thenReturn(Optional.of(sampleStudent));
+
+        mockMvc.perform(get("/api/reportcard/roll/101").header("If-None-Match", "W/\"1-3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"1-4\""))
+                .andExpect(jsonPath("$.rollNumber").value(101));
+    }
+
+    @Test
+    void getStudentSummary_ShouldReturnSummaryWithoutExams() throws Exception {
+        when(reportCardService.getStudentSummary(101)).thenReturn(Optional.of(StudentSummary.of(sampleStudent)));
+
+        mockMvc.perform(get("/api/reportcard/roll/101/summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.finalScore").value(76.8))
+                .andExpect(jsonPath("$.terms[0].termScore").exists())
+                .andExpect(jsonPath("$.terms[0].exams").doesNotExist());
+    }
+
+    @Test
+    void getCohortSummaries_ShouldReturnBadRequest_WhenCohortBlank() throws Exception {
+        when(reportCardService.getCohortSummaries(" ")).thenThrow(new IllegalArgumentException("Cohort is required"));
+
+        mockMvc.perform(get("/api/reportcard/cohort/ /summary"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Cohort is required"));
+    }
+
+    @Test
+    void getStudentsByRollNumbers_ShouldReturnResultsInRequestOrder() throws Exception {
+        when(reportCardService.getStudentsByRollNumbers(List.of(101, 999)))
+                .thenReturn(List.of(StudentLookup.found(101, sampleStudent), StudentLookup.notFound(999)));
+
+        mockMvc.perform(get("/api/reportcard/rolls").param("rollNumbers", "101,999"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requested").value(2))
+                .andExpect(jsonPath("$.found").value(1))
+                .andExpect(jsonPath("$.results[0].student.name").value("John Doe"))
+                .andExpect(jsonPath("$.results[1].rollNumber").value(999))
+                .andExpect(jsonPath("$.results[1].found").value(false));
+    }
+
+    @Test
+    void getStudentsByRollNumbersFromBody_ShouldReturnBadRequest_WhenTooMany() throws Exception {
+        when(reportCardService.getStudentsByRollNumbers(anyList()))
+                .thenThrow(new IllegalArgumentException("At most 200 roll numbers can be requested at once"));
+
+        mockMvc.perform(post("/api/reportcard/rolls")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[1,2,3]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("At most 200 roll numbers can be requested at once"));
+    }
+
     @Test
     void getStudentByRollNo_ShouldReturnNotFound_WhenNotExists() throws Exception {
         when(reportCardService.getStudentByRollNumber(999)).thenReturn(Optional.empty());
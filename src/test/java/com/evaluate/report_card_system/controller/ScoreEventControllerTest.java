@@ -0,0 +1,97 @@
+package com.evaluate.report_card_system.controller;
+
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.response.ScoreChangeEvent;
+import com.evaluate.report_card_system.service.ScoreChangeBus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class ScoreEventControllerTest {
+
+    private ScoreChangeBus bus;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        bus = new ScoreChangeBus(16);
+        ScoreEventController controller = new ScoreEventController(bus, Duration.ofSeconds(15), Duration.ofMinutes(1));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void subscribe_ShouldStreamMatchingEvents() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get("/api/reportcard/events").param("rollNumber", "101"))
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+
+        bus.publish(ScoreChangeEvent.generated(student(102)));
+        bus.publish(ScoreChangeEvent.generated(student(101)));
+
+        String body = awaitContent(response, "}\n\n");
+        assertTrue(body.contains("id:2\nevent:generated"), body);
+        assertTrue(body.contains("\"rollNumber\":101"), body);
+        assertFalse(body.contains("\"rollNumber\":102"), body);
+    }
+
+    @Test
+    void subscribe_ShouldStartWithResync_WhenLastEventIdIsBehind() throws Exception {
+        bus.publish(ScoreChangeEvent.generated(student(101)));
+
+        MockHttpServletResponse response = mockMvc.perform(get("/api/reportcard/events").header("Last-Event-ID", "0"))
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+
+        String body = awaitContent(response, "}\n\n");
+        assertTrue(body.contains("id:1\nevent:resync"), body);
+    }
+
+    @Test
+    void subscribe_ShouldNotResync_WhenOnlyOtherStudentsChanged() throws Exception {
+        bus.publish(ScoreChangeEvent.generated(student(101)));
+        bus.publish(ScoreChangeEvent.generated(student(102)));
+
+        MockHttpServletResponse response = mockMvc.perform(get("/api/reportcard/events").param("rollNumber", "101")
+                        .header("Last-Event-ID", "1"))
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+        bus.publish(ScoreChangeEvent.generated(student(101)));
+
+        String body = awaitContent(response, "}\n\n");
+        assertTrue(body.startsWith("id:3\nevent:generated"), body);
+    }
+
+    @Test
+    void subscribe_ShouldReturnBadRequest_WhenRollNumberNotPositive() throws Exception {
+        mockMvc.perform(get("/api/reportcard/events").param("rollNumber", "0"))
+                .andExpect(status().isBadRequest());
+        assertEquals(0, bus.subscriberCount());
+    }
+
+    private static String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        String body = response.getContentAsString();
+        while (!body.contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            body = response.getContentAsString();
+        }
+        assertTrue(body.contains(expected), body);
+        return body;
+    }
+
+    private static Student student(int rollNumber) {
+        Student student = new Student();
+        student.setRollNumber(rollNumber);
+        student.setCohort("2025");
+        student.setFinalScore(80.0);
+        return student;
+    }
+}
@@ -0,0 +1,107 @@
+package com.evaluate.report_card_system.model;
+
+import com.evaluate.report_card_system.config.MongoConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoreMapTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeAll
+    static void registerSchemeSubjects() {
+        SubjectDictionary.intern("Physics");
+        SubjectDictionary.intern("Science");
+    }
+
+    @Test
+    void mapView_ShouldBehaveLikeHashMap() {
+        Map<String, Double> expected = new HashMap<>();
+        expected.put("Physics", 78.0);
+        expected.put("Chemistry", null);
+        ScoreMap marks = ScoreMap.copyOf(expected);
+
+        assertEquals(expected, marks);
+        assertEquals(expected.hashCode(), marks.hashCode());
+        assertTrue(marks.containsKey("Chemistry"));
+        assertNull(marks.get("Chemistry"));
+        assertNull(marks.get("Unseen subject"));
+        assertEquals(78.0, marks.put("Physics", 90.0));
+        assertEquals(90.0, marks.getMark(SubjectDictionary.lookup("Physics")));
+        assertEquals(90.0, marks.remove("Physics"));
+        assertEquals(1, marks.size());
+        assertFalse(marks.containsKey("Physics"));
+    }
+
+    @Test
+    void unknownSubjects_ShouldStayOutOfDictionary() throws Exception {
+        int dictionarySize = SubjectDictionary.size();
+
+        Exam exam = objectMapper.readValue("{\"subjectMarks\":{\"Physics\":78.0,\"Untrusted 1\":50.0,"
+                + "\"Untrusted 2\":null}}", Exam.class);
+        ScoreMap marks = exam.getSubjectMarks();
+
+        assertEquals(dictionarySize, SubjectDictionary.size());
+        assertEquals(-1, SubjectDictionary.lookup("Untrusted 1"));
+        assertEquals(3, marks.size());
+        assertEquals(50.0, marks.get("Untrusted 1"));
+        assertTrue(marks.containsKey("Untrusted 2"));
+        assertEquals(2, marks.unknownMarks().size());
+        assertEquals(50.0, marks.remove("Untrusted 1"));
+        assertEquals(2, marks.size());
+        assertEquals(marks, marks.copy());
+    }
+
+    @Test
+    void json_ShouldKeepObjectShape() throws Exception {
+        String json = "{\"examName\":\"Exam 1\",\"subjectMarks\":{\"Physics\":78.5,\"Biology\":null},"
+                + "\"weightedScores\":{\"Science\":31.4}}";
+
+        Exam exam = objectMapper.readValue(json, Exam.class);
+
+        assertInstanceOf(ScoreMap.class, exam.getSubjectMarks());
+        assertEquals(78.5, exam.getSubjectMarks().get("Physics"));
+        assertTrue(exam.getSubjectMarks().containsKey("Biology"));
+        Map<?, ?> roundTrip = objectMapper.readValue(objectMapper.writeValueAsString(exam), Map.class);
+        assertEquals(objectMapper.readValue(json, Map.class), roundTrip);
+    }
+
+    @Test
+    void mongo_ShouldStoreMarksAsSubDocument() {
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(new MongoConfig().mongoCustomConversions());
+        mappingContext.setSimpleTypeHolder(converter.getCustomConversions().getSimpleTypeHolder());
+        converter.afterPropertiesSet();
+
+        Exam exam = new Exam();
+        exam.setExamName("Exam 1");
+        exam.setSubjectMarks(Map.of("Physics", 78.0));
+        Term term = new Term();
+        term.setTermName("Term 1");
+        term.setExams(List.of(exam));
+        Student student = new Student();
+        student.setRollNumber(101);
+        student.setTerms(List.of(term));
+
+        Document document = new Document();
+        converter.write(student, document);
+        Document storedExam = document.getList("terms", Document.class).get(0).getList("exams", Document.class).get(0);
+        assertEquals(new Document("Physics", 78.0), storedExam.get("subjectMarks"));
+
+        Student read = converter.read(Student.class, document);
+        assertEquals(student, read);
+        assertInstanceOf(ScoreMap.class, read.getTerms().get(0).getExams().get(0).getSubjectMarks());
+    }
+}
@@ -0,0 +1,74 @@
+package com.evaluate.report_card_system.render;
+
+import com.evaluate.report_card_system.model.Exam;
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.model.Term;
+import com.samskivert.mustache.Mustache;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReportCardRendererTest {
+
+    private final ReportCardRenderer renderer = new ReportCardRenderer(Mustache.compiler());
+
+    @Test
+    void renderHtml_ShouldListEveryExamWithSubjectColumns() {
+        String html = renderer.renderHtml(newStudent());
+
+        assertTrue(html.contains("<td>Jane &lt;Doe&gt;</td>"));
+        assertTrue(html.contains("<th>Physics</th><th>Chemistry</th>"));
+        assertTrue(html.contains("<tr><td>Exam 1</td><td>78.00</td><td>72.50</td></tr>"));
+        assertTrue(html.contains("<tr><td>Exam 2</td><td>80.00</td><td>-</td></tr>"));
+        assertTrue(html.contains("Term score: 76.83"));
+        assertTrue(html.contains("Final score: 76.83"));
+        assertFalse(html.contains("Cohort"));
+    }
+
+    @Test
+    void render_ShouldProducePdf() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        renderer.render(newStudent(), ReportFormat.PDF, out);
+
+        assertEquals("%PDF", new String(out.toByteArray(), 0, 4, StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void parse_ShouldRejectUnknownFormat() {
+        assertEquals(ReportFormat.PDF, ReportFormat.parse(null));
+        assertEquals(ReportFormat.HTML, ReportFormat.parse("HTML"));
+        assertThrows(IllegalArgumentException.class, () -> ReportFormat.parse("docx"));
+    }
+
+    static Student newStudent() {
+        Student student = new Student();
+        student.setRollNumber(42);
+        student.setName("Jane <Doe>");
+        student.setFinalScore(76.8333);
+
+        Term term = new Term();
+        term.setTermName("Term 1");
+        term.setTermScore(76.8333);
+        term.setExams(List.of(exam("Exam 1", Map.of("Physics", 78.0, "Chemistry", 72.5)),
+                exam("Exam 2", Map.of("Physics", 80.0))));
+        student.setTerms(List.of(term));
+        return student;
+    }
+
+    private static Exam exam(String examName, Map<String, Double> marks) {
+        Exam exam = new Exam();
+        exam.setExamName(examName);
+        Map<String, Double> ordered = new LinkedHashMap<>();
+        marks.entrySet().stream().sorted(Map.Entry.<String, Double>comparingByKey().reversed())
+                .forEach(entry -> ordered.put(entry.getKey(), entry.getValue()));
+        exam.setSubjectMarks(ordered);
+        return exam;
+    }
+}
@@ -0,0 +1,138 @@
+package com.evaluate.report_card_system.repository;
+
+import com.evaluate.report_card_system.config.MongoConfig;
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.response.ScoreStatistics;
+import com.mongodb.bulk.BulkWriteError;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.convert.UpdateMapper;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class StudentRepositoryImplTest {
+
+    @Test
+    void insertUnordered_ShouldHideServerMessage_ForErrorsOtherThanDuplicateKey() {
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        BulkOperations bulk = mock(BulkOperations.class);
+        BulkOperationException failure = mock(BulkOperationException.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Student.class)).thenReturn(bulk);
+        when(bulk.insert(anyList())).thenReturn(bulk);
+        when(bulk.execute()).thenThrow(failure);
+        when(failure.getErrors()).thenReturn(List.of(
+                new BulkWriteError(11000, "E11000 duplicate key error collection: reportcard.students index: rollNumber",
+                        new BsonDocument(), 0),
+                new BulkWriteError(121, "Document failed validation in reportcard.students", new BsonDocument(), 1)));
+        Student first = new Student();
+        first.setRollNumber(1);
+        Student second = new Student();
+        second.setRollNumber(2);
+
+        Map<Integer, String> errors = new StudentRepositoryImpl(mongoTemplate).insertUnordered(List.of(first, second));
+
+        assertEquals(Map.of(0, "Roll number already exists", 1, "Insert failed"), errors);
+    }
+
+    @Test
+    void examUpdate_ShouldSetOnlyChangedPathsWithArrayFilters() {
+        Update update = StudentRepositoryImpl.examUpdate(
+                List.of(new ExamMarksUpdate("Term 1", "Exam 2", Map.of("Physics", 90.0), "Science", 76.5)),
+                Map.of("Term 1", 81.2));
+
+        Document mapped = updateMapper().getMappedObject(update.getUpdateObject(),
+                new MongoMappingContext().getPersistentEntity(Student.class));
+
+        Document set = mapped.get("$set", Document.class);
+        assertEquals(90.0, set.get("terms.$[t0].exams.$[e0].subjectMarks.Physics"));
+        assertEquals(76.5, set.get("terms.$[t0].exams.$[e0].weightedScores.Science"));
+        assertEquals(81.2, set.get("terms.$[t0].termScore"));
+        assertEquals(3, set.size());
+        assertEquals(new Document("version", 1), mapped.get("$inc"));
+        assertEquals(List.of(new Document("t0.termName", "Term 1"), new Document("e0.examName", "Exam 2")),
+                update.getArrayFilters().stream().map(filter -> filter.asDocument()).toList());
+    }
+
+    @Test
+    void examUpdate_ShouldRejectSubjectNamesThatAreNotPlainFields() {
+        assertThrows(IllegalArgumentException.class, () -> StudentRepositoryImpl.examUpdate(
+                List.of(new ExamMarksUpdate("Term 1", "Exam 1", Map.of("$where", 1.0), "Science", 1.0)),
+                Map.of("Term 1", 1.0)));
+    }
+
+    @Test
+    void toStatistics_ShouldMergeHistogramBucketsIntoTheirScoreGroup() {
+        Document physics = new Document("term", "Term 1").append("exam", "Exam 1").append("subject", "Physics");
+        Document science = new Document("term", "Term 1").append("exam", "Exam 1").append("subject", "weighted:Science");
+        Document result = new Document()
+                .append("stats", List.of(
+                        new Document("_id", science).append("count", 2).append("mean", 80.0).append("stdDev", 5.0)
+                                .append("min", 75.0).append("max", 85.0),
+                        new Document("_id", physics).append("count", 2).append("mean", 90.0).append("stdDev", 10.0)
+                                .append("min", 80.0).append("max", 100.0)))
+                .append("histogram", List.of(
+                        new Document("_id", new Document(physics).append("bucket", 8)).append("count", 1),
+                        new Document("_id", new Document(physics).append("bucket", 9)).append("count", 1),
+                        new Document("_id", new Document(science).append("bucket", 7)).append("count", 1),
+                        new Document("_id", new Document(science).append("bucket", 8)).append("count", 1)));
+
+        List<ScoreStatistics> statistics = StudentRepositoryImpl.toStatistics(result);
+
+        assertEquals(2, statistics.size());
+        assertEquals("Physics", statistics.get(0).getSubject());
+        assertFalse(statistics.get(0).isWeighted());
+        assertArrayEquals(new long[]{0, 0, 0, 0, 0, 0, 0, 0, 1, 1}, statistics.get(0).getHistogram());
+        assertEquals("Science", statistics.get(1).getSubject());
+        assertTrue(statistics.get(1).isWeighted());
+        assertEquals(80.0, statistics.get(1).getMean());
+        assertArrayEquals(new long[]{0, 0, 0, 0, 0, 0, 0, 1, 1, 0}, statistics.get(1).getHistogram());
+    }
+
+    @Test
+    void finalScoreQuery_ShouldSeekPastCursorInIndexOrder() {
+        Query query = StudentRepositoryImpl.finalScoreQuery(null, 40.0, new ScoreCursor(35.5, "abc"), 51);
+
+        Document seek = new Document("$or", List.of(
+                new Document("finalScore", new Document("$gt", 35.5)),
+                new Document("finalScore", 35.5).append("_id", new Document("$gt", "abc"))));
+        assertEquals(new Document("$and", List.of(new Document("finalScore", new Document("$lte", 40.0)), seek)),
+                query.getQueryObject());
+        assertEquals(new Document("finalScore", 1).append("_id", 1), query.getSortObject());
+        assertEquals(51, query.getLimit());
+        assertFalse(query.getFieldsObject().containsKey("terms.exams"));
+        assertEquals(1, query.getFieldsObject().get("terms.termScore"));
+    }
+
+    @Test
+    void termScoreQuery_ShouldMatchNameAndScoreOnOneTerm() {
+        Query query = StudentRepositoryImpl.termScoreQuery("Term 2", 60.0, 70.0, "abc", 11);
+
+        assertEquals(new Document("terms", new Document("$elemMatch", new Document("termName", "Term 2")
+                        .append("termScore", new Document("$gte", 60.0).append("$lte", 70.0))))
+                        .append("_id", new Document("$gt", "abc")),
+                query.getQueryObject());
+        assertEquals(new Document("_id", 1), query.getSortObject());
+    }
+
+    private static UpdateMapper updateMapper() {
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(new MongoConfig().mongoCustomConversions());
+        converter.afterPropertiesSet();
+        return new UpdateMapper(converter);
+    }
+}
@@ -0,0 +1,274 @@
+package com.evaluate.report_card_system.repository.embedded;
+
+import com.evaluate.report_card_system.model.Exam;
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.repository.ScoreCursor;
+import com.evaluate.report_card_system.response.StudentSummary;
+import com.evaluate.report_card_system.model.Term;
+import com.evaluate.report_card_system.repository.ExamMarksUpdate;
+import com.evaluate.report_card_system.response.ScoreStatistics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmbeddedStudentRepositoryTest {
+
+    @TempDir
+    Path directory;
+
+    private EmbeddedStudentRepository repository;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        repository = open();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        repository.close();
+    }
+
+    @Test
+    void save_ShouldAssignIdAndVersion_AndFindByIdOrRollNumber() {
+        Student saved = repository.save(student(101, 80.0));
+
+        assertNotNull(saved.getId());
+        assertEquals(0L, saved.getVersion());
+        assertTrue(repository.existsById(saved.getId()));
+        assertEquals(saved, repository.findById(saved.getId()).orElseThrow());
+        assertEquals(saved, repository.findByRollNumber(101).orElseThrow());
+
+        repository.save(saved);
+        assertEquals(1L, saved.getVersion());
+        assertEquals(1L, repository.findByRollNumber(101).orElseThrow().getVersion());
+    }
+
+    @Test
+    void findByRollNumber_ShouldReturnCopies() {
+        repository.save(student(101, 80.0));
+
+        Student found = repository.findByRollNumber(101).orElseThrow();
+        found.setName("Changed without saving");
+        found.getTerms().get(0).getExams().get(0).getSubjectMarks().put("Physics", 1.0);
+
+        Student again = repository.findByRollNumber(101).orElseThrow();
+        assertEquals("Student 101", again.getName());
+        assertEquals(80.0, again.getTerms().get(0).getExams().get(0).getSubjectMarks().get("Physics"));
+    }
+
+    @Test
+    void findSummaries_ShouldCarryTermScoresWithoutExams() {
+        repository.save(student(102, 70.0));
+        repository.save(student(101, 80.0));
+        Student other = student(103, 60.0);
+        other.setCohort("2026");
+        repository.save(other);
+
+        StudentSummary summary = repository.findSummaryByRollNumber(101).orElseThrow();
+        assertEquals("Student 101", summary.getName());
+        assertEquals(80.0, summary.getFinalScore());
+        assertEquals("Term 1", summary.getTerms().get(0).getTermName());
+        assertEquals(List.of(101, 102), repository.findSummariesByCohort("2025").stream()
+                .map(StudentSummary::getRollNumber).toList());
+        assertEquals(1, repository.findSummariesByRollNumberIn(List.of(103, 999)).size());
+    }
+
+    @Test
+    void findSummariesByFinalScore_ShouldPageInScoreThenIdOrder() {
+        for (int rollNumber = 1; rollNumber <= 5; rollNumber++) {
+            repository.save(student(rollNumber, rollNumber <= 3 ? 35.0 : 90.0 - rollNumber));
+        }
+
+        List<StudentSummary> first = repository.findSummariesByFinalScore(null, 40.0, null, 2);
+        StudentSummary last = first.get(1);
+        List<StudentSummary> second = repository.findSummariesByFinalScore(null, 40.0,
+                new ScoreCursor(last.getFinalScore(), last.getId()), 2);
+
+        assertEquals(2, first.size());
+        assertEquals(1, second.size());
+        assertTrue(first.get(0).getId().compareTo(first.get(1).getId()) < 0);
+        assertEquals(3, Stream.concat(first.stream(), second.stream()).map(StudentSummary::getRollNumber).distinct().count());
+        assertEquals(List.of(5, 4), repository.findSummariesByFinalScore(85.0, 86.0, null, 10).stream()
+                .map(StudentSummary::getRollNumber).toList());
+    }
+
+    @Test
+    void insert_ShouldRejectDuplicateRollNumber() {
+        repository.insert(student(101, 80.0));
+
+        assertThrows(DuplicateKeyException.class, () -> repository.insert(student(101, 70.0)));
+        Map<Integer, String> errors = repository.insertUnordered(List.of(student(102, 60.0), student(101, 50.0)));
+
+        assertEquals(Map.of(1, "Roll number already exists"), errors);
+        assertEquals(2, repository.count());
+    }
+
+    @Test
+    void save_ShouldRejectStaleVersion() {
+        Student saved = repository.save(student(101, 80.0));
+        Student stale = repository.findById(saved.getId()).orElseThrow();
+        repository.save(saved);
+
+        assertThrows(OptimisticLockingFailureException.class, () -> repository.save(stale));
+    }
+
+    @Test
+    void deleteById_ShouldRemoveFromBothIndexes() {
+        Student saved = repository.save(student(101, 80.0));
+
+        repository.deleteById(saved.getId());
+
+        assertFalse(repository.existsById(saved.getId()));
+        assertTrue(repository.findByRollNumber(101).isEmpty());
+        repository.insert(student(101, 70.0));
+    }
+
+    @Test
+    void reopen_ShouldRecoverLatestStateFromLog() throws IOException {
+        Student first = repository.save(student(101, 80.0));
+        Student second = repository.save(student(102, 70.0));
+        first.setName("Renamed");
+        repository.save(first);
+        repository.deleteById(second.getId());
+        repository.close();
+
+        repository = open();
+
+        assertEquals(1, repository.count());
+        Student recovered = repository.findByRollNumber(101).orElseThrow();
+        assertEquals("Renamed", recovered.getName());
+        assertEquals(1L, recovered.getVersion());
+        assertTrue(repository.findByRollNumber(102).isEmpty());
+    }
+
+    @Test
+    void reopen_ShouldDropTornRecordAtTheEnd() throws IOException {
+        repository.save(student(101, 80.0));
+        repository.save(student(102, 70.0));
+        repository.close();
+        Path log = directory.resolve(EmbeddedStudentRepository.LOG_FILE);
+        long size = Files.size(log);
+        try (var channel = Files.newByteChannel(log, StandardOpenOption.WRITE)) {
+            channel.truncate(size - 10);
+        }
+
+        repository = open();
+
+        assertEquals(1, repository.count());
+        assertTrue(repository.findByRollNumber(101).isPresent());
+        repository.save(student(102, 70.0));
+        repository.close();
+        repository = open();
+        assertEquals(2, repository.count());
+    }
+
+    @Test
+    void compact_ShouldKeepOnlyLiveStudents() throws IOException {
+        Student saved = repository.save(student(101, 80.0));
+        for (int i = 0; i < 20; i++) {
+            repository.save(saved);
+        }
+        repository.deleteById(repository.save(student(102, 70.0)).getId());
+        long before = repository.logBytes();
+
+        repository.compact();
+
+        assertTrue(repository.logBytes() < before / 10);
+        repository.close();
+        repository = open();
+        assertEquals(20L, repository.findByRollNumber(101).orElseThrow().getVersion());
+        assertEquals(1, repository.count());
+    }
+
+    @Test
+    void applyExamUpdates_ShouldWriteMarksAndBumpVersion() {
+        Student saved = repository.save(student(101, 80.0));
+
+        assertTrue(repository.applyExamUpdates(saved.getId(), 0L,
+                List.of(new ExamMarksUpdate("Term 1", "Exam 1", Map.of("Physics", 90.0), "examScore", 88.0)),
+                Map.of("Term 1", 85.0), 84.0));
+        assertFalse(repository.applyExamUpdates(saved.getId(), 0L, List.of(), Map.of(), 10.0));
+
+        Student updated = repository.findByRollNumber(101).orElseThrow();
+        Exam exam = updated.getTerms().get(0).getExams().get(0);
+        assertEquals(90.0, exam.getSubjectMarks().get("Physics"));
+        assertEquals(88.0, exam.getWeightedScores().get("examScore"));
+        assertEquals(85.0, updated.getTerms().get(0).getTermScore());
+        assertEquals(84.0, updated.getFinalScore());
+        assertEquals(1L, updated.getVersion());
+    }
+
+    @Test
+    void streams_ShouldFollowRollNumberAndIdOrder() {
+        List<String> ids = new ArrayList<>();
+        for (int rollNumber : new int[]{3, 1, 2}) {
+            Student student = student(rollNumber, 50.0 + rollNumber);
+            student.setCohort(rollNumber == 2 ? "2024" : "2025");
+            ids.add(repository.save(student).getId());
+        }
+
+        assertEquals(List.of(1, 2, 3), repository.streamAllByOrderByRollNumber().map(Student::getRollNumber).toList());
+        assertEquals(List.of(1, 3), repository.streamByCohortOrderByRollNumber("2025").map(Student::getRollNumber).toList());
+        List<String> sortedIds = ids.stream().sorted().toList();
+        assertEquals(sortedIds.subList(1, 3), repository.streamAfterId(sortedIds.get(0)).map(Student::getId).toList());
+        assertEquals(3, repository.streamAllScores().filter(s -> s.getTerms() == null && s.getFinalScore() != null).count());
+    }
+
+    @Test
+    void aggregateScoreStatistics_ShouldMatchMongoPipelineSemantics() {
+        repository.save(student(1, 0));
+        repository.save(student(2, 0));
+        Student other = student(3, 0);
+        other.getTerms().get(0).getExams().get(0).setSubjectMarks(Map.of("Physics", 100.0));
+        other.setCohort("2024");
+        repository.save(other);
+
+        List<ScoreStatistics> statistics = repository.aggregateScoreStatistics("2025");
+
+        assertEquals(List.of("Chemistry", "Physics"), statistics.stream().map(ScoreStatistics::getSubject).toList());
+        ScoreStatistics physics = statistics.get(1);
+        assertEquals(2, physics.getCount());
+        assertEquals(80.0, physics.getMean());
+        assertEquals(0.0, physics.getStdDev());
+        assertEquals(2, physics.getHistogram()[8]);
+        ScoreStatistics allPhysics = repository.aggregateScoreStatistics(null).get(1);
+        assertEquals(3, allPhysics.getCount());
+        assertEquals(1, allPhysics.getHistogram()[9]);
+    }
+
+    private EmbeddedStudentRepository open() throws IOException {
+        return new EmbeddedStudentRepository(directory, new ObjectMapper(), 4096, Duration.ofMinutes(10), Long.MAX_VALUE, 0.5);
+    }
+
+    private static Student student(int rollNumber, double finalScore) {
+        Student student = new Student();
+        student.setRollNumber(rollNumber);
+        student.setName("Student " + rollNumber);
+        student.setCohort("2025");
+        Exam exam = new Exam();
+        exam.setExamName("Exam 1");
+        exam.setSubjectMarks(Map.of("Physics", 80.0, "Chemistry", 75.0));
+        Term term = new Term();
+        term.setTermName("Term 1");
+        term.setExams(List.of(exam));
+        student.setTerms(List.of(term));
+        student.setFinalScore(finalScore);
+        return student;
+    }
+}
@@ -0,0 +1,94 @@
+package com.evaluate.report_card_system.service;
+
+import com.evaluate.report_card_system.repository.StudentRepository;
+import com.evaluate.report_card_system.response.CohortAnalytics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AnalyticsServiceTest {
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    private AnalyticsService analyticsService;
+
+    @BeforeEach
+    void setUp() {
+        analyticsService = new AnalyticsService(studentRepository);
+    }
+
+    @Test
+    void getCohortAnalytics_ShouldAggregateOnce_UntilCohortIsWritten() {
+        when(studentRepository.aggregateScoreStatistics("2026-A")).thenReturn(List.of());
+
+        CohortAnalytics first = analyticsService.getCohortAnalytics("2026-A");
+        CohortAnalytics second = analyticsService.getCohortAnalytics("2026-A");
+        analyticsService.invalidate("2026-B");
+        analyticsService.getCohortAnalytics("2026-A");
+
+        assertSame(first, second);
+        verify(studentRepository, times(1)).aggregateScoreStatistics("2026-A");
+
+        analyticsService.invalidate("2026-A");
+        analyticsService.getCohortAnalytics("2026-A");
+
+        verify(studentRepository, times(2)).aggregateScoreStatistics("2026-A");
+    }
+
+    @Test
+    void getCohortAnalytics_ShouldRecomputeAllStudents_AfterAnyWrite() {
+        when(studentRepository.aggregateScoreStatistics(null)).thenReturn(List.of());
+
+        analyticsService.getCohortAnalytics(null);
+        analyticsService.invalidate("2026-A");
+        analyticsService.getCohortAnalytics("");
+
+        verify(studentRepository, times(2)).aggregateScoreStatistics(null);
+    }
+
+    @Test
+    void getCohortAnalytics_ShouldNotCacheResult_WhenWriteRacesAggregation() {
+        when(studentRepository.aggregateScoreStatistics("2026-A")).thenAnswer(invocation -> {
+            analyticsService.invalidate("2026-A");
+            return List.of();
+        });
+
+        analyticsService.getCohortAnalytics("2026-A");
+        analyticsService.getCohortAnalytics("2026-A");
+
+        verify(studentRepository, times(2)).aggregateScoreStatistics("2026-A");
+    }
+
+    @Test
+    void getCohortAnalytics_ShouldNotCacheResult_WhenBulkWriteRacesAggregationOfUnwrittenCohort() {
+        when(studentRepository.aggregateScoreStatistics("2026-A")).thenAnswer(invocation -> {
+            analyticsService.invalidateAll();
+            return List.of();
+        });
+
+        analyticsService.getCohortAnalytics("2026-A");
+        analyticsService.getCohortAnalytics("2026-A");
+
+        verify(studentRepository, times(2)).aggregateScoreStatistics("2026-A");
+    }
+
+    @Test
+    void invalidateAll_ShouldDropEveryCohort() {
+        when(studentRepository.aggregateScoreStatistics("2026-A")).thenReturn(List.of());
+
+        analyticsService.getCohortAnalytics("2026-A");
+        analyticsService.invalidateAll();
+        analyticsService.getCohortAnalytics("2026-A");
+
+        verify(studentRepository, times(2)).aggregateScoreStatistics("2026-A");
+    }
+}
@@ -0,0 +1,143 @@
+package com.evaluate.report_card_system.service;
+
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.repository.StudentRepository;
+import com.evaluate.report_card_system.response.ArchiveSummary;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArchiveServiceTest {
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    @TempDir
+    Path directory;
+
+    private RankIndex rankIndex;
+
+    private final ScoreChangeBus scoreChangeBus = new ScoreChangeBus(16);
+
+    private ArchiveService archiveService;
+
+    @BeforeEach
+    void setUp() {
+        rankIndex = new RankIndex(studentRepository, false);
+        archiveService = new ArchiveService(studentRepository, new StudentCache(100, Duration.ofMinutes(5)), rankIndex,
+                new AnalyticsService(studentRepository), scoreChangeBus, new ObjectMapper(), directory, 2);
+    }
+
+    @Test
+    void archiveCohort_ShouldWriteArchiveThenDeleteFromLiveCollection() throws Exception {
+        List<Student> cohort = students(5);
+        cohort.forEach(rankIndex::put);
+        when(studentRepository.streamByCohortOrderByRollNumber("2019")).thenReturn(cohort.stream());
+        when(studentRepository.deleteUnchanged(anyList())).thenReturn(Set.of());
+
+        ArchiveSummary summary = archiveService.archiveCohort("2019");
+
+        assertEquals(5, summary.getStudents());
+        assertTrue(summary.getArchiveBytes() > 0);
+        verify(studentRepository).deleteUnchanged(argThat(block -> ids(block).equals(List.of("id-1", "id-2"))));
+        verify(studentRepository).deleteUnchanged(argThat(block -> ids(block).equals(List.of("id-3", "id-4"))));
+        verify(studentRepository).deleteUnchanged(argThat(block -> ids(block).equals(List.of("id-5"))));
+        assertEquals(0, rankIndex.size());
+        assertEquals("Student 4", archiveService.findArchived(4).orElseThrow().getName());
+        assertEquals(List.of("2019"), archiveService.getArchives().stream().map(ArchiveSummary::getCohort).toList());
+        assertEquals(1, scoreChangeBus.lastSequence(3, null));
+    }
+
+    @Test
+    void archiveCohort_ShouldReArchiveStudentsChangedWhileArchiving() throws Exception {
+        List<Student> cohort = students(2);
+        cohort.forEach(rankIndex::put);
+        Student edited = students(2).get(1);
+        edited.setVersion(1L);
+        edited.setName("Renamed");
+        when(studentRepository.streamByCohortOrderByRollNumber("2019")).thenReturn(cohort.stream());
+        when(studentRepository.deleteUnchanged(anyList())).thenReturn(Set.of("id-2"), Set.of());
+        when(studentRepository.findAllById(Set.of("id-2"))).thenReturn(List.of(edited));
+
+        ArchiveSummary summary = archiveService.archiveCohort("2019");
+
+        assertEquals(2, summary.getStudents());
+        assertEquals(0, summary.getFailed());
+        verify(studentRepository).deleteUnchanged(argThat(block -> block.size() == 1 && block.get(0).getVersion() == 1L));
+        assertEquals("Renamed", archiveService.findArchived(2).orElseThrow().getName());
+        assertEquals(0, rankIndex.size());
+    }
+
+    @Test
+    void restoreCohort_ShouldReinsertAndRemoveArchive_WhenAllInserted() throws Exception {
+        when(studentRepository.streamByCohortOrderByRollNumber("2019")).thenReturn(students(3).stream());
+        when(studentRepository.deleteUnchanged(anyList())).thenReturn(Set.of());
+        archiveService.archiveCohort("2019");
+        when(studentRepository.insertUnordered(anyList())).thenReturn(Map.of());
+
+        ArchiveSummary summary = archiveService.restoreCohort("2019");
+
+        assertEquals(3, summary.getStudents());
+        assertEquals(0, summary.getFailed());
+        assertEquals(3, rankIndex.size());
+        assertTrue(archiveService.findArchived(2).isEmpty());
+        assertTrue(archiveService.getArchives().isEmpty());
+    }
+
+    @Test
+    void restoreCohort_ShouldKeepArchive_WhenSomeRollNumbersAreLiveAgain() throws Exception {
+        when(studentRepository.streamByCohortOrderByRollNumber("2019")).thenReturn(students(2).stream());
+        when(studentRepository.deleteUnchanged(anyList())).thenReturn(Set.of());
+        archiveService.archiveCohort("2019");
+        when(studentRepository.insertUnordered(anyList())).thenReturn(Map.of(1, "Roll number already exists"));
+
+        ArchiveSummary summary = archiveService.restoreCohort("2019");
+
+        assertEquals(1, summary.getStudents());
+        assertEquals(List.of("Roll number 2: Roll number already exists"), summary.getErrors());
+        assertTrue(archiveService.findArchived(2).isPresent());
+    }
+
+    @Test
+    void archiveCohort_ShouldRejectEmptyOrUnsafeCohort() {
+        when(studentRepository.streamByCohortOrderByRollNumber("2030")).thenReturn(Stream.empty());
+
+        assertThrows(IllegalArgumentException.class, () -> archiveService.archiveCohort("2030"));
+        assertThrows(IllegalArgumentException.class, () -> archiveService.archiveCohort("../etc"));
+        assertTrue(archiveService.findArchived(1).isEmpty());
+        verify(studentRepository, never()).deleteUnchanged(any());
+    }
+
+    private static List<String> ids(List<Student> students) {
+        return students.stream().map(Student::getId).toList();
+    }
+
+    private static List<Student> students(int count) {
+        return IntStream.rangeClosed(1, count).mapToObj(rollNumber -> {
+            Student student = new Student();
+            student.setId("id-" + rollNumber);
+            student.setRollNumber(rollNumber);
+            student.setName("Student " + rollNumber);
+            student.setCohort("2019");
+            student.setTerms(List.of());
+            student.setFinalScore(60.0 + rollNumber);
+            return student;
+        }).toList();
+    }
+}
@@ -0,0 +1,73 @@
+package com.evaluate.report_card_system.service;
+
+import com.evaluate.report_card_system.exception.IdempotencyKeyReusedException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyStoreTest {
+
+    private final IdempotencyStore store = new IdempotencyStore(100, Duration.ofMinutes(1));
+
+    @Test
+    void execute_ShouldRunOnce_AndReplayForSameKeyAndFingerprint() {
+        AtomicInteger runs = new AtomicInteger();
+
+        assertEquals(1, store.execute("generate", "k", "f", runs::incrementAndGet));
+        assertEquals(1, store.execute("generate", "k", "f", runs::incrementAndGet));
+        assertEquals(2, store.execute("other", "k", "f", runs::incrementAndGet));
+        assertThrows(IdempotencyKeyReusedException.class,
+                () -> store.execute("generate", "k", "g", runs::incrementAndGet));
+        assertEquals(2, runs.get());
+    }
+
+    @Test
+    void execute_ShouldForgetKey_WhenActionThrows() {
+        assertThrows(IllegalStateException.class, () -> store.execute("generate", "k", "f", () -> {
+            throw new IllegalStateException("Mongo unavailable");
+        }));
+
+        assertEquals("ok", store.execute("generate", "k", "f", () -> "ok"));
+    }
+
+    @Test
+    void execute_ShouldMakeConcurrentRetryWaitForFirstRequest() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<Integer> first = executor.submit(() -> store.execute("generate", "k", "f", () -> {
+                started.countDown();
+                awaitQuietly(release);
+                return runs.incrementAndGet();
+            }));
+            started.await();
+            Future<Integer> retry = executor.submit(() -> store.execute("generate", "k", "f", runs::incrementAndGet));
+            release.countDown();
+
+            assertEquals(1, first.get());
+            assertEquals(1, retry.get());
+        }
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void execute_ShouldRejectOverlongKey() {
+        assertThrows(IllegalArgumentException.class, () -> store.execute("generate", "x".repeat(256), "f", () -> 1));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.evaluate.report_card_system.service;
+
+import com.evaluate.report_card_system.importer.ImportJob;
+import com.evaluate.report_card_system.model.ImportCheckpoint;
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.repository.ImportCheckpointRepository;
+import com.evaluate.report_card_system.response.ImportProgress;
+import com.evaluate.report_card_system.response.StudentResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImportServiceTest {
+
+    private static final String CSV = """
+            rollNumber,name,termName,examName,subject,mark
+            101,"Doe, John",Term 1,Exam 1,Physics,78
+            101,"Doe, John",Term 1,Exam 1,Chemistry,72
+            101,"Doe, John",Term 1,Exam 2,Physics,80
+            102,Jane Roe,Term 1,Exam 1,Physics,not-a-number
+            102,Jane Roe,Term 1,Exam 1,Biology,90
+            103,Sam Poe,Term 1,Exam 1,Physics,60
+            """;
+
+    private ImportService importService;
+
+    @Mock
+    private ReportCardService reportCardService;
+
+    @Mock
+    private ImportCheckpointRepository checkpointRepository;
+
+    @BeforeEach
+    void setUp() {
+        importService = new ImportService(reportCardService, checkpointRepository, new ObjectMapper(), 2, 2, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        importService.shutdown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importMarks_ShouldGroupRowsIntoStudentsAndCommitInBatches() throws Exception {
+        when(checkpointRepository.findById("job-1")).thenReturn(Optional.empty());
+        stubScoring();
+
+        ImportProgress progress = importService.importMarks("job-1", "csv", stream(CSV));
+
+        assertEquals("COMPLETED", progress.getState());
+        assertEquals(5, progress.getRowsRead());
+        assertEquals(1, progress.getRowErrors());
+        assertEquals(2, progress.getStudentsInserted());
+        assertEquals(1, progress.getStudentsFailed());
+        assertEquals(2, progress.getBatchesCommitted());
+        assertTrue(progress.getErrors().get(0).startsWith("Line 5:"));
+        assertTrue(progress.getErrors().get(1).startsWith("Roll number 102: Rejected because of a malformed row"));
+        verify(reportCardService, times(2)).scoreStudent(any(Student.class));
+
+        ArgumentCaptor<List<Student>> batches = ArgumentCaptor.forClass(List.class);
+        verify(reportCardService, times(2)).insertScoredBatch(batches.capture(), anyList());
+        Student first = batches.getAllValues().get(0).get(0);
+        assertEquals("Doe, John", first.getName());
+        assertEquals(2, first.getTerms().get(0).getExams().size());
+        assertEquals(72.0, first.getTerms().get(0).getExams().get(0).getSubjectMarks().get("Chemistry"));
+        assertEquals(103, batches.getAllValues().get(1).get(0).getRollNumber());
+
+        ArgumentCaptor<ImportCheckpoint> checkpoints = ArgumentCaptor.forClass(ImportCheckpoint.class);
+        verify(checkpointRepository, times(3)).save(checkpoints.capture());
+        assertTrue(checkpoints.getValue().isCompleted());
+        assertEquals(3, checkpoints.getValue().getStudentsCommitted());
+    }
+
+    @Test
+    void importMarks_ShouldSkipCommittedStudents_WhenResuming() throws Exception {
+        ImportCheckpoint checkpoint = new ImportCheckpoint();
+        checkpoint.setJobId("job-2");
+        checkpoint.setStudentsCommitted(2);
+        checkpoint.setStudentsInserted(2);
+        checkpoint.setBatchesCommitted(1);
+        when(checkpointRepository.findById("job-2")).thenReturn(Optional.of(checkpoint));
+        stubScoring();
+
+        ImportProgress progress = importService.importMarks("job-2", "csv", stream(CSV));
+
+        assertEquals(2, progress.getStudentsSkipped());
+        assertEquals(3, progress.getStudentsInserted());
+        assertEquals(2, progress.getBatchesCommitted());
+        verify(reportCardService, times(1)).scoreStudent(any(Student.class));
+    }
+
+    @Test
+    void importMarks_ShouldCheckpointAsFailed_WhenInputFailsMidStream() throws Exception {
+        when(checkpointRepository.findById("job-5")).thenReturn(Optional.empty());
+        stubScoring();
+        InputStream failing = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("connection reset");
+            }
+        };
+
+        ImportProgress progress = importService.importMarks("job-5", "csv", new SequenceInputStream(stream(CSV), failing));
+
+        assertEquals("FAILED", progress.getState());
+        assertEquals(1, progress.getBatchesCommitted());
+        ArgumentCaptor<ImportCheckpoint> checkpoints = ArgumentCaptor.forClass(ImportCheckpoint.class);
+        verify(checkpointRepository, times(2)).save(checkpoints.capture());
+        ImportCheckpoint last = checkpoints.getValue();
+        assertFalse(last.isCompleted());
+        assertEquals(2, last.getStudentsCommitted());
+        assertTrue(last.getFailure().contains("connection reset"));
+        assertEquals("FAILED", ImportJob.fromCheckpoint(last).getState());
+    }
+
+    @Test
+    void importMarks_ShouldSkipQueuedBatchesAndCheckpointAsFailed_WhenWriteFails() throws Exception {
+        when(checkpointRepository.findById("job-6")).thenReturn(Optional.empty());
+        when(reportCardService.scoreStudent(any(Student.class)))
+                .thenAnswer(invocation -> StudentResult.success(invocation.<Student>getArgument(0).getRollNumber(), 50.0));
+        when(reportCardService.insertScoredBatch(anyList(), anyList())).thenThrow(new IllegalStateException("write timeout"));
+
+        ImportProgress progress = importService.importMarks("job-6", "csv", stream(CSV));
+
+        assertEquals("FAILED", progress.getState());
+        verify(reportCardService, times(1)).insertScoredBatch(anyList(), anyList());
+        ArgumentCaptor<ImportCheckpoint> checkpoints = ArgumentCaptor.forClass(ImportCheckpoint.class);
+        verify(checkpointRepository, times(1)).save(checkpoints.capture());
+        ImportCheckpoint last = checkpoints.getValue();
+        assertFalse(last.isCompleted());
+        assertEquals(0, last.getStudentsCommitted());
+        assertTrue(last.getFailure().contains("write timeout"));
+        assertEquals("FAILED", ImportJob.fromCheckpoint(last).getState());
+    }
+
+    @Test
+    void importMarks_ShouldNotReadInput_WhenJobAlreadyCompleted() throws Exception {
+        ImportCheckpoint checkpoint = new ImportCheckpoint();
+        checkpoint.setJobId("job-3");
+        checkpoint.setCompleted(true);
+        when(checkpointRepository.findById("job-3")).thenReturn(Optional.of(checkpoint));
+
+        ImportProgress progress = importService.importMarks("job-3", "csv", stream(CSV));
+
+        assertEquals("COMPLETED", progress.getState());
+        verify(reportCardService, never()).insertScoredBatch(anyList(), anyList());
+    }
+
+    @Test
+    void importMarks_ShouldRejectUnknownFormat() {
+        when(checkpointRepository.findById("job-4")).thenReturn(Optional.empty());
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                importService.importMarks("job-4", "xml", stream(CSV)));
+        assertEquals("Unsupported import format: xml", exception.getMessage());
+    }
+
+    private void stubScoring() {
+        when(reportCardService.scoreStudent(any(Student.class)))
+                .thenAnswer(invocation -> StudentResult.success(invocation.<Student>getArgument(0).getRollNumber(), 50.0));
+        when(reportCardService.insertScoredBatch(anyList(), anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(1));
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
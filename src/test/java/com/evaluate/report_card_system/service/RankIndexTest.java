@@ -0,0 +1,135 @@
+package com.evaluate.report_card_system.service;
+
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.repository.StudentRepository;
+import com.evaluate.report_card_system.response.RankResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RankIndexTest {
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    private RankIndex rankIndex;
+
+    @BeforeEach
+    void setUp() {
+        rankIndex = new RankIndex(studentRepository, false);
+    }
+
+    @Test
+    void rank_ShouldShareRankBetweenEqualScores() {
+        rankIndex.put(student("a", 1, 90.0));
+        rankIndex.put(student("b", 2, 75.0));
+        rankIndex.put(student("c", 3, 75.0));
+        rankIndex.put(student("d", 4, 40.0));
+
+        RankResponse rank = rankIndex.rank(3).orElseThrow();
+        assertEquals(2, rank.getRank());
+        assertEquals(25.0, rank.getPercentile(), 0.0001);
+        assertEquals(4, rank.getTotal());
+        assertEquals(List.of(1, 2, 3), rankIndex.top(3).stream().map(RankResponse::getRollNumber).toList());
+        assertEquals(List.of(1, 2, 2, 4), rankIndex.top(10).stream().map(RankResponse::getRank).toList());
+    }
+
+    @Test
+    void put_ShouldMoveStudent_WhenScoreChanges() {
+        rankIndex.put(student("a", 1, 90.0));
+        rankIndex.put(student("b", 2, 75.0));
+
+        rankIndex.put(student("b", 2, 95.0));
+
+        assertEquals(1, rankIndex.rank(2).orElseThrow().getRank());
+        assertEquals(2, rankIndex.size());
+    }
+
+    @Test
+    void removeById_ShouldDropStudent() {
+        rankIndex.put(student("a", 1, 90.0));
+        rankIndex.put(student("b", 2, 75.0));
+
+        rankIndex.removeById("a");
+
+        assertTrue(rankIndex.rank(1).isEmpty());
+        assertEquals(1, rankIndex.rank(2).orElseThrow().getRank());
+    }
+
+    @Test
+    void rank_ShouldMatchSortedOrder_ForManyRandomScores() {
+        Random random = new Random(7);
+        List<Student> students = new ArrayList<>();
+        for (int i = 1; i <= 2000; i++) {
+            Student student = student("id" + i, i, random.nextInt(101));
+            students.add(student);
+            rankIndex.put(student);
+        }
+        for (int i = 1; i <= 500; i++) {
+            rankIndex.removeById("id" + i);
+        }
+        List<Student> remaining = students.subList(500, students.size());
+
+        for (Student student : remaining.subList(0, 100)) {
+            long higher = remaining.stream().filter(other -> other.getFinalScore() > student.getFinalScore()).count();
+            assertEquals(higher + 1, rankIndex.rank(student.getRollNumber()).orElseThrow().getRank());
+        }
+        List<Integer> expectedTop = remaining.stream()
+                .sorted(Comparator.comparing(Student::getFinalScore).reversed().thenComparing(Student::getRollNumber))
+                .limit(20).map(Student::getRollNumber).toList();
+        assertEquals(expectedTop, rankIndex.top(20).stream().map(RankResponse::getRollNumber).toList());
+    }
+
+    @Test
+    void rebuild_ShouldLoadScoresFromOneStream() {
+        Student unscored = student("c", 3, 0.0);
+        unscored.setFinalScore(null);
+        when(studentRepository.streamAllScores()).thenReturn(Stream.of(student("a", 1, 60.0), student("b", 2, 80.0), unscored));
+
+        rankIndex.rebuild();
+
+        assertEquals(2, rankIndex.size());
+        assertEquals(1, rankIndex.rank(2).orElseThrow().getRank());
+        verify(studentRepository, times(1)).streamAllScores();
+    }
+
+    @Test
+    void rebuild_ShouldReplayWritesMadeWhileStreaming() {
+        Student first = student("a", 1, 60.0);
+        Stream<Student> scores = Stream.of(first, student("b", 2, 80.0)).peek(student -> {
+            if (student == first) {
+                rankIndex.removeById("a");
+                rankIndex.put(student("b", 2, 95.0));
+                rankIndex.put(student("c", 3, 70.0));
+            }
+        });
+        when(studentRepository.streamAllScores()).thenReturn(scores);
+
+        rankIndex.rebuild();
+
+        assertEquals(2, rankIndex.size());
+        assertTrue(rankIndex.rank(1).isEmpty());
+        assertEquals(95.0, rankIndex.rank(2).orElseThrow().getFinalScore());
+        assertEquals(2, rankIndex.rank(3).orElseThrow().getRank());
+    }
+
+    private static Student student(String id, int rollNumber, double finalScore) {
+        Student student = new Student();
+        student.setId(id);
+        student.setRollNumber(rollNumber);
+        student.setFinalScore(finalScore);
+        return student;
+    }
+}
@@ -0,0 +1,142 @@
+package com.evaluate.report_card_system.service;
+
+import com.evaluate.report_card_system.config.WeightConfig;
+import com.evaluate.report_card_system.model.Exam;
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.model.Term;
+import com.evaluate.report_card_system.repository.ReactiveStudentRepository;
+import com.evaluate.report_card_system.repository.StudentRepository;
+import com.evaluate.report_card_system.response.StudentLookup;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveReportCardServiceTest {
+
+    @Mock
+    private ReactiveStudentRepository reactiveRepository;
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    private RankIndex rankIndex;
+
+    private ReactiveReportCardService reactiveService;
+
+    @BeforeEach
+    void setUp() {
+        rankIndex = new RankIndex(studentRepository, false);
+        ReportCardService reportCardService = new ReportCardService(studentRepository, new WeightSchemeRegistry(new WeightConfig()),
+                new StudentCache(100, Duration.ofMinutes(5)), rankIndex, new AnalyticsService(studentRepository),
+                new ScoringMetrics(new SimpleMeterRegistry()), new ScoreChangeBus(16));
+        reactiveService = new ReactiveReportCardService(reactiveRepository, reportCardService);
+    }
+
+    @Test
+    void generateReportCard_ShouldScoreAndInsert_WhenRollNumberIsFree() {
+        Student student = newStudent(101);
+        when(reactiveRepository.insert(student)).thenAnswer(invocation -> {
+            student.setId("a1");
+            return Mono.just(student);
+        });
+
+        StepVerifier.create(reactiveService.generateReportCard(student))
+                .assertNext(saved -> assertEquals(81.67, saved.getFinalScore(), 0.01))
+                .verifyComplete();
+        assertEquals(1, rankIndex.size());
+    }
+
+    @Test
+    void generateReportCard_ShouldFail_WhenRollNumberExists() {
+        Student student = newStudent(101);
+        when(reactiveRepository.insert(student)).thenReturn(Mono.error(new DuplicateKeyException("rollNumber")));
+
+        StepVerifier.create(reactiveService.generateReportCard(student))
+                .expectErrorMatches(e -> e instanceof IllegalArgumentException
+                        && e.getMessage().equals("Roll number already exists"))
+                .verify();
+    }
+
+    @Test
+    void generateReportCard_ShouldFail_WhenMarksInvalid() {
+        Student student = newStudent(101);
+        student.getTerms().get(0).setTermName(null);
+
+        StepVerifier.create(reactiveService.generateReportCard(student))
+                .expectErrorMessage("Term name is required")
+                .verify();
+        verify(reactiveRepository, never()).insert(any(Student.class));
+    }
+
+    @Test
+    void getStudentsByRollNumbers_ShouldPreserveRequestOrder() {
+        Student first = newStudent(7);
+        when(reactiveRepository.findByRollNumberIn(Set.of(7, 9))).thenReturn(Flux.just(first));
+
+        StepVerifier.create(reactiveService.getStudentsByRollNumbers(List.of(9, 7, 9)).collectList())
+                .assertNext(results -> {
+                    assertEquals(List.of(9, 7, 9), results.stream().map(StudentLookup::getRollNumber).toList());
+                    assertEquals(List.of(false, true, false), results.stream().map(StudentLookup::isFound).toList());
+                    assertSame(first, results.get(1).getStudent());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getStudentsByRollNumbers_ShouldFail_WhenOverLimit() {
+        List<Integer> rollNumbers = IntStream.rangeClosed(1, ReportCardService.MAX_MULTI_GET + 1).boxed().toList();
+
+        StepVerifier.create(reactiveService.getStudentsByRollNumbers(rollNumbers))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        verifyNoInteractions(reactiveRepository);
+    }
+
+    @Test
+    void getStudentByRollNumber_ShouldFail_WhenNotPositive() {
+        StepVerifier.create(reactiveService.getStudentByRollNumber(0))
+                .expectErrorMessage("Roll number must be a positive integer")
+                .verify();
+        verifyNoInteractions(reactiveRepository);
+    }
+
+    private Student newStudent(int rollNumber) {
+        Student student = new Student();
+        student.setRollNumber(rollNumber);
+        student.setName("John Doe");
+
+        Term term = new Term();
+        term.setTermName("Term 1");
+        term.setExams(List.of(
+                exam("Exam 1", 78.0, 72.0, 80.0),
+                exam("Exam 2", 80.0, 75.0, 82.0),
+                exam("Exam 3", 85.0, 78.0, 84.0)));
+        student.setTerms(List.of(term));
+        return student;
+    }
+
+    private static Exam exam(String examName, double physics, double chemistry, double biology) {
+        Exam exam = new Exam();
+        exam.setExamName(examName);
+        exam.setSubjectMarks(new HashMap<>(Map.of("Physics", physics, "Chemistry", chemistry, "Biology", biology)));
+        return exam;
+    }
+}
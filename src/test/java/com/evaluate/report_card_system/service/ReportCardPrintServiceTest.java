@@ -0,0 +1,98 @@
+package com.evaluate.report_card_system.service;
+
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.render.ReportCardRenderer;
+import com.evaluate.report_card_system.render.ReportFormat;
+import com.evaluate.report_card_system.repository.StudentRepository;
+import com.samskivert.mustache.Mustache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReportCardPrintServiceTest {
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    private ReportCardPrintService printService;
+
+    @BeforeEach
+    void setUp() {
+        printService = new ReportCardPrintService(studentRepository, new ReportCardRenderer(Mustache.compiler()), 3, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        printService.shutdown();
+    }
+
+    @Test
+    void printAll_ShouldWriteOneEntryPerStudentInCursorOrder() throws Exception {
+        when(studentRepository.streamByCohortOrderByRollNumber("2025"))
+                .thenReturn(IntStream.rangeClosed(1, 20).mapToObj(ReportCardPrintServiceTest::student));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long written = printService.printAll("2025", ReportFormat.HTML, out);
+
+        assertEquals(20, written);
+        List<String> names = new ArrayList<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            for (ZipEntry entry; (entry = zip.getNextEntry()) != null; ) {
+                names.add(entry.getName());
+                String html = new String(zip.readAllBytes(), StandardCharsets.UTF_8);
+                assertTrue(html.contains("Student " + entry.getName().replace(".html", "")));
+            }
+        }
+        assertEquals(IntStream.rangeClosed(1, 20).mapToObj(n -> n + ".html").toList(), names);
+        verify(studentRepository, never()).streamAllByOrderByRollNumber();
+    }
+
+    @Test
+    void writeZip_ShouldPropagateRenderFailure() throws Exception {
+        ReportCardRenderer failing = mock(ReportCardRenderer.class);
+        doThrow(new IllegalStateException("layout failed")).when(failing).render(any(), any(), any());
+        ReportCardPrintService service = new ReportCardPrintService(studentRepository, failing, 1, 1);
+        try {
+            IllegalStateException e = assertThrows(IllegalStateException.class,
+                    () -> service.writeZip(Stream.of(student(1), student(2)), ReportFormat.PDF, new ByteArrayOutputStream()));
+            assertEquals("layout failed", e.getMessage());
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void print_ShouldReturnEmpty_WhenRollNumberUnknown() {
+        when(studentRepository.findByRollNumber(7)).thenReturn(Optional.empty());
+
+        assertTrue(printService.print(7, ReportFormat.PDF).isEmpty());
+    }
+
+    private static Student student(int rollNumber) {
+        Student student = new Student();
+        student.setRollNumber(rollNumber);
+        student.setName("Student " + rollNumber);
+        student.setCohort("2025");
+        student.setTerms(List.of());
+        student.setFinalScore(70.0 + rollNumber);
+        return student;
+    }
+}
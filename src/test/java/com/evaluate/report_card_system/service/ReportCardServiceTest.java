@@ -1,19 +1,41 @@
 package com.evaluate.report_card_system.service;
 
+import com.evaluate.report_card_system.config.WeightConfig;
+import com.evaluate.report_card_system.exception.ScoreValidationException;
 import com.evaluate.report_card_system.model.Exam;
 import com.evaluate.report_card_system.model.Student;
 import com.evaluate.report_card_system.model.Term;
+import com.evaluate.report_card_system.model.WeightScheme;
+import com.evaluate.report_card_system.repository.ExamMarksUpdate;
+import com.evaluate.report_card_system.repository.ScoreCursor;
 import com.evaluate.report_card_system.repository.StudentRepository;
 import com.evaluate.report_card_system.request.UpdateMarkRequest;
+import com.evaluate.report_card_system.response.ScoreChangeEvent;
+import com.evaluate.report_card_system.response.ScorePage;
+import com.evaluate.report_card_system.response.StudentLookup;
+import com.evaluate.report_card_system.response.StudentResult;
+import com.evaluate.report_card_system.response.StudentSummary;
+import com.evaluate.report_card_system.response.ValidationResult;
+import com.evaluate.report_card_system.response.Violation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
 
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -28,52 +50,94 @@ class ReportCardServiceTest {
 
     private Student sampleStudent;
 
+    private SimpleMeterRegistry meterRegistry;
+
+    private final ScoreChangeBus scoreChangeBus = new ScoreChangeBus(16);
+
     @BeforeEach
     void setUp() {
-        reportCardService = new ReportCardService(studentRepository);
-        sampleStudent = new Student();
-        sampleStudent.setRollNumber(101);
-        sampleStudent.setName("John Doe");
+        meterRegistry = new SimpleMeterRegistry();
+        reportCardService = new ReportCardService(studentRepository, new WeightSchemeRegistry(new WeightConfig()), newCache(), new RankIndex(studentRepository, false), new AnalyticsService(studentRepository), new ScoringMetrics(meterRegistry), scoreChangeBus);
+        sampleStudent = newStudent(101);
+    }
 
-        Exam exam1 = new Exam();
-        exam1.setExamName("Exam 1");
-        exam1.setSubjectMarks(new HashMap<>() {{
-            put("Physics", 78.0);
-            put("Chemistry", 72.0);
-            put("Biology", 80.0);
-        }});
+    @Test
+    void generateReportCard_ShouldReturnStudent_WhenValid() {
+        when(studentRepository.insert(any(Student.class))).thenReturn(sampleStudent);
 
-        Exam exam2 = new Exam();
-        exam2.setExamName("Exam 2");
-        exam2.setSubjectMarks(new HashMap<>() {{
-            put("Physics", 80.0);
-            put("Chemistry", 75.0);
-            put("Biology", 82.0);
-        }});
+        Student result = reportCardService.generateReportCard(sampleStudent);
+        assertEquals(81.67, result.getTerms().get(0).getTermScore(), 0.01);
+        verify(studentRepository).insert(sampleStudent);
+        verify(studentRepository, never()).findByRollNumber(anyInt());
+        verify(studentRepository, never()).save(any());
+    }
 
-        Exam exam3 = new Exam();
-        exam3.setExamName("Exam 3");
-        exam3.setSubjectMarks(new HashMap<>() {{
-            put("Physics", 85.0);
-            put("Chemistry", 78.0);
-            put("Biology", 84.0);
-        }});
+    @Test
+    void getStudentSummaries_ShouldReturnFoundSummariesInRequestOrder() {
+        StudentSummary first = new StudentSummary("1", 101, "John Doe", null, List.of(), 80.0);
+        StudentSummary second = new StudentSummary("2", 102, "Jane Doe", null, List.of(), 90.0);
+        when(studentRepository.findSummariesByRollNumberIn(Set.of(101, 102, 999))).thenReturn(List.of(first, second));
 
-        Term term1 = new Term();
-        term1.setTermName("Term 1");
-        term1.setExams(List.of(exam1, exam2, exam3));
+        assertEquals(List.of(second, first), reportCardService.getStudentSummaries(List.of(102, 999, 101, 102)));
+        verify(studentRepository, never()).findByRollNumberIn(any());
+    }
 
-        sampleStudent.setTerms(List.of(term1));
+    @Test
+    void getStudentsByFinalScore_ShouldFetchOneExtraRow_AndResumeFromCursor() {
+        StudentSummary first = new StudentSummary("a", 101, "John Doe", null, List.of(), 35.0);
+        StudentSummary second = new StudentSummary("b", 102, "Jane Doe", null, List.of(), 38.0);
+        when(studentRepository.findSummariesByFinalScore(null, 40.0, null, 2)).thenReturn(List.of(first, second));
+
+        ScorePage page = reportCardService.getStudentsByFinalScore(null, 40.0, null, 1);
+        assertEquals(List.of(first), page.getStudents());
+        assertEquals(new ScoreCursor(35.0, "a"), ScoreCursor.decode(page.getNextCursor()));
+
+        when(studentRepository.findSummariesByFinalScore(null, 40.0, new ScoreCursor(35.0, "a"), 2)).thenReturn(List.of(second));
+        ScorePage last = reportCardService.getStudentsByFinalScore(null, 40.0, page.getNextCursor(), 1);
+        assertEquals(List.of(second), last.getStudents());
+        assertNull(last.getNextCursor());
     }
 
     @Test
-    void generateReportCard_ShouldReturnStudent_WhenValid() {
-        when(studentRepository.findByRollNumber(101)).thenReturn(Optional.empty());
-        when(studentRepository.save(any(Student.class))).thenReturn(sampleStudent);
+    void getStudentsByTermScore_ShouldRejectInvalidRequests() {
+        assertThrows(IllegalArgumentException.class, () -> reportCardService.getStudentsByTermScore("Term 1", 70.0, 60.0, null, 10));
+        assertThrows(IllegalArgumentException.class, () -> reportCardService.getStudentsByTermScore("Term 1", null, null, null, 501));
+        assertThrows(IllegalArgumentException.class, () -> reportCardService.getStudentsByTermScore(" ", null, null, null, 10));
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> reportCardService.getStudentsByTermScore("Term 1", null, null, "not a cursor!", 10));
+        assertEquals("Invalid cursor", exception.getMessage());
+        verifyNoInteractions(studentRepository);
+    }
 
-        Student result = reportCardService.generateReportCard(sampleStudent);
-        assertEquals(81.67, result.getTerms().get(0).getTermScore(), 0.01);
-        verify(studentRepository, times(2)).save(sampleStudent);
+    @Test
+    void getStudentSummary_ShouldSummarizeCachedStudent_WithoutQuerying() {
+        when(studentRepository.findByRollNumber(101)).thenReturn(Optional.of(sampleStudent));
+        reportCardService.getStudentByRollNumber(101);
+
+        StudentSummary summary = reportCardService.getStudentSummary(101).orElseThrow();
+        assertEquals("John Doe", summary.getName());
+        assertEquals(sampleStudent.getTerms().size(), summary.getTerms().size());
+        verify(studentRepository, never()).findSummaryByRollNumber(anyInt());
+    }
+
+    @Test
+    void getStudentVersion_ShouldUseCachedStudent_WithoutQuerying() {
+        when(studentRepository.findByRollNumber(101)).thenReturn(Optional.of(sampleStudent));
+        reportCardService.getStudentByRollNumber(101);
+
+        assertSame(sampleStudent, reportCardService.getStudentVersion(101).orElseThrow());
+        verify(studentRepository, never()).findVersionByRollNumber(anyInt());
+    }
+
+    @Test
+    void getStudentVersion_ShouldReadProjection_WhenNotCached() {
+        Student version = new Student();
+        version.setId("1");
+        version.setVersion(2L);
+        when(studentRepository.findVersionByRollNumber(101)).thenReturn(Optional.of(version));
+
+        assertEquals(2L, reportCardService.getStudentVersion(101).orElseThrow().getVersion());
+        verify(studentRepository, never()).findByRollNumber(anyInt());
     }
 
     @Test
@@ -83,30 +147,28 @@ class ReportCardServiceTest {
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
                 reportCardService.generateReportCard(sampleStudent));
         assertEquals("Roll number must be a positive integer", exception.getMessage());
-        verify(studentRepository, never()).findByRollNumber(anyInt());
-        verify(studentRepository, never()).save(any());
+        verify(studentRepository, never()).insert(any(Student.class));
     }
 
     @Test
     void generateReportCard_ShouldThrowException_WhenTermNameNull() {
         sampleStudent.getTerms().get(0).setTermName(null);
-        when(studentRepository.findByRollNumber(101)).thenReturn(Optional.empty());
 
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
                 reportCardService.generateReportCard(sampleStudent));
         assertEquals("Term name is required", exception.getMessage());
-        verify(studentRepository, times(1)).findByRollNumber(101);
-        verify(studentRepository, never()).save(any());
+        verify(studentRepository, never()).insert(any(Student.class));
     }
 
     @Test
     void generateReportCard_ShouldThrowException_WhenRollNumberExists() {
-        when(studentRepository.findByRollNumber(101)).thenReturn(Optional.of(sampleStudent));
+        when(studentRepository.insert(any(Student.class))).thenThrow(new DuplicateKeyException("rollNumber"));
 
-        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+        ScoreValidationException exception = assertThrows(ScoreValidationException.class, () ->
                 reportCardService.generateReportCard(sampleStudent));
         assertEquals("Roll number already exists", exception.getMessage());
-        verify(studentRepository, never()).save(any());
+        assertEquals(ScoreValidationException.Reason.DUPLICATE_ROLL_NUMBER, exception.getReason());
+        verify(studentRepository, never()).findByRollNumber(anyInt());
     }
 
     @Test
@@ -118,10 +180,77 @@ class ReportCardServiceTest {
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
                 reportCardService.generateReportCard(sampleStudent));
         assertEquals("Exam Exam 1: Marks for Physics must be between 0 and 100", exception.getMessage());
-        verify(studentRepository, times(1)).findByRollNumber(101);
+        verify(studentRepository, never()).insert(any(Student.class));
+    }
+
+    @Test
+    void generateReportCards_ShouldReportEachStudent_WhenBatchHasBadRecords() {
+        Student existing = newStudent(102);
+        Student invalid = newStudent(103);
+        invalid.setName(null);
+        Student duplicate = newStudent(101);
+        Student rejectedByInsert = newStudent(104);
+        Student existingRoll = new Student();
+        existingRoll.setRollNumber(102);
+        when(studentRepository.findRollNumbersIn(anyCollection())).thenReturn(List.of(existingRoll));
+        when(studentRepository.insertUnordered(anyList())).thenReturn(Map.of(1, "Roll number already exists"));
+
+        List<StudentResult> results = reportCardService.generateReportCards(
+                List.of(sampleStudent, existing, invalid, duplicate, rejectedByInsert));
+
+        assertEquals(5, results.size());
+        assertEquals(81.67, results.get(0).getFinalScore(), 0.01);
+        assertEquals("Roll number already exists", results.get(1).getError());
+        assertEquals("Name is required", results.get(2).getError());
+        assertEquals("Duplicate roll number in batch", results.get(3).getError());
+        assertEquals("Roll number already exists", results.get(4).getError());
+        verify(studentRepository, times(1)).findRollNumbersIn(anyCollection());
+        verify(studentRepository, times(1)).insertUnordered(List.of(sampleStudent, rejectedByInsert));
         verify(studentRepository, never()).save(any());
     }
 
+    @Test
+    void calculateFinalScore_ShouldUseCurriculumScheme_WhenCurriculumSet() {
+        WeightScheme scheme = new WeightScheme();
+        scheme.setScoreName("Core");
+        scheme.setSubjectWeights(new LinkedHashMap<>(Map.of("Physics", 1.0)));
+        scheme.setExamWeights(List.of(0.5, 0.25, 0.25));
+        WeightConfig weightConfig = new WeightConfig();
+        weightConfig.getCurricula().put("physics-only", scheme);
+        reportCardService = new ReportCardService(studentRepository, new WeightSchemeRegistry(weightConfig), newCache(), new RankIndex(studentRepository, false), new AnalyticsService(studentRepository), new ScoringMetrics(meterRegistry), scoreChangeBus);
+        sampleStudent.setCurriculum("physics-only");
+
+        double finalScore = reportCardService.calculateFinalScore(sampleStudent);
+
+        assertEquals(78.0 * 0.5 + 80.0 * 0.25 + 85.0 * 0.25, finalScore, 0.0001);
+        assertEquals(78.0, sampleStudent.getTerms().get(0).getExams().get(0).getWeightedScores().get("Core"), 0.0001);
+    }
+
+    @Test
+    void weightSchemeReload_ShouldSkipStoredSchemeWithoutCurriculum() {
+        WeightScheme stored = new WeightScheme();
+        stored.setCurriculum("physics-only");
+        stored.setScoreName("Core");
+        stored.setSubjectWeights(new LinkedHashMap<>(Map.of("Physics", 1.0)));
+        stored.setExamWeights(List.of(0.5, 0.25, 0.25));
+        WeightScheme unnamed = new WeightScheme();
+        unnamed.setCurriculum(" ");
+        WeightSchemeRegistry registry = new WeightSchemeRegistry(new WeightConfig());
+
+        registry.reload(Arrays.asList(stored, unnamed));
+
+        assertEquals(Set.of(WeightConfig.DEFAULT_CURRICULUM, "physics-only"), registry.getCurricula());
+    }
+
+    @Test
+    void calculateFinalScore_ShouldThrowException_WhenCurriculumUnknown() {
+        sampleStudent.setCurriculum("unknown");
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                reportCardService.calculateFinalScore(sampleStudent));
+        assertEquals("Unknown curriculum unknown", exception.getMessage());
+    }
+
     @Test
     void updateExamMarks_ShouldUpdate_WhenValid() {
         UpdateMarkRequest request = new UpdateMarkRequest();
@@ -131,12 +260,195 @@ class ReportCardServiceTest {
             put("Physics", 90.0);
         }});
 
+        reportCardService.calculateFinalScore(sampleStudent);
+        sampleStudent.setId("1");
+        sampleStudent.setVersion(4L);
         when(studentRepository.findByRollNumber(101)).thenReturn(Optional.of(sampleStudent));
-        when(studentRepository.save(sampleStudent)).thenReturn(sampleStudent);
+        when(studentRepository.applyExamUpdates(eq("1"), eq(4L), anyList(), anyMap(), anyDouble())).thenReturn(true);
 
         Student result = reportCardService.updateExamMarks(101, request);
         assertEquals(90.0, result.getTerms().get(0).getExams().get(0).getSubjectMarks().get("Physics"), 0.01);
         assertEquals(82.15, result.getTerms().get(0).getTermScore(), 0.01);
+        assertEquals(5L, result.getVersion());
+        verify(studentRepository).applyExamUpdates("1", 4L,
+                List.of(new ExamMarksUpdate("Term 1", "Exam 1", request.getSubjectMarks(), "Science",
+                        result.getTerms().get(0).getExams().get(0).getWeightedScores().get("Science"))),
+                Map.of("Term 1", result.getTerms().get(0).getTermScore()), result.getFinalScore());
+        verify(studentRepository, never()).save(any());
+    }
+
+    @Test
+    void updateExamMarks_ShouldPublishOldAndNewScores() throws InterruptedException {
+        UpdateMarkRequest request = new UpdateMarkRequest();
+        request.setTermName("Term 1");
+        request.setExamName("Exam 1");
+        request.setSubjectMarks(new HashMap<>(Map.of("Physics", 90.0)));
+        reportCardService.calculateFinalScore(sampleStudent);
+        double oldFinalScore = sampleStudent.getFinalScore();
+        double oldTermScore = sampleStudent.getTerms().get(0).getTermScore();
+        sampleStudent.setId("1");
+        sampleStudent.setVersion(4L);
+        when(studentRepository.findByRollNumber(101)).thenReturn(Optional.of(sampleStudent));
+        when(studentRepository.applyExamUpdates(eq("1"), eq(4L), anyList(), anyMap(), anyDouble())).thenReturn(true);
+
+        try (ScoreChangeBus.Subscription subscription = scoreChangeBus.subscribe(101, null);
+             ScoreChangeBus.Subscription other = scoreChangeBus.subscribe(102, null)) {
+            Student result = reportCardService.updateExamMarks(101, request);
+
+            ScoreChangeEvent event = subscription.poll(Duration.ZERO);
+            assertEquals(ScoreChangeEvent.Type.UPDATED, event.getType());
+            assertEquals(5L, event.getVersion());
+            assertEquals(oldFinalScore, event.getOldFinalScore());
+            assertEquals(result.getFinalScore(), event.getNewFinalScore());
+            ScoreChangeEvent.ExamScoreChange change = event.getChanges().get(0);
+            assertEquals("Exam 1", change.getExamName());
+            assertEquals(oldTermScore, change.getOldTermScore());
+            assertEquals(82.15, change.getNewTermScore(), 0.01);
+            assertNotEquals(change.getOldExamScore(), change.getNewExamScore());
+            assertNull(other.poll(Duration.ZERO));
+        }
+    }
+
+    @Test
+    void updateExamMarks_ShouldRecomputeFromFreshRead_WhenVersionChanged() {
+        UpdateMarkRequest request = new UpdateMarkRequest();
+        request.setTermName("Term 1");
+        request.setExamName("Exam 1");
+        request.setSubjectMarks(new HashMap<>() {{
+            put("Physics", 90.0);
+        }});
+        Student stale = newStudent(101);
+        stale.setId("1");
+        stale.setVersion(1L);
+        Student fresh = newStudent(101);
+        fresh.setId("1");
+        fresh.setVersion(2L);
+        fresh.getTerms().get(0).getExams().get(2).getSubjectMarks().put("Physics", 100.0);
+        when(studentRepository.findByRollNumber(101)).thenReturn(Optional.of(stale), Optional.of(fresh));
+        when(studentRepository.updateScores(List.of(stale))).thenReturn(0L);
+        when(studentRepository.updateScores(List.of(fresh))).thenReturn(1L);
+
+        Student result = reportCardService.updateExamMarks(101, request);
+
+        assertSame(fresh, result);
+        assertEquals(100.0, result.getTerms().get(0).getExams().get(2).getSubjectMarks().get("Physics"));
+        assertEquals(3L, result.getVersion());
+    }
+
+    @Test
+    void updateExamMarks_ShouldThrowConflict_WhenVersionKeepsChanging() {
+        UpdateMarkRequest request = new UpdateMarkRequest();
+        request.setTermName("Term 1");
+        request.setExamName("Exam 1");
+        request.setSubjectMarks(new HashMap<>() {{
+            put("Physics", 90.0);
+        }});
+        reportCardService.calculateFinalScore(sampleStudent);
+        when(studentRepository.findByRollNumber(101)).thenReturn(Optional.of(sampleStudent));
+        when(studentRepository.applyExamUpdates(any(), any(), anyList(), anyMap(), anyDouble())).thenReturn(false);
+
+        assertThrows(OptimisticLockingFailureException.class, () -> reportCardService.updateExamMarks(101, request));
+        verify(studentRepository, times(3)).findByRollNumber(101);
+    }
+
+    @Test
+    void updateExamMarks_ShouldMatchFullRecompute_WhenAppliedIncrementally() {
+        Student student = scoredStudent(101);
+        when(studentRepository.findByRollNumber(101)).thenReturn(Optional.of(student));
+        when(studentRepository.applyExamUpdates(eq("1"), eq(1L), anyList(), anyMap(), anyDouble())).thenReturn(true);
+
+        Student result = reportCardService.updateExamMarks(101, List.of(
+                markUpdate("Term 1", "Exam 3", "Physics", 95.0),
+                markUpdate("Term 2", "Exam 1", "Biology", 40.0),
+                markUpdate("Term 2", "Exam 1", "Chemistry", 55.0)));
+
+        Student expected = newStudent(101);
+        expected.setTerms(List.of(expected.getTerms().get(0), newTerm("Term 2")));
+        expected.getTerms().get(0).getExams().get(2).getSubjectMarks().put("Physics", 95.0);
+        expected.getTerms().get(1).getExams().get(0).getSubjectMarks().put("Biology", 40.0);
+        expected.getTerms().get(1).getExams().get(0).getSubjectMarks().put("Chemistry", 55.0);
+        reportCardService.calculateFinalScore(expected);
+
+        assertEquals(expected.getFinalScore(), result.getFinalScore(), 1e-9);
+        assertEquals(expected.getTerms().get(0).getTermScore(), result.getTerms().get(0).getTermScore(), 1e-9);
+        assertEquals(expected.getTerms().get(1).getTermScore(), result.getTerms().get(1).getTermScore(), 1e-9);
+        verify(studentRepository).applyExamUpdates(eq("1"), eq(1L), argThat(updates -> updates.size() == 2),
+                eq(Map.of("Term 1", result.getTerms().get(0).getTermScore(), "Term 2", result.getTerms().get(1).getTermScore())),
+                eq(result.getFinalScore()));
+    }
+
+    @Test
+    void updateExamMarks_ShouldWriteOnlyChangedTerm_WhenOneExamChanges() {
+        Student student = scoredStudent(101);
+        Exam untouched = student.getTerms().get(0).getExams().get(1);
+        double untouchedScore = untouched.getWeightedScores().get("Science");
+        untouched.getSubjectMarks().put("Physics", 0.0);
+        when(studentRepository.findByRollNumber(101)).thenReturn(Optional.of(student));
+        when(studentRepository.applyExamUpdates(eq("1"), eq(1L), anyList(), anyMap(), anyDouble())).thenReturn(true);
+
+        Student result = reportCardService.updateExamMarks(101, markUpdate("Term 2", "Exam 2", "Physics", 100.0));
+
+        assertEquals(untouchedScore, untouched.getWeightedScores().get("Science"));
+        verify(studentRepository).applyExamUpdates(eq("1"), eq(1L), anyList(),
+                eq(Map.of("Term 2", result.getTerms().get(1).getTermScore())), anyDouble());
+    }
+
+    @Test
+    void updateExamMarks_ShouldRewriteEveryScore_WhenScoredUnderAnotherSchemeVersion() {
+        Student student = scoredStudent(101);
+        student.setSchemeVersion("older-weights");
+        Exam untouched = student.getTerms().get(0).getExams().get(1);
+        untouched.getWeightedScores().put("Science", 0.0);
+        when(studentRepository.findByRollNumber(101)).thenReturn(Optional.of(student));
+        when(studentRepository.updateScores(List.of(student))).thenReturn(1L);
+
+        Student result = reportCardService.updateExamMarks(101, markUpdate("Term 2", "Exam 2", "Physics", 100.0));
+
+        Student expected = scoredStudent(101);
+        expected.getTerms().get(1).getExams().get(1).getSubjectMarks().put("Physics", 100.0);
+        reportCardService.calculateFinalScore(expected);
+        assertEquals(expected.getFinalScore(), result.getFinalScore(), 1e-9);
+        assertEquals(expected.getTerms().get(0).getExams().get(1).getWeightedScores().get("Science"),
+                untouched.getWeightedScores().get("Science"), 1e-9);
+        assertEquals(expected.getSchemeVersion(), result.getSchemeVersion());
+        verify(studentRepository, never()).applyExamUpdates(any(), any(), anyList(), anyMap(), anyDouble());
+    }
+
+    @Test
+    void updateExamMarks_ShouldThrowException_WhenBatchEmpty() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                reportCardService.updateExamMarks(101, List.of()));
+        assertEquals("At least one exam update is required", exception.getMessage());
+    }
+
+    @Test
+    void rescoreStudent_ShouldReportChange_OnlyWhenSchemeMovesScores() {
+        Student student = scoredStudent(101);
+        assertFalse(reportCardService.rescoreStudent(student));
+
+        WeightConfig weightConfig = new WeightConfig();
+        weightConfig.getDefaultScheme().getSubjectWeights().put("Physics", 0.5);
+        weightConfig.getDefaultScheme().getSubjectWeights().put("Chemistry", 0.2);
+        reportCardService = new ReportCardService(studentRepository, new WeightSchemeRegistry(weightConfig), newCache(),
+                new RankIndex(studentRepository, false), new AnalyticsService(studentRepository), new ScoringMetrics(meterRegistry), scoreChangeBus);
+        assertTrue(reportCardService.rescoreStudent(student));
+        assertFalse(reportCardService.rescoreStudent(student));
+    }
+
+    @Test
+    void updateExamMarks_ShouldCountValidationFailuresByReason() {
+        when(studentRepository.findByRollNumber(101)).thenReturn(Optional.of(newStudent(101)));
+
+        assertThrows(IllegalArgumentException.class, () ->
+                reportCardService.updateExamMarks(101, markUpdate("Term 9", "Exam 1", "Physics", 90.0)));
+        assertThrows(IllegalArgumentException.class, () ->
+                reportCardService.updateExamMarks(101, markUpdate("Term 1", "Exam 1", "Physics", 120.0)));
+
+        assertEquals(1.0, meterRegistry.get("reportcard.validation.failures")
+                .tags("operation", "update", "reason", "term_not_found").counter().count());
+        assertEquals(1.0, meterRegistry.get("reportcard.validation.failures")
+                .tags("operation", "update", "reason", "mark_out_of_range").counter().count());
+        assertEquals(2, meterRegistry.get("reportcard.marks.update").tag("outcome", "invalid").timer().count());
     }
 
     @Test
@@ -145,29 +457,53 @@ class ReportCardServiceTest {
         request.setTermName("Term 1");
         request.setExamName("Exam 1");
 
+        request.setSubjectMarks(Map.of("Physics", 90.0));
+
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
                 reportCardService.updateExamMarks(-1, request));
         assertEquals("Roll number must be a positive integer", exception.getMessage());
         verify(studentRepository, never()).findByRollNumber(anyInt());
     }
 
+    @Test
+    void updateExamMarks_ShouldReportNullUpdateAtItsIndex() {
+        UpdateMarkRequest request = new UpdateMarkRequest();
+        request.setTermName("Term 1");
+        request.setExamName("Exam 1");
+        request.setSubjectMarks(Map.of("Physics", 90.0));
+
+        ScoreValidationException exception = assertThrows(ScoreValidationException.class, () ->
+                reportCardService.updateExamMarks(101, Arrays.asList(request, null)));
+        assertEquals(List.of("[1]"), exception.getResult().getViolations().stream().map(Violation::getPath).toList());
+        assertEquals("Update request 1 is empty", exception.getMessage());
+        verify(studentRepository, never()).findByRollNumber(anyInt());
+    }
+
     @Test
     void updateExamMarks_ShouldThrowException_WhenMissingFields() {
         UpdateMarkRequest request = new UpdateMarkRequest();
 
-        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+        ScoreValidationException exception = assertThrows(ScoreValidationException.class, () ->
                 reportCardService.updateExamMarks(101, request));
-        assertEquals("Term name is required", exception.getMessage());
+        assertEquals("Term name is required; Exam name is required; Update request: Subject marks are required",
+                exception.getMessage());
+        assertEquals(List.of("[0].termName", "[0].examName", "[0].subjectMarks"),
+                exception.getResult().getViolations().stream().map(Violation::getPath).toList());
         verify(studentRepository, never()).findByRollNumber(anyInt());
     }
 
     @Test
-    void deleteStudent_ShouldDelete_WhenValid() {
-        when(studentRepository.existsById("1")).thenReturn(true);
+    void deleteStudent_ShouldDelete_WhenValid() throws InterruptedException {
+        sampleStudent.setId("1");
+        when(studentRepository.findById("1")).thenReturn(Optional.of(sampleStudent));
         doNothing().when(studentRepository).deleteById("1");
 
-        reportCardService.deleteStudent("1");
-        verify(studentRepository, times(1)).deleteById("1");
+        try (ScoreChangeBus.Subscription subscription = scoreChangeBus.subscribe(101, null)) {
+            reportCardService.deleteStudent("1");
+
+            verify(studentRepository, times(1)).deleteById("1");
+            assertEquals(ScoreChangeEvent.Type.DELETED, subscription.poll(Duration.ZERO).getType());
+        }
     }
 
     @Test
@@ -175,7 +511,7 @@ class ReportCardServiceTest {
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
                 reportCardService.deleteStudent(null));
         assertEquals("ID is required", exception.getMessage());
-        verify(studentRepository, never()).existsById(anyString());
+        verify(studentRepository, never()).findById(anyString());
     }
 
     @Test
@@ -197,6 +533,80 @@ class ReportCardServiceTest {
         verify(studentRepository, times(1)).findByRollNumber(999);
     }
 
+    @Test
+    void findStudentByRollNumber_ShouldServeRepeatsFromCache_UntilUpdated() {
+        UpdateMarkRequest request = new UpdateMarkRequest();
+        request.setTermName("Term 1");
+        request.setExamName("Exam 1");
+        request.setSubjectMarks(new HashMap<>() {{
+            put("Physics", 90.0);
+        }});
+        when(studentRepository.findByRollNumber(101)).thenReturn(Optional.of(sampleStudent));
+        when(studentRepository.updateScores(List.of(sampleStudent))).thenReturn(1L);
+
+        reportCardService.getStudentByRollNumber(101);
+        reportCardService.getStudentByRollNumber(101);
+        verify(studentRepository, times(1)).findByRollNumber(101);
+
+        reportCardService.updateExamMarks(101, request);
+        reportCardService.getStudentByRollNumber(101);
+        verify(studentRepository, times(3)).findByRollNumber(101);
+        assertEquals(2, reportCardService.getCacheStats().getMisses());
+        assertEquals(1, reportCardService.getCacheStats().getHits());
+    }
+
+    @Test
+    void deleteStudent_ShouldInvalidateCachedStudent() {
+        sampleStudent.setId("1");
+        when(studentRepository.findByRollNumber(101)).thenReturn(Optional.of(sampleStudent));
+        when(studentRepository.findById("1")).thenReturn(Optional.of(sampleStudent));
+
+        reportCardService.getStudentByRollNumber(101);
+        reportCardService.deleteStudent("1");
+        reportCardService.getStudentByRollNumber(101);
+
+        verify(studentRepository, times(2)).findByRollNumber(101);
+    }
+
+    @Test
+    void getStudentsByRollNumbers_ShouldKeepRequestOrderWithNotFoundMarkers() {
+        Student first = newStudent(101);
+        Student second = newStudent(103);
+        when(studentRepository.findByRollNumberIn(Set.of(101, 102, 103))).thenReturn(List.of(second, first));
+
+        List<StudentLookup> results = reportCardService.getStudentsByRollNumbers(List.of(103, 102, 101, 103));
+
+        assertEquals(List.of(103, 102, 101, 103), results.stream().map(StudentLookup::getRollNumber).toList());
+        assertSame(second, results.get(0).getStudent());
+        assertFalse(results.get(1).isFound());
+        assertNull(results.get(1).getStudent());
+        assertSame(first, results.get(2).getStudent());
+        assertSame(second, results.get(3).getStudent());
+    }
+
+    @Test
+    void getStudentsByRollNumbers_ShouldOnlyQueryRollNumbersNotCached() {
+        when(studentRepository.findByRollNumber(101)).thenReturn(Optional.of(sampleStudent));
+        when(studentRepository.findByRollNumberIn(Set.of(102))).thenReturn(List.of());
+        reportCardService.getStudentByRollNumber(101);
+
+        List<StudentLookup> results = reportCardService.getStudentsByRollNumbers(List.of(101, 102));
+        reportCardService.getStudentsByRollNumbers(List.of(102, 101));
+
+        assertTrue(results.get(0).isFound());
+        verify(studentRepository, times(1)).findByRollNumberIn(anyCollection());
+    }
+
+    @Test
+    void getStudentsByRollNumbers_ShouldThrowException_WhenTooMany() {
+        List<Integer> rollNumbers = IntStream.rangeClosed(1, ReportCardService.MAX_MULTI_GET + 1).boxed().toList();
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                reportCardService.getStudentsByRollNumbers(rollNumbers));
+        assertEquals("At most 200 roll numbers can be requested at once", exception.getMessage());
+        verify(studentRepository, never()).findByRollNumberIn(anyCollection());
+    }
+
     @Test
     void findStudentByRollNumber_ShouldThrowException_WhenRollNumberNegative() {
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
@@ -204,4 +614,148 @@ class ReportCardServiceTest {
         assertEquals("Roll number must be a positive integer", exception.getMessage());
         verify(studentRepository, never()).findByRollNumber(anyInt());
     }
-}
\ No newline at end of file
+
+    private Student scoredStudent(int rollNumber) {
+        Student student = newStudent(rollNumber);
+        student.setTerms(List.of(student.getTerms().get(0), newTerm("Term 2")));
+        reportCardService.calculateFinalScore(student);
+        student.setId("1");
+        student.setVersion(1L);
+        return student;
+    }
+
+    private Term newTerm(String termName) {
+        Term term = newStudent(1).getTerms().get(0);
+        term.setTermName(termName);
+        return term;
+    }
+
+    private static UpdateMarkRequest markUpdate(String termName, String examName, String subject, double mark) {
+        UpdateMarkRequest request = new UpdateMarkRequest();
+        request.setTermName(termName);
+        request.setExamName(examName);
+        request.setSubjectMarks(Map.of(subject, mark));
+        return request;
+    }
+
+    @Test
+    void validate_ShouldReportEveryViolationWithPathCodeAndValue() {
+        sampleStudent.setName("");
+        sampleStudent.getTerms().get(0).getExams().get(0).getSubjectMarks().put("Physics", 120.0);
+        sampleStudent.getTerms().get(0).getExams().get(2).getSubjectMarks().put("Biology", null);
+
+        ValidationResult result = reportCardService.validate(sampleStudent);
+
+        assertFalse(result.isValid());
+        assertEquals(List.of(
+                new Violation("name", "missing_name", "", "Name is required"),
+                new Violation("terms[0].exams[0].subjectMarks.Physics", "mark_out_of_range", 120.0,
+                        "Exam Exam 1: Marks for Physics must be between 0 and 100"),
+                new Violation("terms[0].exams[2].subjectMarks.Biology", "null_mark", null,
+                        "Exam Exam 3: Mark for Biology cannot be null")), result.getViolations());
+        verifyNoInteractions(studentRepository);
+    }
+
+    @Test
+    void scoreStudent_ShouldReturnAllViolations_WithoutThrowing() {
+        sampleStudent.setRollNumber(0);
+        sampleStudent.getTerms().get(0).setExams(List.of(sampleStudent.getTerms().get(0).getExams().get(0)));
+
+        StudentResult result = reportCardService.scoreStudent(sampleStudent);
+
+        assertFalse(result.isSuccess());
+        assertEquals("Roll number must be a positive integer; Term Term 1: Each term must have exactly 3 exams", result.getError());
+        assertEquals(List.of("invalid_roll_number", "exam_count"),
+                result.getViolations().stream().map(Violation::getCode).toList());
+        assertEquals(1.0, meterRegistry.get("reportcard.validation.failures")
+                .tags("operation", "score", "reason", "invalid_roll_number").counter().count());
+    }
+
+    @Test
+    void generateReportCard_ShouldCarryValidationResult_WhenRejected() {
+        sampleStudent.getTerms().get(0).setTermName(null);
+        sampleStudent.getTerms().get(0).getExams().get(1).getSubjectMarks().put("Chemistry", -5.0);
+
+        ScoreValidationException exception = assertThrows(ScoreValidationException.class, () ->
+                reportCardService.generateReportCard(sampleStudent));
+
+        assertEquals(ScoreValidationException.Reason.MISSING_TERM_NAME, exception.getReason());
+        assertEquals(2, exception.getResult().getViolations().size());
+        assertEquals(0, exception.getStackTrace().length);
+        verify(studentRepository, never()).save(any());
+    }
+
+    private static StudentCache newCache() {
+        return new StudentCache(100, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void updateExamMarks_ShouldMatchFullRecomputeExactly_AfterManyEdits() {
+        Term term2 = new Term();
+        term2.setTermName("Term 2");
+        term2.setExams(newStudent(101).getTerms().get(0).getExams());
+        sampleStudent.setTerms(List.of(sampleStudent.getTerms().get(0), term2));
+        reportCardService.calculateFinalScore(sampleStudent);
+        sampleStudent.setId("1");
+        when(studentRepository.findByRollNumber(101)).thenReturn(Optional.of(sampleStudent));
+        when(studentRepository.applyExamUpdates(eq("1"), any(), anyList(), anyMap(), anyDouble())).thenReturn(true);
+
+        Random random = new Random(11);
+        List<String> subjects = List.of("Physics", "Chemistry", "Biology");
+        int edits = 500;
+        for (int i = 0; i < edits; i++) {
+            UpdateMarkRequest request = new UpdateMarkRequest();
+            request.setTermName(random.nextBoolean() ? "Term 1" : "Term 2");
+            request.setExamName("Exam " + (1 + random.nextInt(3)));
+            request.setSubjectMarks(new HashMap<>(Map.of(subjects.get(random.nextInt(3)),
+                    Math.round(random.nextDouble() * 1000) / 10.0)));
+            reportCardService.updateExamMarks(101, request);
+        }
+        List<Double> termScores = sampleStudent.getTerms().stream().map(Term::getTermScore).toList();
+        double finalScore = sampleStudent.getFinalScore();
+
+        reportCardService.calculateFinalScore(sampleStudent);
+
+        assertEquals(sampleStudent.getTerms().stream().map(Term::getTermScore).toList(), termScores);
+        assertEquals(sampleStudent.getFinalScore(), finalScore);
+        verify(studentRepository, times(edits)).applyExamUpdates(eq("1"), any(), anyList(), anyMap(), anyDouble());
+        verify(studentRepository, never()).updateScores(anyList());
+    }
+
+    private Student newStudent(int rollNumber) {
+        Student student = new Student();
+        student.setRollNumber(rollNumber);
+        student.setName("John Doe");
+
+        Exam exam1 = new Exam();
+        exam1.setExamName("Exam 1");
+        exam1.setSubjectMarks(new HashMap<>() {{
+            put("Physics", 78.0);
+            put("Chemistry", 72.0);
+            put("Biology", 80.0);
+        }});
+
+        Exam exam2 = new Exam();
+        exam2.setExamName("Exam 2");
+        exam2.setSubjectMarks(new HashMap<>() {{
+            put("Physics", 80.0);
+            put("Chemistry", 75.0);
+            put("Biology", 82.0);
+        }});
+
+        Exam exam3 = new Exam();
+        exam3.setExamName("Exam 3");
+        exam3.setSubjectMarks(new HashMap<>() {{
+            put("Physics", 85.0);
+            put("Chemistry", 78.0);
+            put("Biology", 84.0);
+        }});
+
+        Term term1 = new Term();
+        term1.setTermName("Term 1");
+        term1.setExams(List.of(exam1, exam2, exam3));
+
+        student.setTerms(List.of(term1));
+        return student;
+    }
+}
@@ -0,0 +1,118 @@
+package com.evaluate.report_card_system.service;
+
+import com.evaluate.report_card_system.model.RescoreCheckpoint;
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.repository.RescoreCheckpointRepository;
+import com.evaluate.report_card_system.repository.StudentRepository;
+import com.evaluate.report_card_system.response.RescoreProgress;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RescoreServiceTest {
+
+    private RescoreService rescoreService;
+
+    @Mock
+    private ReportCardService reportCardService;
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    @Mock
+    private RescoreCheckpointRepository checkpointRepository;
+
+    private final ScoreChangeBus scoreChangeBus = new ScoreChangeBus(16);
+
+    @BeforeEach
+    void setUp() {
+        rescoreService = new RescoreService(reportCardService, studentRepository, checkpointRepository, scoreChangeBus, 2, 2, 0, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        rescoreService.shutdown();
+    }
+
+    @Test
+    void rescore_ShouldWriteOnlyChangedStudentsAndCheckpointEachBatch() {
+        Student changed = student("a", 101);
+        Student unchanged = student("b", 102);
+        Student broken = student("c", 103);
+        when(checkpointRepository.findById("job-1")).thenReturn(Optional.empty());
+        when(studentRepository.streamAfterId(null)).thenReturn(Stream.of(changed, unchanged, broken));
+        when(reportCardService.rescoreStudent(changed)).thenReturn(true);
+        when(reportCardService.rescoreStudent(unchanged)).thenReturn(false);
+        when(reportCardService.rescoreStudent(broken)).thenThrow(new IllegalArgumentException("Name is required"));
+        when(reportCardService.writeRescoredBatch(List.of(changed))).thenReturn(1L);
+
+        RescoreProgress progress = rescoreService.rescore("job-1");
+
+        assertEquals("COMPLETED", progress.getState());
+        assertEquals(3, progress.getStudentsScanned());
+        assertEquals(1, progress.getStudentsRescored());
+        assertEquals(1, progress.getStudentsUnchanged());
+        assertEquals(1, progress.getStudentsFailed());
+        assertEquals(2, progress.getBatchesCommitted());
+        assertEquals("Roll number 103: Name is required", progress.getErrors().get(0));
+        verify(reportCardService, times(1)).writeRescoredBatch(anyList());
+
+        ArgumentCaptor<RescoreCheckpoint> checkpoints = ArgumentCaptor.forClass(RescoreCheckpoint.class);
+        verify(checkpointRepository, times(3)).save(checkpoints.capture());
+        assertEquals("b", checkpoints.getAllValues().get(0).getLastId());
+        assertEquals("c", checkpoints.getAllValues().get(1).getLastId());
+        assertTrue(checkpoints.getAllValues().get(2).isCompleted());
+        assertEquals(1, scoreChangeBus.lastSequence());
+    }
+
+    @Test
+    void rescore_ShouldResumeAfterCheckpointedId_AndCountConflicts() {
+        RescoreCheckpoint checkpoint = new RescoreCheckpoint();
+        checkpoint.setJobId("job-2");
+        checkpoint.setLastId("b");
+        checkpoint.setStudentsScanned(2);
+        Student next = student("c", 103);
+        when(checkpointRepository.findById("job-2")).thenReturn(Optional.of(checkpoint));
+        when(studentRepository.streamAfterId("b")).thenReturn(Stream.of(next));
+        when(reportCardService.rescoreStudent(next)).thenReturn(true);
+        when(reportCardService.writeRescoredBatch(List.of(next))).thenReturn(0L);
+
+        RescoreProgress progress = rescoreService.rescore("job-2");
+
+        assertEquals(3, progress.getStudentsScanned());
+        assertEquals(0, progress.getStudentsRescored());
+        assertEquals(1, progress.getConflicts());
+        assertEquals("c", progress.getLastId());
+        assertEquals(0, scoreChangeBus.lastSequence());
+    }
+
+    @Test
+    void rescore_ShouldReturnStoredProgress_WhenAlreadyCompleted() {
+        RescoreCheckpoint checkpoint = new RescoreCheckpoint();
+        checkpoint.setJobId("job-3");
+        checkpoint.setCompleted(true);
+        when(checkpointRepository.findById("job-3")).thenReturn(Optional.of(checkpoint));
+
+        assertEquals("COMPLETED", rescoreService.rescore("job-3").getState());
+        verify(studentRepository, never()).streamAfterId(any());
+    }
+
+    private static Student student(String id, int rollNumber) {
+        Student student = new Student();
+        student.setId(id);
+        student.setRollNumber(rollNumber);
+        return student;
+    }
+}
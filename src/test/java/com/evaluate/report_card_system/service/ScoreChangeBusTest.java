@@ -0,0 +1,77 @@
+package com.evaluate.report_card_system.service;
+
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.response.ScoreChangeEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoreChangeBusTest {
+
+    private final ScoreChangeBus bus = new ScoreChangeBus(3);
+
+    @Test
+    void publish_ShouldDeliverOnlyMatchingEvents_InOrder() throws InterruptedException {
+        try (ScoreChangeBus.Subscription cohort = bus.subscribe(null, "2025");
+             ScoreChangeBus.Subscription all = bus.subscribe(null, null)) {
+            bus.publish(ScoreChangeEvent.generated(student(101, "2025")));
+            bus.publish(ScoreChangeEvent.generated(student(102, "2026")));
+
+            assertEquals(101, cohort.poll(Duration.ZERO).getRollNumber());
+            assertNull(cohort.poll(Duration.ZERO));
+            assertEquals(1, all.poll(Duration.ZERO).getSequence());
+            assertEquals(2, all.poll(Duration.ZERO).getSequence());
+        }
+        assertEquals(0, bus.subscriberCount());
+    }
+
+    @Test
+    void publish_ShouldReplaceBacklogWithResync_WhenSubscriberFallsBehind() throws InterruptedException {
+        try (ScoreChangeBus.Subscription slow = bus.subscribe(101, null)) {
+            for (int i = 0; i < 4; i++) {
+                bus.publish(ScoreChangeEvent.generated(student(101, "2025")));
+            }
+
+            ScoreChangeEvent resync = slow.poll(Duration.ZERO);
+            assertEquals(ScoreChangeEvent.Type.RESYNC, resync.getType());
+            assertEquals(3, resync.getSequence());
+            assertEquals(4, slow.poll(Duration.ZERO).getSequence());
+            assertNull(slow.poll(Duration.ZERO));
+            assertEquals(3, slow.getDropped());
+        }
+    }
+
+    @Test
+    void publishResync_ShouldReachFilteredSubscribers() throws InterruptedException {
+        try (ScoreChangeBus.Subscription subscription = bus.subscribe(101, null)) {
+            bus.publishResync("Scores rescored in bulk");
+
+            assertEquals(ScoreChangeEvent.Type.RESYNC, subscription.poll(Duration.ofMillis(10)).getType());
+        }
+    }
+
+    @Test
+    void lastSequence_ShouldOnlyCountEventsTheFilterMatches() {
+        bus.publish(ScoreChangeEvent.generated(student(101, "2025")));
+        bus.publish(ScoreChangeEvent.generated(student(102, "2026")));
+
+        assertEquals(1, bus.lastSequence(101, null));
+        assertEquals(2, bus.lastSequence(null, "2026"));
+        assertEquals(0, bus.lastSequence(103, null));
+        assertEquals(2, bus.lastSequence(null, null));
+
+        bus.publishResync("Cohort 2019 archived");
+
+        assertEquals(3, bus.lastSequence(101, null));
+    }
+
+    private static Student student(int rollNumber, String cohort) {
+        Student student = new Student();
+        student.setRollNumber(rollNumber);
+        student.setCohort(cohort);
+        student.setFinalScore(80.0);
+        return student;
+    }
+}
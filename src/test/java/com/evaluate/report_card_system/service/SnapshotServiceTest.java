@@ -0,0 +1,110 @@
+package com.evaluate.report_card_system.service;
+
+import com.evaluate.report_card_system.model.Exam;
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.model.Term;
+import com.evaluate.report_card_system.repository.StudentRepository;
+import com.evaluate.report_card_system.response.SnapshotSummary;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SnapshotServiceTest {
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    @TempDir
+    Path directory;
+
+    private RankIndex rankIndex;
+
+    private SnapshotService snapshotService;
+
+    private final ScoreChangeBus scoreChangeBus = new ScoreChangeBus(16);
+
+    @BeforeEach
+    void setUp() {
+        rankIndex = new RankIndex(studentRepository, false);
+        snapshotService = new SnapshotService(studentRepository, new StudentCache(100, Duration.ofMinutes(5)), rankIndex,
+                new AnalyticsService(studentRepository), scoreChangeBus, new ObjectMapper(), directory, 4);
+    }
+
+    @Test
+    void export_ShouldReportSnapshotSmallerThanJson() throws Exception {
+        when(studentRepository.streamAllByOrderByRollNumber()).thenReturn(students(10).stream());
+
+        SnapshotSummary summary = snapshotService.export("nightly");
+
+        assertEquals(10, summary.getStudents());
+        assertTrue(summary.getSnapshotBytes() > 0);
+        assertTrue(summary.getJsonBytes() > summary.getSnapshotBytes());
+        assertEquals((double) summary.getJsonBytes() / summary.getSnapshotBytes(), summary.getCompressionRatio(), 1e-9);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void load_ShouldInsertEveryGroupAndReportFailures() throws Exception {
+        List<Student> students = students(10);
+        when(studentRepository.streamAllByOrderByRollNumber()).thenReturn(students.stream());
+        snapshotService.export("nightly");
+        when(studentRepository.insertUnordered(anyList())).thenReturn(Map.of(), Map.of(), Map.of(0, "Roll number already exists"));
+
+        SnapshotSummary summary = snapshotService.load("nightly");
+
+        ArgumentCaptor<List<Student>> groups = ArgumentCaptor.forClass(List.class);
+        verify(studentRepository, times(3)).insertUnordered(groups.capture());
+        List<Student> inserted = new ArrayList<>();
+        groups.getAllValues().forEach(inserted::addAll);
+        assertEquals(students, inserted);
+        assertEquals(9, summary.getStudents());
+        assertEquals(1, summary.getFailed());
+        assertEquals(List.of("Roll number 9: Roll number already exists"), summary.getErrors());
+        assertEquals(9, rankIndex.size());
+        assertEquals(1, scoreChangeBus.lastSequence(null, "2025"));
+    }
+
+    @Test
+    void load_ShouldRejectMissingOrUnsafeName() {
+        assertThrows(IllegalArgumentException.class, () -> snapshotService.load("missing"));
+        assertThrows(IllegalArgumentException.class, () -> snapshotService.export("../nightly"));
+        verifyNoInteractions(studentRepository);
+    }
+
+    private static List<Student> students(int count) {
+        return IntStream.rangeClosed(1, count).mapToObj(rollNumber -> {
+            Student student = new Student();
+            student.setId("id-" + rollNumber);
+            student.setVersion(0L);
+            student.setRollNumber(rollNumber);
+            student.setName("Student " + rollNumber);
+            student.setCohort("2025");
+            Exam exam = new Exam();
+            exam.setExamName("Exam 1");
+            exam.setSubjectMarks(Map.of("Physics", 60.0 + rollNumber, "Chemistry", 70.0, "Biology", 55.5));
+            Term term = new Term();
+            term.setTermName("Term 1");
+            term.setExams(List.of(exam));
+            term.setTermScore(62.0);
+            student.setTerms(List.of(term));
+            student.setFinalScore(62.0);
+            return student;
+        }).toList();
+    }
+}
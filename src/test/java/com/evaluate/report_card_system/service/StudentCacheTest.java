@@ -0,0 +1,85 @@
+package com.evaluate.report_card_system.service;
+
+import com.evaluate.report_card_system.model.Student;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StudentCacheTest {
+
+    @Test
+    void get_ShouldShareOneLoad_WhenConcurrentMissesForSameRollNumber() throws Exception {
+        StudentCache cache = new StudentCache(100, Duration.ofMinutes(5));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Student student = new Student();
+        student.setRollNumber(101);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Optional<Student>>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> cache.get(101, () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return Optional.of(student);
+                })));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<Optional<Student>> result : results) {
+                assertSame(student, result.get(5, TimeUnit.SECONDS).orElseThrow());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_ShouldNotCacheFailedLoad() {
+        StudentCache cache = new StudentCache(100, Duration.ofMinutes(5));
+
+        assertThrows(IllegalStateException.class, () -> cache.get(101, () -> {
+            throw new IllegalStateException("Mongo unavailable");
+        }));
+        assertTrue(cache.get(101, Optional::empty).isEmpty());
+    }
+
+    @Test
+    void invalidate_ShouldForceReload() {
+        StudentCache cache = new StudentCache(100, Duration.ofMinutes(5));
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(101, () -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+        cache.invalidate(101);
+        cache.get(101, () -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+
+        assertEquals(2, loads.get());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.evaluate.report_card_system.service;
+
+import com.evaluate.report_card_system.model.Exam;
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.model.Term;
+import com.evaluate.report_card_system.repository.StudentRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+/**
+ * Guards the rule that no monitor is held across Mongo I/O: each long-running service path is run on a
+ * virtual thread against a repository that blocks like a Mongo round trip, while JFR records
+ * {@code jdk.VirtualThreadPinned}. A {@code synchronized} method or block around the repository call makes
+ * the blocked virtual thread pin its carrier and fails the test.
+ */
+@ExtendWith(MockitoExtension.class)
+class VirtualThreadPinningTest {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final Duration ROUND_TRIP = Duration.ofMillis(5);
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    @TempDir
+    Path directory;
+
+    private RankIndex rankIndex;
+    private ArchiveService archiveService;
+    private SnapshotService snapshotService;
+
+    @BeforeEach
+    void setUp() {
+        rankIndex = new RankIndex(studentRepository, false);
+        ScoreChangeBus scoreChangeBus = new ScoreChangeBus(16);
+        StudentCache studentCache = new StudentCache(100, Duration.ofMinutes(5));
+        AnalyticsService analyticsService = new AnalyticsService(studentRepository);
+        archiveService = new ArchiveService(studentRepository, studentCache, rankIndex, analyticsService,
+                scoreChangeBus, new ObjectMapper(), directory.resolve("archive"), 2);
+        snapshotService = new SnapshotService(studentRepository, studentCache, rankIndex, analyticsService,
+                scoreChangeBus, new ObjectMapper(), directory.resolve("snapshots"), 2);
+    }
+
+    @Test
+    void guard_ShouldReportMonitorHeldAcrossBlockingCall() throws Exception {
+        Object monitor = new Object();
+
+        List<RecordedEvent> pinned = recordPinning(() -> {
+            synchronized (monitor) {
+                Thread.sleep(ROUND_TRIP.toMillis());
+            }
+        });
+
+        assertFalse(pinned.isEmpty(), "The pinning guard did not see a known pinned wait");
+    }
+
+    @Test
+    void rankIndexRebuild_ShouldNotPinCarrier() throws Exception {
+        when(studentRepository.streamAllScores()).thenAnswer(blocking(() -> students(4).stream()));
+
+        assertNotPinned(rankIndex::rebuild);
+        assertEquals(4, rankIndex.size());
+    }
+
+    @Test
+    void archiveAndRestore_ShouldNotPinCarrier() throws Exception {
+        when(studentRepository.streamByCohortOrderByRollNumber("2025")).thenAnswer(blocking(() -> students(4).stream()));
+        when(studentRepository.deleteUnchanged(anyList())).thenAnswer(blocking(Set::of));
+        when(studentRepository.insertUnordered(anyList())).thenAnswer(blocking(Map::of));
+
+        assertNotPinned(() -> {
+            archiveService.archiveCohort("2025");
+            archiveService.restoreCohort("2025");
+        });
+    }
+
+    @Test
+    void snapshotExportAndLoad_ShouldNotPinCarrier() throws Exception {
+        when(studentRepository.streamAllByOrderByRollNumber()).thenAnswer(blocking(() -> students(4).stream()));
+        when(studentRepository.insertUnordered(anyList())).thenAnswer(blocking(Map::of));
+
+        assertNotPinned(() -> {
+            snapshotService.export("nightly");
+            snapshotService.load("nightly");
+        });
+    }
+
+    private void assertNotPinned(Task task) throws Exception {
+        List<RecordedEvent> pinned = recordPinning(task);
+        assertTrue(pinned.isEmpty(), () -> "Virtual thread pinned at:\n" + pinned.stream()
+                .map(event -> event.getStackTrace() == null ? "?" : event.getStackTrace().getFrames().stream()
+                        .limit(8)
+                        .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName())
+                        .collect(Collectors.joining("\n    ", "    ", "")))
+                .collect(Collectors.joining("\n")));
+    }
+
+    /**
+     * Runs {@code task} on a virtual thread while recording every pinned wait, however short.
+     */
+    private List<RecordedEvent> recordPinning(Task task) throws Exception {
+        Path file = directory.resolve("pinning.jfr");
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        try (Recording recording = new Recording()) {
+            recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+            Thread.ofVirtual().start(() -> {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    failure.set(e);
+                }
+            }).join();
+            recording.stop();
+            recording.dump(file);
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(PINNED_EVENT))
+                .toList();
+    }
+
+    /**
+     * Answers after a short park, as a Mongo round trip would.
+     */
+    private static <T> Answer<T> blocking(Supplier<T> result) {
+        return invocation -> {
+            Thread.sleep(ROUND_TRIP.toMillis());
+            return result.get();
+        };
+    }
+
+    private static List<Student> students(int count) {
+        return IntStream.rangeClosed(1, count).mapToObj(rollNumber -> {
+            Student student = new Student();
+            student.setId("id-" + rollNumber);
+            student.setVersion(0L);
+            student.setRollNumber(rollNumber);
+            student.setName("Student " + rollNumber);
+            student.setCohort("2025");
+            Exam exam = new Exam();
+            exam.setExamName("Exam 1");
+            exam.setSubjectMarks(Map.of("Physics", 60.0 + rollNumber, "Chemistry", 70.0, "Biology", 55.5));
+            Term term = new Term();
+            term.setTermName("Term 1");
+            term.setExams(List.of(exam));
+            term.setTermScore(62.0);
+            student.setTerms(List.of(term));
+            student.setFinalScore(62.0);
+            return student;
+        }).toList();
+    }
+
+    @FunctionalInterface
+    private interface Task {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,136 @@
+package com.evaluate.report_card_system.snapshot;
+
+import com.evaluate.report_card_system.model.Exam;
+import com.evaluate.report_card_system.model.Student;
+import com.evaluate.report_card_system.model.Term;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StudentSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void read_ShouldReturnWrittenStudentsInGroups() throws Exception {
+        Path file = directory.resolve("all" + StudentSnapshot.SUFFIX);
+        List<Student> written = new ArrayList<>();
+        try (StudentSnapshot.Writer writer = StudentSnapshot.create(file, 3)) {
+            for (int rollNumber = 1; rollNumber <= 7; rollNumber++) {
+                Student student = student(rollNumber);
+                written.add(student);
+                writer.write(student);
+            }
+            assertTrue(writer.finish() > 0);
+        }
+
+        List<Integer> groupSizes = new ArrayList<>();
+        List<Student> read = new ArrayList<>();
+        long count = StudentSnapshot.read(file, group -> {
+            groupSizes.add(group.size());
+            read.addAll(group);
+        });
+
+        assertEquals(7, count);
+        assertEquals(List.of(3, 3, 1), groupSizes);
+        assertEquals(written, read);
+        assertEquals(Map.of("Physics", 85.5, "Chemistry", 70.0), new HashMap<>(read.get(0).getTerms().get(0).getExams().get(0).getSubjectMarks()));
+    }
+
+    @Test
+    void read_ShouldPreserveNulls() throws Exception {
+        Student sparse = new Student();
+        sparse.setRollNumber(9);
+        Student partial = student(10);
+        partial.getTerms().get(0).getExams().get(0).setWeightedScores(null);
+        Map<String, Double> withNullMark = new LinkedHashMap<>();
+        withNullMark.put("Physics", null);
+        partial.getTerms().get(0).getExams().get(1).setSubjectMarks(withNullMark);
+        partial.getTerms().get(1).setExams(null);
+        partial.getTerms().add(null);
+        Path file = directory.resolve("sparse" + StudentSnapshot.SUFFIX);
+        try (StudentSnapshot.Writer writer = StudentSnapshot.create(file, 10)) {
+            writer.write(sparse);
+            writer.write(partial);
+            writer.finish();
+        }
+
+        List<Student> read = new ArrayList<>();
+        StudentSnapshot.read(file, read::addAll);
+
+        assertEquals(List.of(sparse, partial), read);
+        assertNull(read.get(0).getTerms());
+        assertTrue(read.get(1).getTerms().get(0).getExams().get(1).getSubjectMarks().containsKey("Physics"));
+        assertNull(read.get(1).getTerms().get(0).getExams().get(1).getSubjectMarks().get("Physics"));
+    }
+
+    @Test
+    void create_ShouldLeaveNoFile_WhenNotFinished() throws Exception {
+        Path file = directory.resolve("unfinished" + StudentSnapshot.SUFFIX);
+        try (StudentSnapshot.Writer writer = StudentSnapshot.create(file, 2)) {
+            writer.write(student(1));
+            writer.write(student(2));
+        }
+
+        try (var files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void read_ShouldRejectTruncatedFile() throws Exception {
+        Path file = directory.resolve("broken" + StudentSnapshot.SUFFIX);
+        try (StudentSnapshot.Writer writer = StudentSnapshot.create(file, 2)) {
+            writer.write(student(1));
+            writer.finish();
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 20));
+
+        assertThrows(IOException.class, () -> StudentSnapshot.read(file, group -> { }));
+    }
+
+    private static Student student(int rollNumber) {
+        Student student = new Student();
+        student.setId("id-" + rollNumber);
+        student.setVersion((long) rollNumber);
+        student.setRollNumber(rollNumber);
+        student.setName("Stüdent " + rollNumber);
+        student.setCurriculum("default");
+        student.setCohort("2025");
+        student.setFinalScore(rollNumber * 1.5);
+        List<Term> terms = new ArrayList<>();
+        for (int t = 1; t <= 2; t++) {
+            Term term = new Term();
+            term.setTermName("Term " + t);
+            term.setTermScore(70 + t);
+            List<Exam> exams = new ArrayList<>();
+            for (int e = 1; e <= 2; e++) {
+                Exam exam = new Exam();
+                exam.setExamName("Exam " + e);
+                Map<String, Double> marks = new LinkedHashMap<>();
+                marks.put("Physics", 85.5);
+                marks.put("Chemistry", 70.0);
+                exam.setSubjectMarks(marks);
+                exam.setWeightedScores(Map.of("examScore", 77.75));
+                exams.add(exam);
+            }
+            term.setExams(exams);
+            terms.add(term);
+        }
+        student.setTerms(terms);
+        return student;
+    }
+}